@@ -0,0 +1,55 @@
+package com.hansecom.monitoringservice.exception;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of creating a {@link StandardException}, with its problem detail and stack trace, {@code
+ * stackDepth} frames below the caller as when thrown from a controller.
+ *
+ * <ul>
+ *   <li>{@code invalidDateRange}: constant message
+ *   <li>{@code jobNameAlreadyExists}: formatted message and additional property
+ *   <li>{@code internalServerError}: wrapping a cause, with its own stack trace
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StandardExceptionBenchmark {
+
+  @Param({"invalidDateRange", "jobNameAlreadyExists", "internalServerError"})
+  private String factory;
+
+  @Param({"10", "100"})
+  private int stackDepth;
+
+  @Benchmark
+  public StandardException create() {
+    return create(stackDepth);
+  }
+
+  private StandardException create(int depth) {
+
+    if (depth > 0) {
+      return create(depth - 1);
+    }
+    return switch (factory) {
+      case "invalidDateRange" -> StandardException.invalidDateRange();
+      case "jobNameAlreadyExists" -> StandardException.jobNameAlreadyExists("benchmark");
+      default -> StandardException.internalServerError(new IllegalStateException("benchmark"));
+    };
+  }
+}
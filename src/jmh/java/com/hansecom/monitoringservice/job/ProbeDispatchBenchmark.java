@@ -0,0 +1,174 @@
+package com.hansecom.monitoringservice.job;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.hansecom.monitoringservice.job.probe.ProbeBodyReader;
+import com.hansecom.monitoringservice.job.probe.ProbeDispatcher;
+import com.hansecom.monitoringservice.job.probe.ProbeEngine;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRollupRepository;
+import com.hansecom.monitoringservice.persistence.writer.JobExecutionBatchWriter;
+import com.hansecom.monitoringservice.service.feed.JobExecutionFeed;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionDtoMapperImpl;
+import com.hansecom.monitoringservice.service.status.JobStatusRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.Scheduler;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Probes dispatched by {@link UrlMonitorJob} against a local stub server, from the job execution
+ * until the result is recorded, in each {@link ProbeDispatcher.ExecutionMode}.
+ *
+ * <p>Each invocation executes the job {@code probes} times, as Quartz would from a single worker
+ * thread, and waits for all the results to be published to the {@link JobExecutionFeed}. The score
+ * is the average time per probe. The stub server answers every request with {@code responseBytes}
+ * bytes, the results are not saved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProbeDispatchBenchmark {
+
+  static final int PROBES = 100;
+
+  @Param({"BLOCKING", "ASYNC"})
+  private ProbeDispatcher.ExecutionMode executionMode;
+
+  @Param({"1024"})
+  private int responseBytes;
+
+  private DisposableServer server;
+
+  private ProbeEngine probeEngine;
+
+  private ProbeDispatcher probeDispatcher;
+
+  private JobExecutionBatchWriter jobExecutionBatchWriter;
+
+  private JobExecutionFeed jobExecutionFeed;
+
+  private Disposable subscription;
+
+  private final Semaphore recorded = new Semaphore(0);
+
+  private UrlMonitorJob urlMonitorJob;
+
+  private JobExecutionContext jobExecutionContext;
+
+  @Setup(Level.Trial)
+  public void setUp() throws NoSuchAlgorithmException {
+
+    byte[] body = new byte[responseBytes];
+    Arrays.fill(body, (byte) 'a');
+    server =
+        HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .handle((request, response) -> response.sendByteArray(Mono.just(body)))
+            .bindNow();
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    probeEngine =
+        new ProbeEngine(
+            50,
+            1000,
+            Duration.ofSeconds(45),
+            Duration.ofSeconds(30),
+            Duration.ofMinutes(5),
+            Duration.ofSeconds(30),
+            false);
+    probeDispatcher =
+        new ProbeDispatcher(meterRegistry, executionMode, Duration.ofSeconds(30), 1000, 10_000, 20);
+
+    // stub only mocks, so the invocations are not kept
+    jobExecutionBatchWriter =
+        new JobExecutionBatchWriter(
+            mock(JobExecutionRepository.class, withSettings().stubOnly()),
+            mock(JobExecutionRollupRepository.class, withSettings().stubOnly()),
+            mock(TransactionTemplate.class, withSettings().stubOnly()),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.JPA,
+            500,
+            Duration.ofSeconds(1),
+            50_000);
+    jobExecutionFeed = new JobExecutionFeed(new JobExecutionDtoMapperImpl(), meterRegistry, 256);
+    subscription =
+        jobExecutionFeed
+            .subscribe(Optional.empty(), Optional.empty())
+            .subscribe(jobExecutionDto -> recorded.release());
+
+    urlMonitorJob =
+        new UrlMonitorJob(
+            jobExecutionBatchWriter,
+            jobExecutionFeed,
+            new JobStatusRegistry(
+                mock(JobExecutionRepository.class, withSettings().stubOnly()),
+                mock(Scheduler.class, withSettings().stubOnly()),
+                meterRegistry,
+                20,
+                1000),
+            probeEngine,
+            new ProbeBodyReader(ProbeBodyReader.BodyMode.DISCARD, ""),
+            probeDispatcher);
+
+    JobDetail jobDetail =
+        JobBuilder.newJob(UrlMonitorJob.class)
+            .withIdentity("benchmark")
+            .usingJobData("url", "http://127.0.0.1:" + server.port() + "/")
+            .build();
+    jobExecutionContext = mock(JobExecutionContext.class, withSettings().stubOnly());
+    when(jobExecutionContext.getJobDetail()).thenReturn(jobDetail);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    subscription.dispose();
+    jobExecutionFeed.destroy();
+    jobExecutionBatchWriter.destroy();
+    probeDispatcher.destroy();
+    probeEngine.destroy();
+    server.disposeNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PROBES)
+  public void dispatch() throws JobExecutionException, InterruptedException {
+    for (int i = 0; i < PROBES; i++) {
+      urlMonitorJob.execute(jobExecutionContext);
+    }
+    recorded.acquire(PROBES);
+  }
+}
@@ -0,0 +1,142 @@
+package com.hansecom.monitoringservice.job;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.simpl.SimpleThreadPool;
+
+/**
+ * Compares the scheduler lag of the default Quartz {@link SimpleThreadPool} against the {@link
+ * VirtualThreadPool}.
+ *
+ * <p>Each invocation schedules {@code jobs} jobs to fire at the same instant, each one blocking for
+ * {@code blockingMillis} to simulate a probe, and waits for all of them to complete. The score is
+ * the time to drain all the jobs, the fire lag ({@code fireTime - scheduledFireTime}) percentiles
+ * of each iteration are printed to the output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class QuartzThreadPoolBenchmark {
+
+  private static volatile CountDownLatch completed;
+
+  private static volatile long[] lags;
+
+  private static final AtomicInteger LAG_INDEX = new AtomicInteger();
+
+  @Param({"simple", "virtual"})
+  private String threadPool;
+
+  @Param({"10000"})
+  private int jobs;
+
+  @Param({"100"})
+  private long blockingMillis;
+
+  private Scheduler scheduler;
+
+  @Setup(Level.Invocation)
+  public void setUp() throws SchedulerException {
+
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceName", "benchmark-" + threadPool);
+    properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+    properties.setProperty("org.quartz.jobStore.misfireThreshold", "600000");
+    properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionMaxCount", "100");
+
+    if ("virtual".equals(threadPool)) {
+      properties.setProperty("org.quartz.threadPool.class", VirtualThreadPool.class.getName());
+      properties.setProperty("org.quartz.threadPool.maxConcurrency", Integer.toString(jobs));
+    } else {
+      properties.setProperty("org.quartz.threadPool.class", SimpleThreadPool.class.getName());
+      properties.setProperty("org.quartz.threadPool.threadCount", "10");
+    }
+
+    scheduler = new StdSchedulerFactory(properties).getScheduler();
+    scheduler.getContext().put("blockingMillis", blockingMillis);
+
+    completed = new CountDownLatch(jobs);
+    lags = new long[jobs];
+    LAG_INDEX.set(0);
+  }
+
+  @Benchmark
+  public void fireConcurrentJobs() throws SchedulerException, InterruptedException {
+
+    Date fireAt = new Date(System.currentTimeMillis() + 500);
+
+    for (int i = 0; i < jobs; i++) {
+      scheduler.scheduleJob(
+          JobBuilder.newJob(BlockingJob.class).withIdentity("job-" + i).build(),
+          TriggerBuilder.newTrigger().withIdentity("trigger-" + i).startAt(fireAt).build());
+    }
+
+    scheduler.start();
+    completed.await();
+  }
+
+  @TearDown(Level.Invocation)
+  public void tearDown() throws SchedulerException {
+
+    scheduler.shutdown(true);
+
+    long[] sorted = Arrays.copyOf(lags, LAG_INDEX.get());
+    Arrays.sort(sorted);
+
+    System.out.printf(
+        "%n%s pool fire lag (ms): p50=%d p99=%d max=%d%n",
+        threadPool, percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    return sorted.length == 0 ? 0 : sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+  }
+
+  /** Job that blocks the thread for a while, like a probe waiting for the response. */
+  public static class BlockingJob implements Job {
+
+    @Override
+    public void execute(JobExecutionContext context) {
+
+      long lag = context.getFireTime().getTime() - context.getScheduledFireTime().getTime();
+      lags[LAG_INDEX.getAndIncrement()] = lag;
+
+      try {
+        Thread.sleep((long) context.getScheduler().getContext().get("blockingMillis"));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (SchedulerException e) {
+        throw new IllegalStateException(e);
+      } finally {
+        completed.countDown();
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.hansecom.monitoringservice.persistence;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Compares the job execution insert throughput of the old identity ids against the pooled sequence
+ * ids, on a PostgreSQL started with Testcontainers and migrated with the application migrations.
+ *
+ * <p>Each operation inserts a batch of {@code batchSize} job executions in a single transaction,
+ * like the job execution writer does, reproducing the statements issued by Hibernate:
+ *
+ * <ul>
+ *   <li>{@code identity}: one insert returning the generated id per row, Hibernate can not batch
+ *   <li>{@code sequence}: one {@code nextval} per {@link JobExecutionEntity#ID_ALLOCATION_SIZE}
+ *       rows and a single JDBC batch, rewritten into multi-row inserts by the driver
+ * </ul>
+ *
+ * <p>The score is in inserted rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@OperationsPerInvocation(JobExecutionInsertBenchmark.BATCH_SIZE)
+public class JobExecutionInsertBenchmark {
+
+  static final int BATCH_SIZE = 500;
+
+  private static final String COLUMNS =
+      "external_id, job_name, url, status, response_time, created_date, last_modified_date";
+
+  @Param({"identity", "sequence"})
+  private String idGeneration;
+
+  private PostgreSQLContainer<?> postgres;
+
+  private Connection connection;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+
+    postgres = new PostgreSQLContainer<>("postgres:16.4");
+    postgres.start();
+
+    Flyway.configure()
+        .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+        .schemas("monitoring_service")
+        .load()
+        .migrate();
+
+    String url = postgres.getJdbcUrl() + "&currentSchema=monitoring_service";
+    if ("sequence".equals(idGeneration)) {
+      url += "&reWriteBatchedInserts=true";
+    }
+
+    connection = DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword());
+    connection.setAutoCommit(false);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public void insertBatch() throws SQLException {
+    if ("sequence".equals(idGeneration)) {
+      insertWithSequence();
+    } else {
+      insertWithIdentity();
+    }
+    connection.commit();
+  }
+
+  private void insertWithIdentity() throws SQLException {
+    try (PreparedStatement insert =
+        connection.prepareStatement(
+            "insert into job_execution (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?)",
+            Statement.RETURN_GENERATED_KEYS)) {
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        bind(insert, 1);
+        insert.executeUpdate();
+        try (ResultSet generatedKeys = insert.getGeneratedKeys()) {
+          generatedKeys.next();
+        }
+      }
+    }
+  }
+
+  private void insertWithSequence() throws SQLException {
+    try (PreparedStatement nextval =
+            connection.prepareStatement("select nextval('job_execution_id_seq')");
+        PreparedStatement insert =
+            connection.prepareStatement(
+                "insert into job_execution (id, "
+                    + COLUMNS
+                    + ") values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+      long id = 0;
+      long hi = 0;
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        if (id >= hi) {
+          try (ResultSet resultSet = nextval.executeQuery()) {
+            resultSet.next();
+            hi = resultSet.getLong(1);
+            id = hi - JobExecutionEntity.ID_ALLOCATION_SIZE;
+          }
+        }
+        insert.setLong(1, ++id);
+        bind(insert, 2);
+        insert.addBatch();
+      }
+      insert.executeBatch();
+    }
+  }
+
+  private static void bind(PreparedStatement insert, int index) throws SQLException {
+    Timestamp now = Timestamp.from(Instant.now());
+    insert.setObject(index, UUID.randomUUID());
+    insert.setString(index + 1, "benchmark");
+    insert.setString(index + 2, "https://www.google.com");
+    insert.setString(index + 3, "SUCCEEDED");
+    insert.setInt(index + 4, 80);
+    insert.setTimestamp(index + 5, now);
+    insert.setTimestamp(index + 6, now);
+  }
+}
@@ -0,0 +1,151 @@
+package com.hansecom.monitoringservice.persistence;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.persistence.repository.impl.JobExecutionRepositoryCustomImpl;
+import com.hansecom.monitoringservice.rest.inbound.controller.JobExecutionController;
+import com.hansecom.monitoringservice.rest.inbound.mapper.JobExecutionMapperImpl;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecutionResponseList;
+import com.hansecom.monitoringservice.service.feed.JobExecutionFeed;
+import com.hansecom.monitoringservice.service.impl.JobExecutionServiceImpl;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionDtoMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Measures the job execution listing, on a PostgreSQL started with Testcontainers and migrated with
+ * the application migrations.
+ *
+ * <p>Each operation lists a page of {@code pageSize} job executions without counting the total,
+ * from {@link JobExecutionController} down to the read-only projection of the repository and back
+ * through the generated mappers.
+ *
+ * <p>The score is the average time per page, run with {@code -prof gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JobExecutionListingBenchmark {
+
+  private static final int ROWS = 10_000;
+
+  @Param({"100", "1000"})
+  private int pageSize;
+
+  private PostgreSQLContainer<?> postgres;
+
+  private SessionFactory sessionFactory;
+
+  private EntityManager entityManager;
+
+  private JobExecutionController jobExecutionController;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+
+    postgres = new PostgreSQLContainer<>("postgres:16.4");
+    postgres.start();
+
+    Flyway.configure()
+        .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+        .schemas("monitoring_service")
+        .load()
+        .migrate();
+
+    String url = postgres.getJdbcUrl() + "&currentSchema=monitoring_service";
+    try (Connection connection =
+            DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword());
+        Statement statement = connection.createStatement()) {
+      statement.executeUpdate(
+          "insert into job_execution (external_id, job_name, url, status, response_time,"
+              + " created_date, last_modified_date, response_size, response_hash, ttfb_nanos,"
+              + " download_nanos, total_nanos)"
+              + " select gen_random_uuid(), 'benchmark', 'https://www.google.com', 'SUCCEEDED', 80,"
+              + " now() - i * interval '1 second', now(), 1024, md5(i::text), 70000000, 10000000,"
+              + " 80000000 from generate_series(1, "
+              + ROWS
+              + ") i");
+      statement.execute("analyze job_execution");
+    }
+
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(JobExecutionEntity.class)
+            .setProperty("hibernate.connection.url", url)
+            .setProperty("hibernate.connection.username", postgres.getUsername())
+            .setProperty("hibernate.connection.password", postgres.getPassword())
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .buildSessionFactory();
+    entityManager = sessionFactory.createEntityManager();
+
+    // the repository as assembled by Spring Data, without the application context
+    JobExecutionRepositoryCustomImpl jobExecutionRepositoryCustom =
+        new JobExecutionRepositoryCustomImpl(Optional::empty);
+    ReflectionTestUtils.setField(jobExecutionRepositoryCustom, "entityManager", entityManager);
+    JobExecutionRepository jobExecutionRepository =
+        new JpaRepositoryFactory(entityManager)
+            .getRepository(
+                JobExecutionRepository.class,
+                RepositoryComposition.RepositoryFragments.just(jobExecutionRepositoryCustom));
+
+    JobExecutionDtoMapperImpl jobExecutionDtoMapper = new JobExecutionDtoMapperImpl();
+    JobExecutionServiceImpl jobExecutionService =
+        new JobExecutionServiceImpl(
+            jobExecutionRepository,
+            jobExecutionDtoMapper,
+            new JobExecutionFeed(jobExecutionDtoMapper, new SimpleMeterRegistry(), 1));
+    ReflectionTestUtils.setField(jobExecutionService, "maxPageSize", pageSize);
+    jobExecutionController =
+        // the statistics are not benchmarked
+        new JobExecutionController(new JobExecutionMapperImpl(), jobExecutionService, null);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    entityManager.close();
+    sessionFactory.close();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public JobExecutionResponseList listPage() {
+    try {
+      return jobExecutionController
+          .getJobsExecutions(null, null, null, null, null, 0, pageSize, "DESC", null, null, "NONE")
+          .getBody();
+    } finally {
+      // every request gets a new persistence context
+      entityManager.clear();
+    }
+  }
+}
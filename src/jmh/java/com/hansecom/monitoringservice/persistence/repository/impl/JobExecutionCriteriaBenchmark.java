@@ -0,0 +1,108 @@
+package com.hansecom.monitoringservice.persistence.repository.impl;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCursor;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Cost of building the criteria query of the job execution listing, from the predicates until the
+ * query interpreted by Hibernate, without executing it.
+ *
+ * <ul>
+ *   <li>{@code none}: no filters, only the page and the sort
+ *   <li>{@code all}: every filter of {@link JobExecutionCriteriaParams}
+ *   <li>{@code seek}: every filter plus the keyset cursor
+ * </ul>
+ *
+ * <p>Hibernate is bootstrapped without a database, the query is built once per listing request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobExecutionCriteriaBenchmark {
+
+  @Param({"none", "all", "seek"})
+  private String filters;
+
+  private SessionFactory sessionFactory;
+
+  private EntityManager entityManager;
+
+  private JobExecutionRepositoryCustomImpl jobExecutionRepositoryCustom;
+
+  private JobExecutionCriteriaParams jobExecutionCriteriaParams;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    sessionFactory =
+        new Configuration()
+            .addAnnotatedClass(JobExecutionEntity.class)
+            .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+            .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .buildSessionFactory();
+    entityManager = sessionFactory.createEntityManager();
+
+    jobExecutionRepositoryCustom = new JobExecutionRepositoryCustomImpl(Optional::empty);
+    ReflectionTestUtils.setField(jobExecutionRepositoryCustom, "entityManager", entityManager);
+
+    jobExecutionCriteriaParams =
+        new JobExecutionCriteriaParams()
+            .setPageable(PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "createdDate")));
+    if (!"none".equals(filters)) {
+      jobExecutionCriteriaParams
+          .setJobName(Optional.of("benchmark"))
+          .setUrl(Optional.of("https://www.google.com"))
+          .setStatus(Optional.of(JobExecutionStatusEntity.SUCCEEDED))
+          .setFrom(Optional.of(Instant.parse("2024-01-01T00:00:00Z")))
+          .setTo(Optional.of(Instant.parse("2024-12-31T00:00:00Z")));
+    }
+    if ("seek".equals(filters)) {
+      jobExecutionCriteriaParams.setAfter(
+          Optional.of(
+              new JobExecutionCursor(
+                  Instant.parse("2024-06-30T00:00:00Z"), 1_000L, Sort.Direction.DESC)));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    entityManager.close();
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public TypedQuery<JobExecutionEntity> createQuery() {
+    return jobExecutionRepositoryCustom.createQuery(
+        jobExecutionCriteriaParams, JobExecutionEntity.class, (builder, root) -> root, 1);
+  }
+}
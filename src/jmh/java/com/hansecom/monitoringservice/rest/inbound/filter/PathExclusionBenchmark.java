@@ -0,0 +1,98 @@
+package com.hansecom.monitoringservice.rest.inbound.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Cost per request of deciding if a path is excluded from the request logging, with several threads
+ * deciding at once as under load.
+ *
+ * <ul>
+ *   <li>{@code ant-parallel}: the Ant patterns matched through a parallel stream, as before
+ *   <li>{@code compiled}: the compiled {@link PathPatternRules}
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PathExclusionBenchmark {
+
+  /** Paths within the application. */
+  private static final String[] PATHS = {
+    "/jobs-executions", "/jobs-executions/export", "/jobs", "/jobs/google", "/jobs/status"
+  };
+
+  /** Same paths, with the context path. */
+  private static final String[] REQUEST_URIS = {
+    "/monitoring-service/jobs-executions",
+    "/monitoring-service/jobs-executions/export",
+    "/monitoring-service/jobs",
+    "/monitoring-service/jobs/google",
+    "/monitoring-service/jobs/status"
+  };
+
+  @Param({"ant-parallel", "compiled"})
+  private String matcher;
+
+  private Set<String> antPatterns;
+
+  private AntPathMatcher antPathMatcher;
+
+  private PathPatternRules<Boolean> pathPatternRules;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    antPatterns = Set.of("/**/jobs-executions/export", "/**/jobs-executions/stream");
+    antPathMatcher = new AntPathMatcher();
+
+    Map<String, Boolean> rules = new LinkedHashMap<>();
+    rules.put("/jobs-executions/export", Boolean.TRUE);
+    rules.put("/jobs-executions/stream", Boolean.TRUE);
+    pathPatternRules = new PathPatternRules<>(rules, 10_000);
+  }
+
+  @Benchmark
+  public boolean isExcluded(PathState pathState) {
+
+    int index = pathState.next();
+    if ("compiled".equals(matcher)) {
+      return pathPatternRules.match(PATHS[index]).isPresent();
+    }
+    String requestUri = REQUEST_URIS[index];
+    return antPatterns.parallelStream()
+        .anyMatch(pattern -> antPathMatcher.match(pattern, requestUri));
+  }
+
+  /** Cycles through the paths, per thread. */
+  @State(Scope.Thread)
+  public static class PathState {
+
+    private int index;
+
+    int next() {
+      index = (index + 1) % PATHS.length;
+      return index;
+    }
+  }
+}
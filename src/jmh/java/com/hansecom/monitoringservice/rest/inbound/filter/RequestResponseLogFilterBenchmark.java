@@ -0,0 +1,163 @@
+package com.hansecom.monitoringservice.rest.inbound.filter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Overhead of {@link RequestResponseLogFilter} per request, writing a json response of {@code
+ * responseBytes}.
+ *
+ * <ul>
+ *   <li>{@code none}: the request without the filter, the baseline
+ *   <li>{@code sampled-out}: the path is not sampled
+ *   <li>{@code logged}: logged with the bodies, up to the default {@code max-payload-bytes}
+ * </ul>
+ *
+ * <p>The log events are prepared as the async appender does on the request thread, without writing
+ * them. Run with {@code -prof gc} to compare the allocations, which should not grow with the
+ * response size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestResponseLogFilterBenchmark {
+
+  @Param({"none", "sampled-out", "logged"})
+  private String mode;
+
+  @Param({"1024", "1048576"})
+  private int responseBytes;
+
+  private RequestResponseLogFilter requestResponseLogFilter;
+
+  private FilterChain filterChain;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    Logger rootLogger = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+    rootLogger.detachAndStopAllAppenders();
+    PreparingAppender preparingAppender = new PreparingAppender();
+    preparingAppender.setContext(loggerContext);
+    preparingAppender.start();
+    rootLogger.addAppender(preparingAppender);
+    loggerContext
+        .getLogger(RequestResponseLogFilter.class)
+        .setLevel(ch.qos.logback.classic.Level.INFO);
+
+    requestResponseLogFilter =
+        new RequestResponseLogFilter(
+            Set.of(),
+            1,
+            "sampled-out".equals(mode) ? List.of("/jobs-executions=0") : List.of(),
+            10_000,
+            4096);
+
+    byte[] body = new byte[responseBytes];
+    Arrays.fill(body, (byte) 'a');
+    body[0] = '"';
+    body[body.length - 1] = '"';
+    filterChain =
+        (request, response) -> {
+          response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+          response.getOutputStream().write(body);
+        };
+  }
+
+  @Benchmark
+  public HttpServletResponse doFilter() throws ServletException, IOException {
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/jobs-executions");
+    request.setQueryString("page=0&size=100");
+    request.addHeader("Accept", MediaType.APPLICATION_JSON_VALUE);
+    HttpServletResponse response = new DiscardingResponse();
+
+    if ("none".equals(mode)) {
+      filterChain.doFilter(request, response);
+    } else {
+      requestResponseLogFilter.doFilter(request, response, filterChain);
+    }
+    return response;
+  }
+
+  /** Prepares the events as {@link ch.qos.logback.classic.AsyncAppender} before queuing them. */
+  private static class PreparingAppender extends AppenderBase<ILoggingEvent> {
+
+    @Override
+    protected void append(ILoggingEvent event) {
+      event.prepareForDeferredProcessing();
+    }
+  }
+
+  /** Response discarding the body, so only the filter allocates for it. */
+  private static class DiscardingResponse extends HttpServletResponseWrapper {
+
+    private final ServletOutputStream outputStream =
+        new ServletOutputStream() {
+
+          @Override
+          public boolean isReady() {
+            return true;
+          }
+
+          @Override
+          public void setWriteListener(WriteListener writeListener) {
+            // always ready
+          }
+
+          @Override
+          public void write(int value) {
+            // discarded
+          }
+
+          @Override
+          public void write(byte[] bytes, int offset, int length) {
+            // discarded
+          }
+        };
+
+    DiscardingResponse() {
+      super(new MockHttpServletResponse());
+      setCharacterEncoding(StandardCharsets.UTF_8.name());
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+      return outputStream;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.hansecom.monitoringservice.rest.inbound.mapper;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecution;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionFilterDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import com.hansecom.monitoringservice.service.dto.PageRequestDto;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionDtoMapper;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionDtoMapperImpl;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the reflective ModelMapper against the mappers generated at compile time by MapStruct.
+ *
+ * <ul>
+ *   <li>{@code toJobExecution}: a listed job execution into the REST model, the score is per row
+ *   <li>{@code toJobExecutionCriteriaParams}: the listing filter into the query criteria, once per
+ *       request
+ * </ul>
+ *
+ * <p>Run with {@code -prof gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobExecutionMappingBenchmark {
+
+  static final int ROWS = 100;
+
+  @Param({"modelmapper", "generated"})
+  private String mapper;
+
+  private ModelMapper modelMapper;
+
+  private JobExecutionMapper jobExecutionMapper;
+
+  private JobExecutionDtoMapper jobExecutionDtoMapper;
+
+  private List<JobExecutionDto> jobExecutionDtoList;
+
+  private JobExecutionFilterDto jobExecutionFilterDto;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    modelMapper = new ModelMapper();
+    jobExecutionMapper = new JobExecutionMapperImpl();
+    jobExecutionDtoMapper = new JobExecutionDtoMapperImpl();
+
+    jobExecutionDtoList =
+        IntStream.range(0, ROWS)
+            .mapToObj(
+                i ->
+                    JobExecutionDto.builder()
+                        .externalId(UUID.randomUUID())
+                        .jobName("benchmark")
+                        .url("https://www.google.com")
+                        .status(JobExecutionStatus.SUCCEEDED)
+                        .responseTime(80L)
+                        .responseSize(1024L)
+                        .responseHash("hash" + i)
+                        .ttfbNanos(70_000_000L)
+                        .downloadNanos(10_000_000L)
+                        .totalNanos(80_000_000L)
+                        .createdDate(Instant.now())
+                        .build())
+            .toList();
+
+    jobExecutionFilterDto =
+        new JobExecutionFilterDto(
+            Optional.of("benchmark"),
+            Optional.empty(),
+            Optional.of(JobExecutionStatus.SUCCEEDED),
+            Optional.of(Instant.parse("2024-01-01T00:00:00Z")),
+            Optional.empty(),
+            Optional.of(new PageRequestDto(0, ROWS, PageRequestDto.SortDirection.DESC, null)),
+            Optional.empty(),
+            Optional.empty());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void toJobExecution(Blackhole blackhole) {
+    for (JobExecutionDto jobExecutionDto : jobExecutionDtoList) {
+      if ("generated".equals(mapper)) {
+        blackhole.consume(jobExecutionMapper.toJobExecution(jobExecutionDto));
+      } else {
+        blackhole.consume(modelMapper.map(jobExecutionDto, JobExecution.class));
+      }
+    }
+  }
+
+  @Benchmark
+  public JobExecutionCriteriaParams toJobExecutionCriteriaParams() {
+    if ("generated".equals(mapper)) {
+      return jobExecutionDtoMapper.toJobExecutionCriteriaParams(jobExecutionFilterDto);
+    }
+    return modelMapper.map(jobExecutionFilterDto, JobExecutionCriteriaParams.class);
+  }
+}
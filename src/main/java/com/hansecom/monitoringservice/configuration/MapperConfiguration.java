@@ -0,0 +1,16 @@
+package com.hansecom.monitoringservice.configuration;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Configuration shared by the mappers.
+ *
+ * <p>Mappers are generated at compile time by MapStruct as Spring beans, so mapping is plain field
+ * copies without reflection. Target properties not mapped fail the build.
+ */
+@MapperConfig(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MapperConfiguration {}
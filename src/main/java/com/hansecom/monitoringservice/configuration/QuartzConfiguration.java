@@ -1,7 +1,14 @@
 package com.hansecom.monitoringservice.configuration;
 
+import com.hansecom.monitoringservice.job.SchedulerMetricsListener;
+import com.hansecom.monitoringservice.job.VirtualThreadPool;
+import java.util.Properties;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
@@ -23,4 +30,45 @@ public class QuartzConfiguration {
     scheduler.start();
     return scheduler;
   }
+
+  /**
+   * Registers the {@link SchedulerMetricsListener} as a global trigger and job listener, so the
+   * fire lag, duration, misfires and vetoes of every job are recorded.
+   *
+   * @param schedulerMetricsListener the listener recording the scheduler metrics
+   * @return the {@link SchedulerFactoryBeanCustomizer} bean
+   */
+  @Bean
+  public SchedulerFactoryBeanCustomizer schedulerMetricsCustomizer(
+      SchedulerMetricsListener schedulerMetricsListener) {
+
+    return factory -> {
+      factory.setGlobalTriggerListeners(schedulerMetricsListener);
+      factory.setGlobalJobListeners(schedulerMetricsListener);
+    };
+  }
+
+  /**
+   * Replaces the default Quartz thread pool by the {@link VirtualThreadPool}, when the property
+   * {@code custom-properties.quartz.thread-pool} is {@code virtual}.
+   *
+   * @param quartzProperties the quartz properties configured under {@code spring.quartz}
+   * @param maxConcurrency max jobs running at the same time
+   * @return the {@link SchedulerFactoryBeanCustomizer} bean
+   */
+  @Bean
+  @ConditionalOnProperty(name = "custom-properties.quartz.thread-pool", havingValue = "virtual")
+  public SchedulerFactoryBeanCustomizer virtualThreadPoolCustomizer(
+      QuartzProperties quartzProperties,
+      @Value("${custom-properties.quartz.max-concurrency:1000}") int maxConcurrency) {
+
+    return factory -> {
+      Properties properties = new Properties();
+      properties.putAll(quartzProperties.getProperties());
+      properties.setProperty("org.quartz.threadPool.class", VirtualThreadPool.class.getName());
+      properties.setProperty(
+          "org.quartz.threadPool.maxConcurrency", Integer.toString(maxConcurrency));
+      factory.setQuartzProperties(properties);
+    };
+  }
 }
@@ -0,0 +1,13 @@
+package com.hansecom.monitoringservice.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the Spring scheduled maintenance tasks.
+ *
+ * <p>The monitoring jobs are scheduled by Quartz, see {@link QuartzConfiguration}.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfiguration {}
@@ -0,0 +1,33 @@
+package com.hansecom.monitoringservice.configuration.logging;
+
+import ch.qos.logback.core.PropertyDefinerBase;
+import org.springframework.util.StringUtils;
+
+/**
+ * Logback property telling if Spring Boot logs to a file, {@value #ENABLED} when {@code
+ * logging.file.name} or {@code logging.file.path} is set, otherwise {@value #DISABLED}.
+ *
+ * <p>Spring Boot only adds its file appender in that case, {@code logback-spring.xml} includes the
+ * file logging through this property, conditions requiring Janino.
+ */
+public class LogFilePropertyDefiner extends PropertyDefinerBase {
+
+  /** Value when a log file is configured. */
+  public static final String ENABLED = "enabled";
+
+  /** Value when no log file is configured. */
+  public static final String DISABLED = "disabled";
+
+  /** Property set by Spring Boot with the log file. */
+  static final String LOG_FILE = "LOG_FILE";
+
+  @Override
+  public String getPropertyValue() {
+
+    String logFile = getContext().getProperty(LOG_FILE);
+    if (!StringUtils.hasLength(logFile)) {
+      logFile = System.getProperty(LOG_FILE);
+    }
+    return StringUtils.hasLength(logFile) ? ENABLED : DISABLED;
+  }
+}
@@ -0,0 +1,109 @@
+package com.hansecom.monitoringservice.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.quartz.Trigger;
+import org.quartz.TriggerListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records how late and how long the Quartz jobs run, registered as a global trigger and job
+ * listener of the scheduler.
+ *
+ * <p>Exposes, tagged with the {@code job} name:
+ *
+ * <ul>
+ *   <li>the timer {@code monitoring.scheduler.fire.lag}, from the scheduled fire time until the
+ *       trigger fired, the first to grow when the worker threads or the Quartz locks are saturated
+ *   <li>the timer {@code monitoring.scheduler.job.duration}, tagged with the {@code outcome} {@code
+ *       success} or {@code error}
+ *   <li>the counter {@code monitoring.scheduler.misfires}
+ *   <li>the counter {@code monitoring.scheduler.vetoed}
+ * </ul>
+ *
+ * <p>Percentile histograms can be enabled through {@code
+ * management.metrics.distribution.percentiles-histogram.<name>}, a series per bucket and job.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerMetricsListener implements TriggerListener, JobListener {
+
+  /** Name of the listener. */
+  public static final String NAME = "scheduler-metrics";
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void triggerFired(Trigger trigger, JobExecutionContext context) {
+
+    Date scheduledFireTime = context.getScheduledFireTime();
+    if (scheduledFireTime == null) {
+      return;
+    }
+    Timer.builder("monitoring.scheduler.fire.lag")
+        .description("Time from the scheduled fire time until the trigger fired")
+        .tag("job", context.getJobDetail().getKey().getName())
+        .register(meterRegistry)
+        .record(
+            Math.max(context.getFireTime().getTime() - scheduledFireTime.getTime(), 0),
+            TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+    return false;
+  }
+
+  @Override
+  public void triggerMisfired(Trigger trigger) {
+    Counter.builder("monitoring.scheduler.misfires")
+        .description("Triggers misfired")
+        .tag("job", trigger.getJobKey().getName())
+        .register(meterRegistry)
+        .increment();
+  }
+
+  @Override
+  public void triggerComplete(
+      Trigger trigger,
+      JobExecutionContext context,
+      Trigger.CompletedExecutionInstruction triggerInstructionCode) {
+    // recorded once the job was executed
+  }
+
+  @Override
+  public void jobToBeExecuted(JobExecutionContext context) {
+    // the fire lag is recorded once the trigger fired
+  }
+
+  @Override
+  public void jobExecutionVetoed(JobExecutionContext context) {
+    Counter.builder("monitoring.scheduler.vetoed")
+        .description("Job executions vetoed")
+        .tag("job", context.getJobDetail().getKey().getName())
+        .register(meterRegistry)
+        .increment();
+  }
+
+  @Override
+  public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+    Timer.builder("monitoring.scheduler.job.duration")
+        .description("Time the job ran")
+        .tag("job", context.getJobDetail().getKey().getName())
+        .tag("outcome", jobException == null ? "success" : "error")
+        .register(meterRegistry)
+        .record(Math.max(context.getJobRunTime(), 0), TimeUnit.MILLISECONDS);
+  }
+}
@@ -1,8 +1,19 @@
 package com.hansecom.monitoringservice.job;
 
+import com.hansecom.monitoringservice.job.probe.ProbeBodyReader;
+import com.hansecom.monitoringservice.job.probe.ProbeDispatcher;
+import com.hansecom.monitoringservice.job.probe.ProbeEngine;
+import com.hansecom.monitoringservice.job.probe.ProbeTimings;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
-import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.persistence.writer.JobExecutionBatchWriter;
+import com.hansecom.monitoringservice.service.feed.JobExecutionFeed;
+import com.hansecom.monitoringservice.service.status.JobStatusRegistry;
+import io.opentelemetry.api.trace.Span;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
@@ -10,69 +21,138 @@ import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-/** Job responsible for monitoring an url. */
+/**
+ * Job responsible for monitoring an url.
+ *
+ * <p>The job only builds the probe, its execution is handed to the {@link ProbeDispatcher}. The
+ * response time is measured until the last byte of the body, read by the {@link ProbeBodyReader},
+ * along with the timings of each phase of the probe, see {@link ProbeTimings}. The result is
+ * published to the {@link JobExecutionFeed}, added to the {@link JobStatusRegistry} and then handed
+ * to the {@link JobExecutionBatchWriter}, to be saved in batches.
+ */
 @Slf4j
 @Component
 @AllArgsConstructor
 public class UrlMonitorJob implements Job {
 
-  private static final String STOP_WATCH = "stopWatch";
+  private final JobExecutionBatchWriter jobExecutionBatchWriter;
 
-  private final JobExecutionRepository jobExecutionRepository;
+  private final JobExecutionFeed jobExecutionFeed;
+
+  private final JobStatusRegistry jobStatusRegistry;
+
+  private final ProbeEngine probeEngine;
+
+  private final ProbeBodyReader probeBodyReader;
+
+  private final ProbeDispatcher probeDispatcher;
 
   @Override
   public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
 
     JobDataMap dataMap = jobExecutionContext.getJobDetail().getJobDataMap();
     String url = dataMap.getString("url");
+    // the probe completes on another thread, out of the span of the job
+    String traceId = Span.current().getSpanContext().getTraceId();
+
+    Mono<Void> probe =
+        Mono.deferContextual(
+                contextView ->
+                    probeBodyReader
+                        .read(probeEngine.getWebClient().get().uri(url).retrieve())
+                        .transform(probeDispatcher::complete)
+                        .doOnNext(
+                            probeBody -> {
+                              ProbeTimings probeTimings = contextView.get(ProbeTimings.KEY);
+                              long totalNanos = probeTimings.totalNanos();
+
+                              log.debug(
+                                  "Call to {} took {} ms and received {} bytes",
+                                  url,
+                                  TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                                  probeBody.size());
+
+                              record(
+                                  jobExecution(
+                                          jobExecutionContext.getJobDetail().getKey().getName(),
+                                          url,
+                                          traceId,
+                                          probeTimings,
+                                          totalNanos)
+                                      .status(JobExecutionStatusEntity.SUCCEEDED)
+                                      .responseSize(probeBody.size())
+                                      .responseHash(probeBody.hash())
+                                      .build());
+                            })
+                        .doOnError(
+                            throwable -> {
+                              ProbeTimings probeTimings = contextView.get(ProbeTimings.KEY);
+                              long totalNanos = probeTimings.totalNanos();
+
+                              log.debug(
+                                  "Call to {} took {} ms with error {}",
+                                  url,
+                                  TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                                  throwable.getMessage());
+
+                              record(
+                                  jobExecution(
+                                          jobExecutionContext.getJobDetail().getKey().getName(),
+                                          url,
+                                          traceId,
+                                          probeTimings,
+                                          totalNanos)
+                                      .status(JobExecutionStatusEntity.FAILED)
+                                      .errorMessage(throwable.getMessage())
+                                      .build());
+                            }))
+            .contextWrite(context -> context.put(ProbeTimings.KEY, ProbeTimings.start()))
+            .then()
+            .onErrorComplete();
+
+    probeDispatcher.dispatch(probe);
+  }
+
+  /**
+   * Hands the job execution to the live feed, to the status and to the writer, to be saved.
+   *
+   * @param jobExecutionEntity the job execution
+   */
+  private void record(JobExecutionEntity jobExecutionEntity) {
+    jobExecutionFeed.publish(jobExecutionEntity);
+    jobStatusRegistry.record(jobExecutionEntity);
+    // last, the writer thread changes the job execution while saving it
+    jobExecutionBatchWriter.submit(jobExecutionEntity);
+  }
 
-    Mono.deferContextual(
-            contextView ->
-                WebClient.builder()
-                    .baseUrl(url)
-                    .build()
-                    .get()
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .doOnNext(
-                        response -> {
-                          long responseTime =
-                              System.currentTimeMillis() - contextView.<Long>get(STOP_WATCH);
-
-                          log.debug("Call to {} took {} ms", url, responseTime);
-
-                          jobExecutionRepository.save(
-                              JobExecutionEntity.builder()
-                                  .jobName(jobExecutionContext.getJobDetail().getKey().getName())
-                                  .url(url)
-                                  .status(JobExecutionStatusEntity.SUCCEEDED)
-                                  .responseTime(responseTime)
-                                  .build());
-                        })
-                    .doOnError(
-                        throwable -> {
-                          long responseTime =
-                              System.currentTimeMillis() - contextView.<Long>get(STOP_WATCH);
-
-                          log.debug(
-                              "Call to {} took {} ms with error {}",
-                              url,
-                              responseTime,
-                              throwable.getMessage());
-
-                          jobExecutionRepository.save(
-                              JobExecutionEntity.builder()
-                                  .jobName(jobExecutionContext.getJobDetail().getKey().getName())
-                                  .url(url)
-                                  .status(JobExecutionStatusEntity.FAILED)
-                                  .responseTime(responseTime)
-                                  .errorMessage(throwable.getMessage())
-                                  .build());
-                        }))
-        .contextWrite(context -> context.put(STOP_WATCH, System.currentTimeMillis()))
-        .block();
+  /**
+   * Starts building the job execution with the probe timings.
+   *
+   * @param jobName the job name
+   * @param url the url being monitored
+   * @param traceId the trace id of the job
+   * @param probeTimings the phase timings of the probe
+   * @param totalNanos total time of the probe in nanoseconds
+   * @return the job execution builder
+   */
+  private static JobExecutionEntity.JobExecutionEntityBuilder<?, ?> jobExecution(
+      String jobName, String url, String traceId, ProbeTimings probeTimings, long totalNanos) {
+    return JobExecutionEntity.builder()
+        // known before saved, so the live feed, the status and the database agree
+        .externalId(UUID.randomUUID())
+        // the precision of the database
+        .createdDate(Instant.now().truncatedTo(ChronoUnit.MICROS))
+        .traceId(traceId)
+        .jobName(jobName)
+        .url(url)
+        .responseTime(TimeUnit.NANOSECONDS.toMillis(totalNanos))
+        .dnsNanos(probeTimings.getDnsNanos())
+        .connectNanos(probeTimings.getConnectNanos())
+        .tlsNanos(probeTimings.getTlsNanos())
+        .ttfbNanos(probeTimings.getTtfbNanos())
+        .downloadNanos(probeTimings.getDownloadNanos())
+        .totalNanos(totalNanos);
   }
 }
@@ -0,0 +1,140 @@
+package com.hansecom.monitoringservice.job;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+/**
+ * Quartz {@link ThreadPool} that runs each job in its own virtual thread.
+ *
+ * <p>Jobs blocking on I/O, like probes or database saves, no longer hold a platform thread, so the
+ * number of jobs running at the same time is only bounded by a semaphore, configured through the
+ * property {@code maxConcurrency}.
+ *
+ * <p>Quartz instantiates and configures the pool from its own properties, it is enabled by setting
+ * the property {@code custom-properties.quartz.thread-pool} to {@code virtual}, with the limit
+ * taken from {@code custom-properties.quartz.max-concurrency}.
+ */
+@Slf4j
+public class VirtualThreadPool implements ThreadPool {
+
+  private static final int DEFAULT_MAX_CONCURRENCY = 1000;
+
+  /** Max jobs running at the same time. */
+  @Getter @Setter private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+  @Setter private String instanceId;
+
+  @Setter private String instanceName = "quartz";
+
+  private Semaphore permits;
+
+  private ExecutorService executor;
+
+  private volatile boolean shutdown;
+
+  /**
+   * Accepted for compatibility with the default pool properties set by Spring, has no effect since
+   * a new virtual thread is created for each job.
+   *
+   * @param threadCount ignored
+   */
+  public void setThreadCount(int threadCount) {
+    log.debug(
+        "Ignoring threadCount {}, virtual thread pool is bounded by maxConcurrency", threadCount);
+  }
+
+  @Override
+  public void initialize() throws SchedulerConfigException {
+
+    if (maxConcurrency <= 0) {
+      throw new SchedulerConfigException("maxConcurrency must be greater than 0");
+    }
+
+    permits = new Semaphore(maxConcurrency);
+    executor =
+        Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name(instanceName + "-vt-", 0).factory());
+
+    log.debug(
+        "Virtual thread pool {} initialized with maxConcurrency {}", instanceId, maxConcurrency);
+  }
+
+  @Override
+  public boolean runInThread(Runnable runnable) {
+
+    if (runnable == null || shutdown) {
+      return false;
+    }
+
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              runnable.run();
+            } finally {
+              permits.release();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      log.error("Job rejected by the virtual thread pool", e);
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int blockForAvailableThreads() {
+
+    try {
+      // waits until at least one job can run
+      permits.acquire();
+      permits.release();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    return shutdown ? 0 : permits.availablePermits();
+  }
+
+  @Override
+  public void shutdown(boolean waitForJobsToComplete) {
+
+    shutdown = true;
+
+    if (!waitForJobsToComplete) {
+      executor.shutdownNow();
+      return;
+    }
+
+    executor.shutdown();
+    try {
+      while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+        log.debug("Waiting for {} jobs to complete", maxConcurrency - permits.availablePermits());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public int getPoolSize() {
+    return maxConcurrency;
+  }
+}
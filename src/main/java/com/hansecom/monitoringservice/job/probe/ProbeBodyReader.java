@@ -0,0 +1,155 @@
+package com.hansecom.monitoringservice.job.probe;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads the body of the probe responses.
+ *
+ * <p>Supports two body modes, configured through the property {@code
+ * custom-properties.probe.body.mode}:
+ *
+ * <ul>
+ *   <li>{@code discard} (default): the body is consumed as a stream of {@link DataBuffer}, each
+ *       buffer is accounted and released as soon as it arrives, so the memory used per probe is
+ *       constant whatever the size of the response
+ *   <li>{@code string}: the whole body is buffered and decoded into a {@link String}, limited by
+ *       the codecs max in memory size
+ * </ul>
+ *
+ * <p>In both modes only the body size and, when the property {@code
+ * custom-properties.probe.body.hash-algorithm} is set, its hash are kept.
+ */
+@Slf4j
+@Component
+public class ProbeBodyReader {
+
+  private final BodyMode bodyMode;
+
+  private final String hashAlgorithm;
+
+  /**
+   * Constructor.
+   *
+   * @param bodyMode how the response body is consumed
+   * @param hashAlgorithm {@link MessageDigest} algorithm used to hash the body, no hash if empty
+   * @throws NoSuchAlgorithmException if the hash algorithm is not available
+   */
+  public ProbeBodyReader(
+      @Value("${custom-properties.probe.body.mode:discard}") BodyMode bodyMode,
+      @Value("${custom-properties.probe.body.hash-algorithm:}") String hashAlgorithm)
+      throws NoSuchAlgorithmException {
+
+    this.bodyMode = bodyMode;
+    this.hashAlgorithm = StringUtils.hasText(hashAlgorithm) ? hashAlgorithm.trim() : null;
+
+    if (this.hashAlgorithm != null) {
+      // fail on startup instead of on every probe
+      MessageDigest.getInstance(this.hashAlgorithm);
+    }
+
+    log.debug("Probe body reader created in {} mode with hash {}", bodyMode, this.hashAlgorithm);
+  }
+
+  /**
+   * Consumes the body of the response according to the configured body mode.
+   *
+   * @param responseSpec the response to read
+   * @return the body summary, emitted once the last byte is received, also for empty bodies
+   */
+  public Mono<ProbeBody> read(WebClient.ResponseSpec responseSpec) {
+
+    if (BodyMode.STRING.equals(bodyMode)) {
+      return responseSpec
+          .bodyToMono(String.class)
+          .map(
+              body -> {
+                BodyAccumulator accumulator = new BodyAccumulator(digest());
+                accumulator.accept(ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8)));
+                return accumulator.toProbeBody();
+              })
+          .switchIfEmpty(Mono.fromSupplier(() -> new BodyAccumulator(digest()).toProbeBody()));
+    }
+
+    return responseSpec
+        .bodyToFlux(DataBuffer.class)
+        .reduceWith(
+            () -> new BodyAccumulator(digest()),
+            (accumulator, dataBuffer) -> {
+              try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+                iterator.forEachRemaining(accumulator::accept);
+              } finally {
+                DataBufferUtils.release(dataBuffer);
+              }
+              return accumulator;
+            })
+        .map(BodyAccumulator::toProbeBody)
+        .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+  }
+
+  /**
+   * Creates a new digest for the configured hash algorithm.
+   *
+   * @return the digest or null if no hash algorithm is configured
+   */
+  private MessageDigest digest() {
+
+    if (hashAlgorithm == null) {
+      return null;
+    }
+
+    try {
+      return MessageDigest.getInstance(hashAlgorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Summary of a response body.
+   *
+   * @param size body size in bytes
+   * @param hash hexadecimal body hash, null if no hash algorithm is configured
+   */
+  public record ProbeBody(long size, String hash) {}
+
+  /** Possible body modes. */
+  public enum BodyMode {
+    DISCARD,
+    STRING
+  }
+
+  /** Accumulates the size and hash of a body while it is received. */
+  private static final class BodyAccumulator {
+
+    private final MessageDigest digest;
+
+    private long size;
+
+    private BodyAccumulator(MessageDigest digest) {
+      this.digest = digest;
+    }
+
+    private void accept(ByteBuffer byteBuffer) {
+      size += byteBuffer.remaining();
+      if (digest != null) {
+        digest.update(byteBuffer);
+      }
+    }
+
+    private ProbeBody toProbeBody() {
+      return new ProbeBody(size, digest == null ? null : HexFormat.of().formatHex(digest.digest()));
+    }
+  }
+}
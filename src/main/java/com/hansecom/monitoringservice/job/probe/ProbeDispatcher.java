@@ -0,0 +1,210 @@
+package com.hansecom.monitoringservice.job.probe;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Dispatches the probes built by the jobs.
+ *
+ * <p>Supports two execution modes, configured through the property {@code
+ * custom-properties.probe.execution-mode}:
+ *
+ * <ul>
+ *   <li>{@code blocking} (default): the calling Quartz worker thread waits for the probe to
+ *       complete
+ *   <li>{@code async}: the probe is queued and the calling thread returns immediately. Queued
+ *       probes are subscribed with a bounded concurrency on a dispatch scheduler, and their
+ *       completion, timeout and persistence happen on the event loop and on a bounded completion
+ *       scheduler, so a small number of Quartz threads can drive thousands of concurrent probes
+ * </ul>
+ *
+ * <p>Exposes the gauges {@code monitoring.probe.in.flight} and {@code monitoring.probe.queue.depth}
+ * and the counter {@code monitoring.probe.rejected} for probes rejected due to a full queue.
+ */
+@Slf4j
+@Component
+public class ProbeDispatcher implements DisposableBean {
+
+  /** Max time a dispatch retries while another thread is emitting to the queue. */
+  private static final Duration MAX_CONTENDED_EMISSION = Duration.ofMillis(100);
+
+  private final ExecutionMode executionMode;
+
+  private final Duration timeout;
+
+  /** Scheduler where the probe outcome is handled, i.e. persisted. */
+  @Getter private final Scheduler completionScheduler;
+
+  /** Scheduler where the queued probes are subscribed, i.e. their requests are sent. */
+  private final Scheduler dispatchScheduler;
+
+  private final Sinks.Many<Mono<Void>> queue;
+
+  private final Disposable subscription;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+
+  private final Counter rejected;
+
+  /**
+   * Constructor.
+   *
+   * @param meterRegistry registry for the dispatcher metrics
+   * @param executionMode how probes are executed
+   * @param timeout max time a probe can take before being considered failed
+   * @param maxConcurrency max probes in flight at the same time in async mode
+   * @param queueCapacity max probes waiting to be executed in async mode
+   * @param completionThreads max threads handling the probe outcome in async mode
+   */
+  public ProbeDispatcher(
+      MeterRegistry meterRegistry,
+      @Value("${custom-properties.probe.execution-mode:blocking}") ExecutionMode executionMode,
+      @Value("${custom-properties.probe.timeout:30s}") Duration timeout,
+      @Value("${custom-properties.probe.max-concurrency:1000}") int maxConcurrency,
+      @Value("${custom-properties.probe.queue-capacity:10000}") int queueCapacity,
+      @Value("${custom-properties.probe.completion-threads:20}") int completionThreads) {
+
+    this.executionMode = executionMode;
+    this.timeout = timeout;
+
+    if (ExecutionMode.ASYNC.equals(executionMode)) {
+      this.completionScheduler =
+          Schedulers.newBoundedElastic(completionThreads, queueCapacity, "probe-completion");
+      this.dispatchScheduler = Schedulers.newParallel("probe-dispatch");
+      this.queue =
+          Sinks.many().unicast().onBackpressureBuffer(Queues.<Mono<Void>>get(queueCapacity).get());
+      this.subscription =
+          queue
+              .asFlux()
+              .doOnNext(probe -> queueDepth.decrementAndGet())
+              // the queue is drained by the emitting thread, the requests must not be sent on it
+              .flatMap(probe -> track(probe).subscribeOn(dispatchScheduler), maxConcurrency)
+              .subscribe();
+    } else {
+      this.completionScheduler = Schedulers.immediate();
+      this.dispatchScheduler = Schedulers.immediate();
+      this.queue = null;
+      this.subscription = null;
+    }
+
+    Gauge.builder("monitoring.probe.in.flight", inFlight, AtomicInteger::get)
+        .description("Probes currently waiting for the target response")
+        .register(meterRegistry);
+    Gauge.builder("monitoring.probe.queue.depth", queueDepth, AtomicInteger::get)
+        .description("Probes waiting to be dispatched")
+        .register(meterRegistry);
+    this.rejected =
+        Counter.builder("monitoring.probe.rejected")
+            .description("Probes rejected because the dispatcher queue was full")
+            .register(meterRegistry);
+
+    log.debug("Probe dispatcher created in {} mode", executionMode);
+  }
+
+  /**
+   * Dispatches the probe according to the configured execution mode.
+   *
+   * <p>The probe is expected to handle its own outcome, errors are only logged here.
+   *
+   * @param probe the probe to execute
+   */
+  public void dispatch(Mono<Void> probe) {
+
+    if (ExecutionMode.BLOCKING.equals(executionMode)) {
+      track(probe).block();
+      return;
+    }
+
+    // before the emission, the probe can be drained before tryEmitNext returns
+    queueDepth.incrementAndGet();
+    Sinks.EmitFailureHandler retry = Sinks.EmitFailureHandler.busyLooping(MAX_CONTENDED_EMISSION);
+    Sinks.EmitResult result;
+    // the sink does not allow concurrent emissions, retried while another quartz thread emits
+    do {
+      result = queue.tryEmitNext(probe);
+    } while (result.isFailure() && retry.onEmitFailure(SignalType.ON_NEXT, result));
+
+    if (result.isFailure()) {
+      queueDepth.decrementAndGet();
+      rejected.increment();
+      log.warn("Probe rejected by the dispatcher with result {}", result);
+    }
+  }
+
+  /**
+   * Applies the timeout and moves the outcome of the request to the completion scheduler.
+   *
+   * <p>The {@link ProbeTimings} of the probe, if in the context, are completed before the outcome
+   * is moved, so the time waiting for a completion thread is not part of the response time.
+   *
+   * <p>Should be applied to the request before handling its outcome, using {@link
+   * Mono#transform(java.util.function.Function)}.
+   *
+   * @param request the probe request
+   * @return the request with timeout, completing on the completion scheduler
+   * @param <T> the type of the response
+   */
+  public <T> Mono<T> complete(Mono<T> request) {
+    return request
+        .timeout(timeout)
+        .doOnEach(
+            signal -> {
+              if (signal.isOnNext() || signal.isOnError()) {
+                ProbeTimings.from(signal.getContextView()).ifPresent(ProbeTimings::completed);
+              }
+            })
+        .publishOn(completionScheduler);
+  }
+
+  /**
+   * Tracks the in flight probes.
+   *
+   * @param probe the probe to track
+   * @return the tracked probe, never emitting errors
+   */
+  private Mono<Void> track(Mono<Void> probe) {
+    return probe
+        .doOnSubscribe(subscription -> inFlight.incrementAndGet())
+        // before the outcome is signalled downstream, so a blocked dispatch sees the gauge updated
+        .doOnTerminate(inFlight::decrementAndGet)
+        .doOnCancel(inFlight::decrementAndGet)
+        .onErrorResume(
+            throwable -> {
+              log.error("Unexpected error executing probe", throwable);
+              return Mono.empty();
+            });
+  }
+
+  /** Stops consuming the queue and releases the dispatch and completion threads. */
+  @Override
+  public void destroy() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+    dispatchScheduler.dispose();
+    completionScheduler.dispose();
+  }
+
+  /** Possible probe execution modes. */
+  public enum ExecutionMode {
+    BLOCKING,
+    ASYNC
+  }
+}
@@ -0,0 +1,110 @@
+package com.hansecom.monitoringservice.job.probe;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.Connection;
+import reactor.netty.ReactorNetty;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.context.ContextView;
+
+/**
+ * Shared HTTP engine used by the jobs to probe the monitored urls.
+ *
+ * <p>All probes go through the same {@link WebClient}, backed by a single Reactor Netty {@link
+ * ConnectionProvider}. Connections are pooled per remote host, so consecutive probes to the same
+ * host reuse warm keep-alive connections instead of paying a new TCP/TLS handshake on every fire.
+ *
+ * <p>The phases of each request are recorded into the {@link ProbeTimings} found in its Reactor
+ * context, by the {@link ProbeTimingsRecorder} and the address resolution callbacks.
+ *
+ * <p>The pool limits are applied per remote host and can be configured through the properties under
+ * {@code custom-properties.probe.pool}. When metrics are enabled the pool gauges are published
+ * under {@code reactor.netty.connection.provider.*}.
+ */
+@Slf4j
+@Component
+public class ProbeEngine implements DisposableBean {
+
+  private static final String POOL_NAME = "url-monitor";
+
+  private final ConnectionProvider connectionProvider;
+
+  @Getter private final WebClient webClient;
+
+  /**
+   * Constructor.
+   *
+   * @param maxConnections max connections per remote host
+   * @param pendingAcquireMaxCount max probes waiting for a connection per remote host
+   * @param pendingAcquireTimeout max time a probe waits for a connection
+   * @param maxIdleTime time after which an idle connection is closed
+   * @param maxLifeTime max time a connection is kept, regardless of being idle or not
+   * @param evictInBackground interval of the background eviction of idle and expired connections
+   * @param metricsEnabled if the connection pool metrics should be published
+   */
+  public ProbeEngine(
+      @Value("${custom-properties.probe.pool.max-connections:50}") int maxConnections,
+      @Value("${custom-properties.probe.pool.pending-acquire-max-count:1000}")
+          int pendingAcquireMaxCount,
+      @Value("${custom-properties.probe.pool.pending-acquire-timeout:45s}")
+          Duration pendingAcquireTimeout,
+      @Value("${custom-properties.probe.pool.max-idle-time:30s}") Duration maxIdleTime,
+      @Value("${custom-properties.probe.pool.max-life-time:5m}") Duration maxLifeTime,
+      @Value("${custom-properties.probe.pool.evict-in-background:30s}") Duration evictInBackground,
+      @Value("${custom-properties.probe.pool.metrics-enabled:true}") boolean metricsEnabled) {
+
+    this.connectionProvider =
+        ConnectionProvider.builder(POOL_NAME)
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .maxLifeTime(maxLifeTime)
+            .evictInBackground(evictInBackground)
+            .metrics(metricsEnabled)
+            .build();
+
+    HttpClient httpClient =
+        HttpClient.create(connectionProvider)
+            .metrics(true, () -> ProbeTimingsRecorder.INSTANCE, Function.identity())
+            .doOnResolve(connection -> probeTimings(connection).ifPresent(ProbeTimings::dnsStarted))
+            .doAfterResolve(
+                (connection, remoteAddress) ->
+                    probeTimings(connection).ifPresent(ProbeTimings::dnsCompleted));
+
+    this.webClient =
+        WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+
+    log.debug(
+        "Probe engine created with max {} connections per host, max idle time {} and max life time {}",
+        maxConnections,
+        maxIdleTime,
+        maxLifeTime);
+  }
+
+  /**
+   * Gets the {@link ProbeTimings} of the probe that is using the connection.
+   *
+   * @param connection the connection
+   * @return the probe timings, empty if the request is not a probe
+   */
+  private static Optional<ProbeTimings> probeTimings(Connection connection) {
+    ContextView contextView = ReactorNetty.getChannelContext(connection.channel());
+    return contextView == null ? Optional.empty() : ProbeTimings.from(contextView);
+  }
+
+  /** Closes all the pooled connections. */
+  @Override
+  public void destroy() {
+    connectionProvider.disposeLater().block();
+  }
+}
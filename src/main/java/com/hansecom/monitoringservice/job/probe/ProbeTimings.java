@@ -0,0 +1,147 @@
+package com.hansecom.monitoringservice.job.probe;
+
+import java.time.Duration;
+import java.util.Optional;
+import lombok.Getter;
+import reactor.util.context.ContextView;
+
+/**
+ * Monotonic timings of the phases of a single probe, in nanoseconds.
+ *
+ * <p>An instance is put in the Reactor context of each probe, using {@link #KEY}, and is filled by
+ * the {@link ProbeTimingsRecorder} while the request goes through the HTTP client. The connection
+ * phases (dns, connect and tls) stay null when the probe reuses a pooled connection.
+ *
+ * <p>Phases:
+ *
+ * <ul>
+ *   <li>dns: time resolving the remote address
+ *   <li>connect: time establishing the TCP connection
+ *   <li>tls: time doing the TLS handshake
+ *   <li>ttfb: time from sending the request until the first byte of the response
+ *   <li>download: time from the first until the last byte of the response
+ *   <li>total: time from the probe subscription until the last byte, or the error
+ * </ul>
+ */
+public final class ProbeTimings {
+
+  /** Key of the probe timings in the Reactor context. */
+  public static final Class<ProbeTimings> KEY = ProbeTimings.class;
+
+  private final long startNanos;
+
+  private volatile long dnsStartNanos;
+
+  @Getter private volatile Long dnsNanos;
+
+  @Getter private volatile Long connectNanos;
+
+  @Getter private volatile Long tlsNanos;
+
+  @Getter private volatile Long ttfbNanos;
+
+  @Getter private volatile Long downloadNanos;
+
+  private volatile Long totalNanos;
+
+  private ProbeTimings(long startNanos) {
+    this.startNanos = startNanos;
+  }
+
+  /**
+   * Starts the timings of a new probe.
+   *
+   * @return the probe timings
+   */
+  public static ProbeTimings start() {
+    return new ProbeTimings(System.nanoTime());
+  }
+
+  /**
+   * Gets the probe timings from the Reactor context.
+   *
+   * @param contextView the Reactor context
+   * @return the probe timings, empty if the context does not belong to a probe
+   */
+  public static Optional<ProbeTimings> from(ContextView contextView) {
+    return contextView.getOrEmpty(KEY);
+  }
+
+  /** Marks the start of the remote address resolution. */
+  void dnsStarted() {
+    dnsStartNanos = System.nanoTime();
+  }
+
+  /** Marks the end of the remote address resolution. */
+  void dnsCompleted() {
+    if (dnsStartNanos != 0) {
+      dnsNanos = System.nanoTime() - dnsStartNanos;
+    }
+  }
+
+  /**
+   * Records the connect phase.
+   *
+   * @param time time establishing the TCP connection
+   */
+  void connect(Duration time) {
+    connectNanos = time.toNanos();
+  }
+
+  /**
+   * Records the tls phase.
+   *
+   * @param time time doing the TLS handshake
+   */
+  void tls(Duration time) {
+    tlsNanos = time.toNanos();
+  }
+
+  /**
+   * Records the download phase.
+   *
+   * @param dataReceivedTime time from the first until the last byte of the response
+   */
+  void download(Duration dataReceivedTime) {
+    downloadNanos = dataReceivedTime.toNanos();
+  }
+
+  /**
+   * Records the response time, the download time must be recorded before.
+   *
+   * @param responseTime time from sending the request until the last byte of the response
+   */
+  void responseTime(Duration responseTime) {
+    ttfbNanos = Math.max(0, responseTime.toNanos() - (downloadNanos == null ? 0 : downloadNanos));
+  }
+
+  /**
+   * Marks the end of the probe, once the last byte or the error is received. Only the first call is
+   * kept.
+   */
+  void completed() {
+    if (totalNanos == null) {
+      totalNanos = elapsedNanos();
+    }
+  }
+
+  /**
+   * Total time of the probe, from its start until it {@link #completed()}, not counting the time
+   * its outcome waits to be handled.
+   *
+   * @return the total nanoseconds, the time elapsed since the start if not completed yet
+   */
+  public long totalNanos() {
+    Long total = totalNanos;
+    return total == null ? elapsedNanos() : total;
+  }
+
+  /**
+   * Time elapsed since the probe started.
+   *
+   * @return the elapsed nanoseconds
+   */
+  public long elapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+}
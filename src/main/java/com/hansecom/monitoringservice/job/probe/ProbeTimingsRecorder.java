@@ -0,0 +1,101 @@
+package com.hansecom.monitoringservice.job.probe;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import reactor.netty.http.client.ContextAwareHttpClientMetricsRecorder;
+import reactor.util.context.ContextView;
+
+/**
+ * Reactor Netty metrics recorder that fills the {@link ProbeTimings} found in the context of each
+ * request.
+ *
+ * <p>Only the timings are recorded, all the other metrics are ignored. Requests without {@link
+ * ProbeTimings} in their context are ignored as well.
+ */
+public class ProbeTimingsRecorder extends ContextAwareHttpClientMetricsRecorder {
+
+  /** Shared instance, the recorder is stateless. */
+  public static final ProbeTimingsRecorder INSTANCE = new ProbeTimingsRecorder();
+
+  @Override
+  public void recordConnectTime(
+      ContextView contextView, SocketAddress remoteAddress, Duration time, String status) {
+    ProbeTimings.from(contextView).ifPresent(probeTimings -> probeTimings.connect(time));
+  }
+
+  @Override
+  public void recordTlsHandshakeTime(
+      ContextView contextView, SocketAddress remoteAddress, Duration time, String status) {
+    ProbeTimings.from(contextView).ifPresent(probeTimings -> probeTimings.tls(time));
+  }
+
+  @Override
+  public void recordDataReceivedTime(
+      ContextView contextView,
+      SocketAddress remoteAddress,
+      String uri,
+      String method,
+      String status,
+      Duration time) {
+    ProbeTimings.from(contextView).ifPresent(probeTimings -> probeTimings.download(time));
+  }
+
+  @Override
+  public void recordResponseTime(
+      ContextView contextView,
+      SocketAddress remoteAddress,
+      String uri,
+      String method,
+      String status,
+      Duration time) {
+    ProbeTimings.from(contextView).ifPresent(probeTimings -> probeTimings.responseTime(time));
+  }
+
+  @Override
+  public void recordDataSentTime(
+      ContextView contextView,
+      SocketAddress remoteAddress,
+      String uri,
+      String method,
+      Duration time) {
+    // not recorded
+  }
+
+  @Override
+  public void recordDataReceived(
+      ContextView contextView, SocketAddress remoteAddress, String uri, long bytes) {
+    // not recorded
+  }
+
+  @Override
+  public void recordDataSent(
+      ContextView contextView, SocketAddress remoteAddress, String uri, long bytes) {
+    // not recorded
+  }
+
+  @Override
+  public void incrementErrorsCount(
+      ContextView contextView, SocketAddress remoteAddress, String uri) {
+    // not recorded
+  }
+
+  @Override
+  public void recordDataReceived(ContextView contextView, SocketAddress remoteAddress, long bytes) {
+    // not recorded
+  }
+
+  @Override
+  public void recordDataSent(ContextView contextView, SocketAddress remoteAddress, long bytes) {
+    // not recorded
+  }
+
+  @Override
+  public void incrementErrorsCount(ContextView contextView, SocketAddress remoteAddress) {
+    // not recorded
+  }
+
+  @Override
+  public void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status) {
+    // not context aware, the dns phase is recorded by the probe engine resolve callbacks
+  }
+}
@@ -0,0 +1,324 @@
+package com.hansecom.monitoringservice.loadtest;
+
+import com.hansecom.monitoringservice.job.SchedulerMetricsListener;
+import com.hansecom.monitoringservice.service.JobService;
+import com.hansecom.monitoringservice.service.dto.JobDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import com.hansecom.monitoringservice.service.feed.JobExecutionFeed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+/**
+ * Runs a load test of the whole service against the {@link LoadTestTargetFarm}, when the profile
+ * {@value #PROFILE} is active.
+ *
+ * <p>Once the application is ready, {@code jobs} jobs are created through the {@link JobService},
+ * each probing its own target of the farm on {@code cron-expression}. Every {@code report-interval}
+ * the following is logged, then a summary of the whole run after {@code duration}, when the jobs
+ * are deleted and the application exits:
+ *
+ * <ul>
+ *   <li>probes completed per second, as published to the {@link JobExecutionFeed}
+ *   <li>mean and max fire lag of the jobs, and their misfires, as recorded by the {@link
+ *       SchedulerMetricsListener}
+ *   <li>job executions saved per second, the queue depth of the writer and the probes in flight
+ *   <li>heap used and committed, garbage collections and their time
+ * </ul>
+ */
+@Slf4j
+@Component
+@Profile(LoadTestRunner.PROFILE)
+public class LoadTestRunner implements DisposableBean {
+
+  /** Profile of the load test. */
+  public static final String PROFILE = "load-test";
+
+  /** Prefix of the names of the jobs of the load test. */
+  static final String JOB_PREFIX = "load-test-";
+
+  private static final double MB = 1024 * 1024;
+
+  private final JobService jobService;
+
+  private final Scheduler scheduler;
+
+  private final LoadTestTargetFarm loadTestTargetFarm;
+
+  private final JobExecutionFeed jobExecutionFeed;
+
+  private final ConfigurableApplicationContext applicationContext;
+
+  private final int jobs;
+
+  private final String cronExpression;
+
+  private final Duration duration;
+
+  private final Duration reportInterval;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Counter inserted;
+
+  private final Gauge writerQueueDepth;
+
+  private final Gauge probesInFlight;
+
+  private final AtomicLong succeeded = new AtomicLong();
+
+  private final AtomicLong failed = new AtomicLong();
+
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> new Thread(runnable, "load-test-report"));
+
+  private Disposable subscription;
+
+  private LoadTestSample first;
+
+  private LoadTestSample previous;
+
+  /**
+   * Constructor.
+   *
+   * @param jobService service creating the jobs
+   * @param scheduler the Quartz scheduler running the jobs
+   * @param loadTestTargetFarm the targets probed by the jobs
+   * @param jobExecutionFeed feed of the completed probes
+   * @param meterRegistry registry of the service metrics
+   * @param applicationContext context closed at the end of the load test
+   * @param jobs jobs created
+   * @param cronExpression cron expression of every job
+   * @param duration duration of the load test, from the creation of the jobs
+   * @param reportInterval interval between two reports
+   */
+  public LoadTestRunner(
+      JobService jobService,
+      Scheduler scheduler,
+      LoadTestTargetFarm loadTestTargetFarm,
+      JobExecutionFeed jobExecutionFeed,
+      MeterRegistry meterRegistry,
+      ConfigurableApplicationContext applicationContext,
+      @Value("${custom-properties.load-test.jobs:1000}") int jobs,
+      @Value("${custom-properties.load-test.cron-expression:0/10 * * * * ?}") String cronExpression,
+      @Value("${custom-properties.load-test.duration:PT5M}") Duration duration,
+      @Value("${custom-properties.load-test.report-interval:PT10S}") Duration reportInterval) {
+
+    this.jobService = jobService;
+    this.scheduler = scheduler;
+    this.loadTestTargetFarm = loadTestTargetFarm;
+    this.jobExecutionFeed = jobExecutionFeed;
+    this.applicationContext = applicationContext;
+    this.jobs = jobs;
+    this.cronExpression = cronExpression;
+    this.duration = duration;
+    this.reportInterval = reportInterval;
+
+    this.meterRegistry = meterRegistry;
+    this.inserted = meterRegistry.get("monitoring.job.execution.writer.saved").counter();
+    this.writerQueueDepth =
+        meterRegistry.get("monitoring.job.execution.writer.queue.depth").gauge();
+    this.probesInFlight = meterRegistry.get("monitoring.probe.in.flight").gauge();
+  }
+
+  /**
+   * Starts the load test: deletes the jobs left by a previous run, creates the jobs and schedules
+   * the reports and the end of the run.
+   *
+   * @throws SchedulerException if the jobs left can not be deleted
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() throws SchedulerException {
+
+    deleteJobs();
+
+    subscription =
+        jobExecutionFeed
+            .subscribe(Optional.empty(), Optional.empty())
+            .filter(jobExecutionDto -> jobExecutionDto.getJobName().startsWith(JOB_PREFIX))
+            .subscribe(
+                jobExecutionDto ->
+                    (jobExecutionDto.getStatus() == JobExecutionStatus.SUCCEEDED
+                            ? succeeded
+                            : failed)
+                        .incrementAndGet());
+
+    log.info("Load test creating {} jobs on '{}' for {}", jobs, cronExpression, duration);
+    for (int i = 0; i < jobs; i++) {
+      jobService.createJob(
+          JobDto.builder()
+              .name(JOB_PREFIX + i)
+              .description("Load test target " + i)
+              .url(loadTestTargetFarm.url(i))
+              .cronExpression(cronExpression)
+              .build());
+    }
+
+    first = sample();
+    previous = first;
+    executor.scheduleAtFixedRate(
+        this::report, reportInterval.toMillis(), reportInterval.toMillis(), TimeUnit.MILLISECONDS);
+    executor.schedule(this::finish, duration.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** Stops the reports and the subscription to the feed. */
+  @Override
+  public void destroy() {
+
+    executor.shutdownNow();
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  private void report() {
+
+    LoadTestSample current = sample();
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+    log.info(
+        "Load test: {} probes/s ({} failed/s), fire lag mean {} ms max {} ms, {} misfires,"
+            + " {} inserts/s, writer queue {}, {} probes in flight, heap {}/{} MB, {} GCs taking"
+            + " {} ms",
+        format(current.rate(previous, LoadTestSample::probes)),
+        format(current.rate(previous, LoadTestSample::failed)),
+        format(current.meanFireLag(previous)),
+        format(maxFireLag()),
+        (long) (current.misfires() - previous.misfires()),
+        format(current.rate(previous, LoadTestSample::inserted)),
+        (long) writerQueueDepth.value(),
+        (long) probesInFlight.value(),
+        format(heap.getUsed() / MB),
+        format(heap.getCommitted() / MB),
+        current.gcCount() - previous.gcCount(),
+        current.gcMillis() - previous.gcMillis());
+
+    previous = current;
+  }
+
+  private void finish() {
+
+    LoadTestSample last = sample();
+    log.info(
+        "Load test finished after {}: {} probes ({} failed), {} probes/s, mean fire lag {} ms,"
+            + " {} misfires, {} inserts/s, {} GCs taking {} ms",
+        Duration.ofNanos(last.nanoTime() - first.nanoTime()),
+        last.probes(),
+        last.failed(),
+        format(last.rate(first, LoadTestSample::probes)),
+        format(last.meanFireLag(first)),
+        (long) (last.misfires() - first.misfires()),
+        format(last.rate(first, LoadTestSample::inserted)),
+        last.gcCount() - first.gcCount(),
+        last.gcMillis() - first.gcMillis());
+
+    try {
+      deleteJobs();
+    } catch (SchedulerException e) {
+      log.error("Load test jobs could not be deleted", e);
+    }
+
+    // not from the executor, shut down while the context closes
+    new Thread(() -> System.exit(SpringApplication.exit(applicationContext)), "load-test-shutdown")
+        .start();
+  }
+
+  private void deleteJobs() throws SchedulerException {
+
+    List<JobKey> jobKeys =
+        scheduler.getJobKeys(GroupMatcher.anyJobGroup()).stream()
+            .filter(jobKey -> jobKey.getName().startsWith(JOB_PREFIX))
+            .toList();
+    if (!jobKeys.isEmpty()) {
+      scheduler.deleteJobs(jobKeys);
+      log.info("Load test deleted {} jobs", jobKeys.size());
+    }
+  }
+
+  private LoadTestSample sample() {
+
+    long gcCount = 0;
+    long gcMillis = 0;
+    for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      gcCount += Math.max(garbageCollector.getCollectionCount(), 0);
+      gcMillis += Math.max(garbageCollector.getCollectionTime(), 0);
+    }
+    long fireLagCount = 0;
+    double fireLagMillis = 0;
+    for (Timer timer :
+        loadTestMeters(meterRegistry.find("monitoring.scheduler.fire.lag").timers())) {
+      fireLagCount += timer.count();
+      fireLagMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+    }
+    double misfires = 0;
+    for (Counter counter :
+        loadTestMeters(meterRegistry.find("monitoring.scheduler.misfires").counters())) {
+      misfires += counter.count();
+    }
+    return new LoadTestSample(
+        System.nanoTime(),
+        succeeded.get(),
+        failed.get(),
+        inserted.count(),
+        fireLagCount,
+        fireLagMillis,
+        misfires,
+        gcCount,
+        gcMillis);
+  }
+
+  /**
+   * Gets the max fire lag of the jobs of the load test, over the distribution statistic expiry of
+   * the timers.
+   *
+   * @return the max fire lag in milliseconds, 0 if no job fired
+   */
+  private double maxFireLag() {
+    return loadTestMeters(meterRegistry.find("monitoring.scheduler.fire.lag").timers()).stream()
+        .mapToDouble(timer -> timer.max(TimeUnit.MILLISECONDS))
+        .max()
+        .orElse(0);
+  }
+
+  private static <T extends Meter> List<T> loadTestMeters(Collection<T> meters) {
+    return meters.stream()
+        .filter(
+            meter -> {
+              String job = meter.getId().getTag("job");
+              return job != null && job.startsWith(JOB_PREFIX);
+            })
+        .toList();
+  }
+
+  private static String format(double value) {
+    return String.format("%.1f", value);
+  }
+}
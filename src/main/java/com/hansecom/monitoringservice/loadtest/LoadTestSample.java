@@ -0,0 +1,65 @@
+package com.hansecom.monitoringservice.loadtest;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Counters of the load test at a point in time, the rates are computed between two samples.
+ *
+ * @param nanoTime {@link System#nanoTime()} of the sample
+ * @param succeeded probes succeeded since the start
+ * @param failed probes failed since the start
+ * @param inserted job executions saved by the writer since the application started
+ * @param fireLagCount fires of the jobs since their creation
+ * @param fireLagMillis sum of the fire lags of the jobs since their creation
+ * @param misfires misfires of the jobs since their creation
+ * @param gcCount garbage collections since the JVM started
+ * @param gcMillis time spent in garbage collections since the JVM started
+ */
+record LoadTestSample(
+    long nanoTime,
+    long succeeded,
+    long failed,
+    double inserted,
+    long fireLagCount,
+    double fireLagMillis,
+    double misfires,
+    long gcCount,
+    long gcMillis) {
+
+  /**
+   * Gets the rate per second of a counter since a previous sample.
+   *
+   * @param since the previous sample
+   * @param counter the counter
+   * @return the increase of the counter per second, 0 if no time elapsed
+   */
+  double rate(LoadTestSample since, ToDoubleFunction<LoadTestSample> counter) {
+
+    long elapsedNanos = nanoTime - since.nanoTime;
+    if (elapsedNanos <= 0) {
+      return 0;
+    }
+    return (counter.applyAsDouble(this) - counter.applyAsDouble(since)) * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Gets the mean fire lag of the jobs fired since a previous sample.
+   *
+   * @param since the previous sample
+   * @return the mean fire lag in milliseconds, 0 if no job fired
+   */
+  double meanFireLag(LoadTestSample since) {
+
+    long fires = fireLagCount - since.fireLagCount;
+    return fires <= 0 ? 0 : (fireLagMillis - since.fireLagMillis) / fires;
+  }
+
+  /**
+   * Gets the probes completed since the start.
+   *
+   * @return the probes succeeded and failed
+   */
+  long probes() {
+    return succeeded + failed;
+  }
+}
@@ -0,0 +1,184 @@
+package com.hansecom.monitoringservice.loadtest;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * Local stub servers probed by the jobs of the load test.
+ *
+ * <p>Binds {@code servers} HTTP servers on the loopback address, each on its own ephemeral port, so
+ * the probes spread over as many connection pools of the {@code ProbeEngine}. Every request is
+ * answered after a latency drawn from the configured {@link LatencyDistribution}, and a share of
+ * them fail:
+ *
+ * <ul>
+ *   <li>{@code reset-rate}: the connection is reset without a response
+ *   <li>{@code error-rate}: answered with {@code 500 Internal Server Error}
+ *   <li>{@code slow-body-rate}: half of the body is sent, the rest after {@code slow-body-delay}
+ * </ul>
+ */
+@Slf4j
+@Component
+@Profile(LoadTestRunner.PROFILE)
+public class LoadTestTargetFarm implements DisposableBean {
+
+  /** 99th percentile of the standard normal distribution. */
+  private static final double Z_99 = 2.326;
+
+  private final List<DisposableServer> servers;
+
+  private final LatencyDistribution latencyDistribution;
+
+  private final double medianNanos;
+
+  private final double sigma;
+
+  private final double resetRate;
+
+  private final double errorRate;
+
+  private final double slowBodyRate;
+
+  private final Duration slowBodyDelay;
+
+  private final byte[] body;
+
+  /**
+   * Constructor.
+   *
+   * @param servers stub servers bound
+   * @param latencyDistribution distribution of the latency of the responses
+   * @param latencyMedian median latency
+   * @param latencyP99 99th percentile latency, only for the {@code lognormal} distribution
+   * @param resetRate ratio of the connections reset, from 0 to 1
+   * @param errorRate ratio of the requests answered with an error, from 0 to 1
+   * @param slowBodyRate ratio of the responses with a slow body, from 0 to 1
+   * @param slowBodyDelay delay of the second half of the slow bodies
+   * @param bodyBytes bytes of each response body
+   */
+  public LoadTestTargetFarm(
+      @Value("${custom-properties.load-test.targets.servers:10}") int servers,
+      @Value("${custom-properties.load-test.targets.latency.distribution:lognormal}")
+          LatencyDistribution latencyDistribution,
+      @Value("${custom-properties.load-test.targets.latency.median:50ms}") Duration latencyMedian,
+      @Value("${custom-properties.load-test.targets.latency.p99:500ms}") Duration latencyP99,
+      @Value("${custom-properties.load-test.targets.reset-rate:0.001}") double resetRate,
+      @Value("${custom-properties.load-test.targets.error-rate:0.01}") double errorRate,
+      @Value("${custom-properties.load-test.targets.slow-body-rate:0.01}") double slowBodyRate,
+      @Value("${custom-properties.load-test.targets.slow-body-delay:5s}") Duration slowBodyDelay,
+      @Value("${custom-properties.load-test.targets.body-bytes:4096}") int bodyBytes) {
+
+    this.latencyDistribution = latencyDistribution;
+    this.medianNanos = latencyMedian.toNanos();
+    this.sigma =
+        Math.log((double) Math.max(latencyP99.toNanos(), 1) / Math.max(latencyMedian.toNanos(), 1))
+            / Z_99;
+    this.resetRate = resetRate;
+    this.errorRate = errorRate;
+    this.slowBodyRate = slowBodyRate;
+    this.slowBodyDelay = slowBodyDelay;
+    this.body = new byte[bodyBytes];
+    Arrays.fill(body, (byte) 'a');
+
+    this.servers = new ArrayList<>(servers);
+    for (int i = 0; i < servers; i++) {
+      this.servers.add(
+          HttpServer.create().host("127.0.0.1").port(0).handle(this::handle).bindNow());
+    }
+
+    log.info(
+        "Load test target farm bound {} servers, {} latency with median {} and p99 {}",
+        servers,
+        latencyDistribution,
+        latencyMedian,
+        latencyP99);
+  }
+
+  /**
+   * Gets the url of a target, the targets are spread over the servers.
+   *
+   * @param index index of the target
+   * @return the url
+   */
+  public String url(int index) {
+    return "http://127.0.0.1:" + servers.get(index % servers.size()).port() + "/targets/" + index;
+  }
+
+  /** Stops all the servers. */
+  @Override
+  public void destroy() {
+    servers.forEach(DisposableServer::disposeNow);
+  }
+
+  private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    double roll = random.nextDouble();
+
+    if (roll < resetRate) {
+      request.withConnection(
+          connection -> {
+            connection.channel().config().setOption(ChannelOption.SO_LINGER, 0);
+            connection.channel().close();
+          });
+      return Mono.empty();
+    }
+
+    Mono<Long> latency = Mono.delay(latency(random));
+    if (roll < resetRate + errorRate) {
+      return latency.then(response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send());
+    }
+    if (roll < resetRate + errorRate + slowBodyRate) {
+      int half = body.length / 2;
+      Flux<ByteBuf> chunks =
+          Flux.concat(
+              Mono.fromSupplier(() -> Unpooled.wrappedBuffer(body, 0, half)),
+              Mono.delay(slowBodyDelay)
+                  .map(delay -> Unpooled.wrappedBuffer(body, half, body.length - half)));
+      return latency.then(
+          response
+              .header(HttpHeaderNames.CONTENT_LENGTH, Integer.toString(body.length))
+              .send(chunks, byteBuf -> true)
+              .then());
+    }
+    return latency.then(response.sendByteArray(Mono.just(body)).then());
+  }
+
+  private Duration latency(ThreadLocalRandom random) {
+    return switch (latencyDistribution) {
+      case FIXED -> Duration.ofNanos((long) medianNanos);
+      case LOGNORMAL ->
+          Duration.ofNanos((long) (medianNanos * Math.exp(sigma * random.nextGaussian())));
+    };
+  }
+
+  /** Distribution of the latency of the responses. */
+  public enum LatencyDistribution {
+
+    /** Always the median. */
+    FIXED,
+
+    /** Log-normal, fitted to the median and the 99th percentile. */
+    LOGNORMAL
+  }
+}
@@ -14,7 +14,6 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.CreatedBy;
-import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,6 +22,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * Common model for all database entities.
  *
  * <p>Focus on auditable columns.
+ *
+ * <p>Ids come from pooled sequences instead of identity columns, so Hibernate can batch the
+ * inserts.
  */
 @SuperBuilder(toBuilder = true)
 @Setter
@@ -32,13 +34,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class AbstractModelEntity {
 
+  /** Generated by the sequence declared by each entity under the generator {@code id_generator}. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "id_generator")
   private Long id;
 
   private UUID externalId;
 
-  @CreatedDate private Instant createdDate;
+  /** Set on persist, unless set beforehand like when recorded before being queued for saving. */
+  private Instant createdDate;
 
   @LastModifiedDate private Instant lastModifiedDate;
 
@@ -48,12 +52,17 @@ public abstract class AbstractModelEntity {
 
   private String traceId;
 
-  /** Fill some columns before persist. */
+  /** Fill some columns before persist, the ones already set are kept. */
   @PrePersist
   public void prePersist() {
     if (externalId == null) {
       externalId = UUID.randomUUID();
     }
-    traceId = Span.current().getSpanContext().getTraceId();
+    if (createdDate == null) {
+      createdDate = Instant.now();
+    }
+    if (traceId == null) {
+      traceId = Span.current().getSpanContext().getTraceId();
+    }
   }
 }
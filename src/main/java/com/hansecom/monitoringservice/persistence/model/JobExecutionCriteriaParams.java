@@ -26,5 +26,11 @@ public class JobExecutionCriteriaParams {
 
   @NotNull private Optional<Instant> to = Optional.empty();
 
+  /** Keyset pagination, when present only the job executions after the cursor are returned. */
+  @NotNull private Optional<JobExecutionCursor> after = Optional.empty();
+
   @NotNull private Pageable pageable = Pageable.unpaged();
+
+  /** When true the total is the planner estimate instead of an exact count. */
+  @NotNull private Boolean estimateTotal = false;
 }
@@ -0,0 +1,59 @@
+package com.hansecom.monitoringservice.persistence.model;
+
+import jakarta.validation.constraints.NotNull;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position of the last job execution of a page, used for keyset pagination.
+ *
+ * <p>The next page starts right after the job execution with this created date and id, following
+ * the sort direction. The cursor is exchanged with the clients as an opaque string, see {@link
+ * #encode()} and {@link #decode(String)}.
+ *
+ * @param createdDate created date of the last job execution of the page
+ * @param id id of the last job execution of the page, the tie-breaker for equal created dates
+ * @param direction the sort direction of the pages
+ */
+public record JobExecutionCursor(
+    @NotNull Instant createdDate, @NotNull Long id, @NotNull Sort.Direction direction) {
+
+  private static final String SEPARATOR = "|";
+
+  /**
+   * Encodes the cursor into an opaque string.
+   *
+   * @return the url safe encoded cursor
+   */
+  public String encode() {
+    String value = String.join(SEPARATOR, createdDate.toString(), id.toString(), direction.name());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor previously encoded with {@link #encode()}.
+   *
+   * @param value the encoded cursor
+   * @return the cursor
+   * @throws IllegalArgumentException if the value is not a valid cursor
+   */
+  public static JobExecutionCursor decode(String value) {
+
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      String[] parts = decoded.split("\\" + SEPARATOR, -1);
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return new JobExecutionCursor(
+          Instant.parse(parts[0]), Long.valueOf(parts[1]), Sort.Direction.valueOf(parts[2]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+}
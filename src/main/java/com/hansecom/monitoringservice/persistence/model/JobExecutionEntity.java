@@ -3,6 +3,7 @@ package com.hansecom.monitoringservice.persistence.model;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,8 +17,15 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @Entity
 @Table(name = "job_execution")
+@SequenceGenerator(
+    name = "id_generator",
+    sequenceName = "job_execution_id_seq",
+    allocationSize = JobExecutionEntity.ID_ALLOCATION_SIZE)
 public class JobExecutionEntity extends AbstractModelEntity {
 
+  /** Ids reserved at once, must match the increment of the sequence. */
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   private String jobName;
 
   private String url;
@@ -27,5 +35,21 @@ public class JobExecutionEntity extends AbstractModelEntity {
 
   private Long responseTime;
 
+  private Long responseSize;
+
+  private String responseHash;
+
+  private Long dnsNanos;
+
+  private Long connectNanos;
+
+  private Long tlsNanos;
+
+  private Long ttfbNanos;
+
+  private Long downloadNanos;
+
+  private Long totalNanos;
+
   private String errorMessage;
 }
@@ -0,0 +1,114 @@
+package com.hansecom.monitoringservice.persistence.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Statistics of the job executions of a job within a time bucket.
+ *
+ * <p>Maintained incrementally as the job executions are saved, see {@link #add(JobExecutionEntity)}
+ * and {@link #merge(JobExecutionRollup)}. Only job executions with a response time count for the
+ * response time statistics.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class JobExecutionRollup {
+
+  private final RollupResolutionEntity resolution;
+
+  private final String jobName;
+
+  private final Instant bucketStart;
+
+  private long executions;
+
+  private long failures;
+
+  private Long minResponseTime;
+
+  private Long maxResponseTime;
+
+  private long sumResponseTime;
+
+  private long responseTimeCount;
+
+  private final LatencySketch latencySketch;
+
+  /**
+   * Creates the rollup of a bucket without job executions.
+   *
+   * @param resolution the bucket size
+   * @param jobName the job name
+   * @param bucketStart the start of the bucket
+   * @return the empty rollup
+   */
+  public static JobExecutionRollup empty(
+      RollupResolutionEntity resolution, String jobName, Instant bucketStart) {
+    return new JobExecutionRollup(
+        resolution, jobName, bucketStart, 0, 0, null, null, 0, 0, new LatencySketch());
+  }
+
+  /**
+   * Adds a job execution to the statistics, regardless of its created date.
+   *
+   * @param jobExecutionEntity the job execution
+   */
+  public void add(JobExecutionEntity jobExecutionEntity) {
+
+    executions++;
+    if (JobExecutionStatusEntity.FAILED.equals(jobExecutionEntity.getStatus())) {
+      failures++;
+    }
+
+    Long responseTime = jobExecutionEntity.getResponseTime();
+    if (responseTime != null) {
+      minResponseTime =
+          minResponseTime == null ? responseTime : Math.min(minResponseTime, responseTime);
+      maxResponseTime =
+          maxResponseTime == null ? responseTime : Math.max(maxResponseTime, responseTime);
+      sumResponseTime += responseTime;
+      responseTimeCount++;
+      latencySketch.add(responseTime);
+    }
+  }
+
+  /**
+   * Adds the statistics of another rollup, regardless of its job and bucket.
+   *
+   * @param other the rollup to merge, not modified
+   */
+  public void merge(JobExecutionRollup other) {
+
+    executions += other.executions;
+    failures += other.failures;
+    if (other.minResponseTime != null) {
+      minResponseTime =
+          minResponseTime == null
+              ? other.minResponseTime
+              : Math.min(minResponseTime, other.minResponseTime);
+    }
+    if (other.maxResponseTime != null) {
+      maxResponseTime =
+          maxResponseTime == null
+              ? other.maxResponseTime
+              : Math.max(maxResponseTime, other.maxResponseTime);
+    }
+    sumResponseTime += other.sumResponseTime;
+    responseTimeCount += other.responseTimeCount;
+    latencySketch.merge(other.latencySketch);
+  }
+
+  /**
+   * Gets the mean response time.
+   *
+   * @return the mean response time in milliseconds, null without response times
+   */
+  public Double getMeanResponseTime() {
+    return responseTimeCount == 0 ? null : (double) sumResponseTime / responseTimeCount;
+  }
+}
@@ -0,0 +1,45 @@
+package com.hansecom.monitoringservice.persistence.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a job execution, with the columns returned by the listing.
+ *
+ * <p>Selected straight from the query through its constructor, so no entity is hydrated nor tracked
+ * by the persistence context.
+ *
+ * @param id the id, used for keyset pagination
+ * @param externalId the external id
+ * @param jobName the job name
+ * @param url the monitored url
+ * @param status the execution status
+ * @param errorMessage the error message, if failed
+ * @param responseTime the response time in milliseconds
+ * @param responseSize the response body size in bytes
+ * @param responseHash the response body hash
+ * @param dnsNanos time resolving the remote address
+ * @param connectNanos time establishing the TCP connection
+ * @param tlsNanos time doing the TLS handshake
+ * @param ttfbNanos time until the first byte of the response
+ * @param downloadNanos time from the first until the last byte of the response
+ * @param totalNanos total time of the probe
+ * @param createdDate the created date
+ */
+public record JobExecutionView(
+    Long id,
+    UUID externalId,
+    String jobName,
+    String url,
+    JobExecutionStatusEntity status,
+    String errorMessage,
+    Long responseTime,
+    Long responseSize,
+    String responseHash,
+    Long dnsNanos,
+    Long connectNanos,
+    Long tlsNanos,
+    Long ttfbNanos,
+    Long downloadNanos,
+    Long totalNanos,
+    Instant createdDate) {}
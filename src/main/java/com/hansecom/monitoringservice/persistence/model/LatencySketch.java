@@ -0,0 +1,288 @@
+package com.hansecom.monitoringservice.persistence.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+/**
+ * Mergeable sketch of response times in milliseconds, in the style of DDSketch.
+ *
+ * <p>Values are counted in logarithmic bins, each bin covering values within {@link
+ * #RELATIVE_ACCURACY} of each other, so any quantile is estimated with that relative error whatever
+ * the number of values. Sketches of different job executions or time buckets are merged by adding
+ * their bins, which gives the same sketch as counting all the values at once.
+ *
+ * <p>The bins are held in a dense array from the lowest to the highest used bin, a few dozens for
+ * the response times of a job, and serialized as variable length integers. Not thread safe.
+ */
+public final class LatencySketch {
+
+  /** Max relative error of the estimated quantiles. */
+  public static final double RELATIVE_ACCURACY = 0.01;
+
+  private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+
+  private static final double LOG_GAMMA = Math.log(GAMMA);
+
+  private static final byte VERSION = 1;
+
+  private static final long[] NO_BINS = new long[0];
+
+  /** Values below 1 ms, not covered by the logarithmic bins. */
+  private long zeroCount;
+
+  /** Index of the first bin of {@link #bins}. */
+  private int offset;
+
+  private long[] bins = NO_BINS;
+
+  private long count;
+
+  /**
+   * Adds a response time.
+   *
+   * @param value the response time in milliseconds
+   */
+  public void add(long value) {
+    add(value, 1);
+  }
+
+  /**
+   * Adds the same response time several times.
+   *
+   * @param value the response time in milliseconds
+   * @param times number of times to add it
+   */
+  public void add(long value, long times) {
+
+    if (times <= 0) {
+      return;
+    }
+
+    count += times;
+    if (value < 1) {
+      zeroCount += times;
+      return;
+    }
+
+    int index = index(value);
+    ensureCapacity(index, index);
+    bins[index - offset] += times;
+  }
+
+  /**
+   * Adds all the response times of another sketch.
+   *
+   * @param other the sketch to merge, not modified
+   */
+  public void merge(LatencySketch other) {
+
+    if (other.count == 0) {
+      return;
+    }
+
+    count += other.count;
+    zeroCount += other.zeroCount;
+    if (other.bins.length == 0) {
+      return;
+    }
+
+    ensureCapacity(other.offset, other.offset + other.bins.length - 1);
+    for (int i = 0; i < other.bins.length; i++) {
+      bins[other.offset + i - offset] += other.bins[i];
+    }
+  }
+
+  /**
+   * Gets the number of response times added.
+   *
+   * @return the number of response times
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Estimates a quantile of the response times.
+   *
+   * @param quantile the quantile, between 0 and 1
+   * @return the estimated response time in milliseconds, empty if the sketch is empty
+   * @throws IllegalArgumentException if the quantile is not between 0 and 1
+   */
+  public OptionalDouble quantile(double quantile) {
+
+    if (quantile < 0 || quantile > 1) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+    }
+    if (count == 0) {
+      return OptionalDouble.empty();
+    }
+
+    double rank = quantile * (count - 1);
+    long seen = zeroCount;
+    if (rank < seen) {
+      return OptionalDouble.of(0);
+    }
+    for (int i = 0; i < bins.length; i++) {
+      seen += bins[i];
+      if (rank < seen) {
+        return OptionalDouble.of(value(offset + i));
+      }
+    }
+    return OptionalDouble.of(value(offset + bins.length - 1));
+  }
+
+  /**
+   * Serializes the sketch, see {@link #fromBytes(byte[])}.
+   *
+   * @return the serialized sketch
+   */
+  public byte[] toBytes() {
+
+    int first = 0;
+    int last = bins.length - 1;
+    while (first <= last && bins[first] == 0) {
+      first++;
+    }
+    while (last >= first && bins[last] == 0) {
+      last--;
+    }
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(16 + (last - first + 1) * 2);
+    outputStream.write(VERSION);
+    writeVarLong(outputStream, zeroCount);
+    writeVarLong(outputStream, zigZag(offset + first));
+    writeVarLong(outputStream, last - first + 1L);
+    for (int i = first; i <= last; i++) {
+      writeVarLong(outputStream, bins[i]);
+    }
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Deserializes a sketch serialized with {@link #toBytes()}.
+   *
+   * @param bytes the serialized sketch
+   * @return the sketch
+   * @throws IllegalArgumentException if the bytes are not a serialized sketch
+   */
+  public static LatencySketch fromBytes(byte[] bytes) {
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    try {
+      if (buffer.get() != VERSION) {
+        throw new IllegalArgumentException("Unknown latency sketch version");
+      }
+
+      LatencySketch sketch = new LatencySketch();
+      sketch.zeroCount = readVarLong(buffer);
+      sketch.offset = (int) unZigZag(readVarLong(buffer));
+      long length = readVarLong(buffer);
+      if (length > buffer.remaining()) {
+        throw new IllegalArgumentException("Truncated latency sketch");
+      }
+
+      sketch.bins = new long[(int) length];
+      sketch.count = sketch.zeroCount;
+      for (int i = 0; i < length; i++) {
+        sketch.bins[i] = readVarLong(buffer);
+        sketch.count += sketch.bins[i];
+      }
+      return sketch;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated latency sketch", e);
+    }
+  }
+
+  /**
+   * Gets the bin of a value, the bin {@code i} covers the values in {@code (GAMMA^(i-1), GAMMA^i]}.
+   *
+   * @param value the value, at least 1
+   * @return the bin index
+   */
+  private static int index(long value) {
+    return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+  }
+
+  /**
+   * Gets the value representing a bin, within the relative accuracy of all the values of the bin.
+   *
+   * @param index the bin index
+   * @return the value
+   */
+  private static double value(int index) {
+    return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+  }
+
+  /**
+   * Grows the bins to cover the given bin indexes.
+   *
+   * @param minIndex lowest bin index to cover
+   * @param maxIndex highest bin index to cover
+   */
+  private void ensureCapacity(int minIndex, int maxIndex) {
+
+    if (bins.length == 0) {
+      offset = minIndex;
+      bins = new long[maxIndex - minIndex + 1];
+      return;
+    }
+
+    int newOffset = Math.min(offset, minIndex);
+    int newLength = Math.max(offset + bins.length, maxIndex + 1) - newOffset;
+    if (newOffset == offset && newLength == bins.length) {
+      return;
+    }
+
+    long[] newBins = new long[newLength];
+    System.arraycopy(bins, 0, newBins, offset - newOffset, bins.length);
+    bins = newBins;
+    offset = newOffset;
+  }
+
+  private static void writeVarLong(ByteArrayOutputStream outputStream, long value) {
+    while ((value & ~0x7FL) != 0) {
+      outputStream.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    outputStream.write((int) value);
+  }
+
+  private static long readVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed latency sketch");
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LatencySketch other)) {
+      return false;
+    }
+    return Arrays.equals(toBytes(), other.toBytes());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toBytes());
+  }
+}
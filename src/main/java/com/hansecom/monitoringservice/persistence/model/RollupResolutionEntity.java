@@ -0,0 +1,37 @@
+package com.hansecom.monitoringservice.persistence.model;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** Possible time bucket sizes of the job execution rollups in the database, in UTC. */
+@Getter
+@RequiredArgsConstructor
+public enum RollupResolutionEntity {
+  MINUTE(ChronoUnit.MINUTES),
+  HOUR(ChronoUnit.HOURS),
+  DAY(ChronoUnit.DAYS);
+
+  private final ChronoUnit unit;
+
+  /**
+   * Gets the start of the bucket containing the instant.
+   *
+   * @param instant the instant
+   * @return the start of its bucket
+   */
+  public Instant bucketStart(Instant instant) {
+    return instant.truncatedTo(unit);
+  }
+
+  /**
+   * Tells if the instant is the start of a bucket.
+   *
+   * @param instant the instant
+   * @return true if it is a bucket boundary
+   */
+  public boolean isBucketStart(Instant instant) {
+    return bucketStart(instant).equals(instant);
+  }
+}
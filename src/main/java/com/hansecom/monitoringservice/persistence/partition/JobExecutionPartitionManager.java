@@ -0,0 +1,243 @@
+package com.hansecom.monitoringservice.persistence.partition;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Manages the daily partitions of the {@code job_execution} table.
+ *
+ * <p>Periodically, and once on startup, creates the partitions for today and the next days, so job
+ * executions never land on the default partition. A partition created late takes over the rows of
+ * its day already in the default partition. When a retention is configured, the daily partitions
+ * older than the retention are dropped as a whole, which is much cheaper than deleting rows and
+ * leaves nothing to vacuum.
+ *
+ * <p>An expired partition is first detached, concurrently when the table has no default partition
+ * as PostgreSQL does not allow it otherwise, then dropped. Both wait at most the lock timeout for
+ * their locks, so they never queue the job execution reads and writes behind them, a partition not
+ * dropped is retried on the next run.
+ *
+ * <p>Configured through the properties under {@code custom-properties.job-execution.partitions},
+ * the retention is disabled by default.
+ */
+@Slf4j
+@Component
+public class JobExecutionPartitionManager {
+
+  private static final Pattern PARTITION_NAME = Pattern.compile("job_execution_p(\\d{8})");
+
+  /** The daily partitions, also the ones detached but not dropped yet. */
+  private static final String LIST_PARTITIONS =
+      """
+      SELECT c.relname,
+             CASE
+                 WHEN i.inhrelid IS NULL THEN 'DETACHED'
+                 WHEN i.inhdetachpending THEN 'DETACH_PENDING'
+                 ELSE 'ATTACHED'
+                 END
+      FROM pg_class c
+               LEFT JOIN pg_inherits i
+                         ON i.inhrelid = c.oid AND i.inhparent = 'job_execution'::regclass
+      WHERE c.relkind = 'r'
+        AND c.relname LIKE 'job_execution_p%'
+        AND c.relnamespace = (SELECT relnamespace FROM pg_class WHERE oid = 'job_execution'::regclass)
+      """;
+
+  private static final String HAS_DEFAULT_PARTITION =
+      "SELECT partdefid <> 0 FROM pg_partitioned_table WHERE partrelid = 'job_execution'::regclass";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final int premakeDays;
+
+  private final int retentionDays;
+
+  private final Duration lockTimeout;
+
+  /**
+   * Constructor.
+   *
+   * @param jdbcTemplate to manage the partitions
+   * @param premakeDays number of days ahead to create partitions for
+   * @param retentionDays number of days to keep, older partitions are dropped, 0 to keep all
+   * @param lockTimeout max time to wait for the locks to detach and drop a partition
+   */
+  public JobExecutionPartitionManager(
+      JdbcTemplate jdbcTemplate,
+      @Value("${custom-properties.job-execution.partitions.premake-days:7}") int premakeDays,
+      @Value("${custom-properties.job-execution.partitions.retention-days:0}") int retentionDays,
+      @Value("${custom-properties.job-execution.partitions.lock-timeout:PT5S}")
+          Duration lockTimeout) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.premakeDays = premakeDays;
+    this.retentionDays = retentionDays;
+    this.lockTimeout = lockTimeout;
+  }
+
+  /** Creates the upcoming partitions and drops the expired ones. */
+  @Scheduled(
+      initialDelayString = "${custom-properties.job-execution.partitions.initial-delay:PT0S}",
+      fixedDelayString = "${custom-properties.job-execution.partitions.interval:PT1H}")
+  public void managePartitions() {
+
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+    try {
+      createPartitions(today);
+      dropPartitions(today);
+    } catch (DataAccessException e) {
+      log.error("Error managing job execution partitions", e);
+    }
+  }
+
+  /**
+   * Creates the partitions from today until the premake days, the existing ones are kept.
+   *
+   * @param today current day in UTC
+   */
+  private void createPartitions(LocalDate today) {
+    for (int day = 0; day <= premakeDays; day++) {
+      String partition =
+          jdbcTemplate.queryForObject(
+              "SELECT create_job_execution_partition(?)", String.class, today.plusDays(day));
+      log.trace("Job execution partition {} ready", partition);
+    }
+  }
+
+  /**
+   * Drops the partitions older than the retention, if enabled.
+   *
+   * @param today current day in UTC
+   */
+  private void dropPartitions(LocalDate today) {
+
+    if (retentionDays <= 0) {
+      return;
+    }
+
+    LocalDate oldestKept = today.minusDays(retentionDays);
+    List<Partition> expired =
+        jdbcTemplate
+            .query(
+                LIST_PARTITIONS,
+                (resultSet, rowNum) ->
+                    new Partition(
+                        resultSet.getString(1), PartitionState.valueOf(resultSet.getString(2))))
+            .stream()
+            .filter(
+                partition ->
+                    partitionDay(partition.name())
+                        .filter(day -> day.isBefore(oldestKept))
+                        .isPresent())
+            .toList();
+
+    if (expired.isEmpty()) {
+      return;
+    }
+
+    boolean concurrently =
+        !Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_DEFAULT_PARTITION, Boolean.class));
+
+    for (Partition partition : expired) {
+      try {
+        dropPartition(partition, concurrently);
+        log.info("Dropped job execution partition {}", partition.name());
+      } catch (DataAccessException e) {
+        log.warn(
+            "Job execution partition {} not dropped, retried on the next run", partition.name(), e);
+      }
+    }
+  }
+
+  /**
+   * Detaches the partition, if attached, and drops it, on the same connection so the lock timeout
+   * applies to both.
+   *
+   * @param partition the expired partition
+   * @param concurrently whether to detach without locking the job executions of the other days
+   */
+  private void dropPartition(Partition partition, boolean concurrently) {
+
+    // the name is safe to concatenate, it matched the partition name pattern
+    String name = partition.name();
+
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              try (Statement statement = connection.createStatement()) {
+                statement.execute("SET lock_timeout = " + lockTimeout.toMillis());
+                try {
+                  switch (partition.state()) {
+                    case ATTACHED ->
+                        statement.execute(
+                            "ALTER TABLE job_execution DETACH PARTITION "
+                                + name
+                                + (concurrently ? " CONCURRENTLY" : ""));
+                      // a concurrent detach interrupted after its first transaction
+                    case DETACH_PENDING ->
+                        statement.execute(
+                            "ALTER TABLE job_execution DETACH PARTITION " + name + " FINALIZE");
+                    case DETACHED -> {
+                      // detached on a previous run, not dropped
+                    }
+                  }
+                  statement.execute("DROP TABLE IF EXISTS " + name);
+                } finally {
+                  // the connection goes back to the pool
+                  statement.execute("RESET lock_timeout");
+                }
+              }
+              return null;
+            });
+  }
+
+  /**
+   * Gets the day of a daily partition from its name.
+   *
+   * @param partition the partition name
+   * @return the day, empty if not a daily partition
+   */
+  private static Optional<LocalDate> partitionDay(String partition) {
+
+    Matcher matcher = PARTITION_NAME.matcher(partition);
+    if (!matcher.matches()) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(LocalDate.parse(matcher.group(1), DateTimeFormatter.BASIC_ISO_DATE));
+    } catch (DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * A daily partition.
+   *
+   * @param name the table name
+   * @param state whether it is still attached to {@code job_execution}
+   */
+  private record Partition(String name, PartitionState state) {}
+
+  /** Possible states of a daily partition. */
+  private enum PartitionState {
+    ATTACHED,
+    DETACH_PENDING,
+    DETACHED
+  }
+}
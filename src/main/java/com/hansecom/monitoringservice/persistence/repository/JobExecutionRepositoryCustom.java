@@ -2,9 +2,13 @@ package com.hansecom.monitoringservice.persistence.repository;
 
 import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
-import org.springframework.data.domain.Page;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Slice;
 import org.springframework.validation.annotation.Validated;
 
 /** Job execution repository with custom queries. */
@@ -12,11 +16,75 @@ import org.springframework.validation.annotation.Validated;
 public interface JobExecutionRepositoryCustom {
 
   /**
-   * Method that performs dynamic queries according to the input.
+   * Method that performs dynamic queries according to the input, selecting straight into read-only
+   * {@link JobExecutionView} projections.
+   *
+   * <p>When the params have a cursor, only the job executions after it are returned, the pageable
+   * should then request the first page sorted by created date and id in the cursor direction.
+   *
+   * <p>The total elements are not counted, it only tells if there is a next page by fetching one
+   * extra row. The total comes from {@link #countByCriteria(JobExecutionCriteriaParams)}, which
+   * ignores the cursor.
+   *
+   * <p>Cheaper for listings, no entity is hydrated nor tracked by the persistence context and the
+   * session is never flushed.
    *
    * @param jobExecutionCriteriaParams object holding criteria parameters
-   * @return a {@link Page} containing the results and pagination information
+   * @return a {@link Slice} containing the projections and if there is a next page
    */
-  Page<JobExecutionEntity> findByCriteria(
+  Slice<JobExecutionView> findViewsByCriteria(
       @NotNull @Valid JobExecutionCriteriaParams jobExecutionCriteriaParams);
+
+  /**
+   * Streams the job executions matching the criteria as read-only {@link JobExecutionView}
+   * projections to the consumer, in the order of the pageable sort, ignoring the page.
+   *
+   * <p>Rows are read from a server-side cursor, a batch at a time, so the memory used does not
+   * depend on the number of job executions. The read-only transaction stays open until the consumer
+   * gets the last job execution.
+   *
+   * @param jobExecutionCriteriaParams object holding criteria parameters
+   * @param consumer called with each job execution, its exceptions stop the stream
+   * @return the number of job executions consumed
+   */
+  long forEachViewByCriteria(
+      @NotNull @Valid JobExecutionCriteriaParams jobExecutionCriteriaParams,
+      @NotNull Consumer<JobExecutionView> consumer);
+
+  /**
+   * Finds the latest job executions of every job, read-only {@link JobExecutionView} projections
+   * sorted by job name and newest first.
+   *
+   * <p>The job names are walked through the job name index one at a time instead of scanning the
+   * table, and the latest job executions of each job read from the same index, so the cost depends
+   * on the number of jobs and not on the number of job executions.
+   *
+   * @param limit max job executions per job
+   * @return the latest job executions of each job
+   */
+  List<JobExecutionView> findLatestPerJob(@Min(1) int limit);
+
+  /**
+   * Counts the job executions matching the criteria, ignoring the cursor and the pageable.
+   *
+   * <p>The count is exact, or the PostgreSQL planner estimate when {@link
+   * JobExecutionCriteriaParams#getEstimateTotal()} is true. The estimate costs the same whatever
+   * the table size, but is only as accurate as the table statistics.
+   *
+   * @param jobExecutionCriteriaParams object holding criteria parameters
+   * @return the number of matching job executions
+   */
+  long countByCriteria(@NotNull @Valid JobExecutionCriteriaParams jobExecutionCriteriaParams);
+
+  /**
+   * Bulk inserts the job executions with PostgreSQL {@code COPY} in binary format.
+   *
+   * <p>Much faster than batched inserts for large amounts of rows. The entities bypass the
+   * persistence context, their audit columns, external id and trace id are filled the same way as
+   * on a regular save, but the ids are not set back.
+   *
+   * @param jobExecutionEntities the job executions to insert
+   * @return the number of inserted rows
+   */
+  long copyAll(@NotNull List<JobExecutionEntity> jobExecutionEntities);
 }
@@ -0,0 +1,52 @@
+package com.hansecom.monitoringservice.persistence.repository;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionRollup;
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.validation.annotation.Validated;
+
+/** Interface for {@link JobExecutionRollup} database operations. */
+@Validated
+public interface JobExecutionRollupRepository {
+
+  /**
+   * Adds saved job executions to the rollups of their job, for every resolution.
+   *
+   * <p>Joins the transaction saving the job executions, so rollups and job executions are committed
+   * together. The updated rollups are locked until then, concurrent writers of the same buckets
+   * wait for each other.
+   *
+   * @param jobExecutionEntities the saved job executions, with their created date
+   * @return the number of updated rollups
+   */
+  int record(@NotNull List<JobExecutionEntity> jobExecutionEntities);
+
+  /**
+   * Finds the rollups of the buckets starting within the time range, sorted by job name and bucket
+   * start.
+   *
+   * @param resolution the bucket size
+   * @param jobName only the rollups of this job, if present
+   * @param from start of the range, inclusive
+   * @param to end of the range, exclusive
+   * @return the rollups, buckets without job executions are missing
+   */
+  List<JobExecutionRollup> findRollups(
+      @NotNull RollupResolutionEntity resolution,
+      @NotNull Optional<String> jobName,
+      @NotNull Instant from,
+      @NotNull Instant to);
+
+  /**
+   * Deletes the rollups of the buckets starting before the instant.
+   *
+   * @param resolution the bucket size
+   * @param before the oldest bucket start kept
+   * @return the number of deleted rollups
+   */
+  int deleteOlderThan(@NotNull RollupResolutionEntity resolution, @NotNull Instant before);
+}
@@ -0,0 +1,152 @@
+package com.hansecom.monitoringservice.persistence.repository.impl;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Encodes job executions in the PostgreSQL binary {@code COPY} format.
+ *
+ * <p>The id is not part of the copied columns, it is filled by the column default from the same
+ * sequence used by Hibernate.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY binary format</a>
+ */
+final class JobExecutionCopyEncoder {
+
+  /** Statement to copy the encoded job executions, the column order matches the encoded fields. */
+  static final String COPY_SQL =
+      "COPY job_execution (external_id, job_name, url, status, response_time, error_message,"
+          + " created_date, last_modified_date, created_by, last_modified_by, trace_id,"
+          + " response_size, response_hash, dns_nanos, connect_nanos, tls_nanos, ttfb_nanos,"
+          + " download_nanos, total_nanos) FROM STDIN (FORMAT binary)";
+
+  private static final short FIELD_COUNT = 19;
+
+  private static final byte[] SIGNATURE = {
+    'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0
+  };
+
+  private static final Instant POSTGRES_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+  private final DataOutputStream out;
+
+  /**
+   * Constructor.
+   *
+   * @param out where the copy data is written, should be buffered
+   */
+  JobExecutionCopyEncoder(OutputStream out) {
+    this.out = new DataOutputStream(out);
+  }
+
+  /**
+   * Writes the header, must be called once before the job executions.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  void writeHeader() throws IOException {
+    out.write(SIGNATURE);
+    // flags
+    out.writeInt(0);
+    // header extension length
+    out.writeInt(0);
+  }
+
+  /**
+   * Writes a job execution as a tuple.
+   *
+   * @param entity the job execution, with all the audit columns filled
+   * @throws IOException if an I/O error occurs
+   */
+  void write(JobExecutionEntity entity) throws IOException {
+    out.writeShort(FIELD_COUNT);
+    writeUuid(entity.getExternalId());
+    writeText(entity.getJobName());
+    writeText(entity.getUrl());
+    writeText(entity.getStatus() == null ? null : entity.getStatus().name());
+    // response_time is an INT column
+    writeInt(entity.getResponseTime() == null ? null : Math.toIntExact(entity.getResponseTime()));
+    writeText(entity.getErrorMessage());
+    writeTimestamp(entity.getCreatedDate());
+    writeTimestamp(entity.getLastModifiedDate());
+    writeText(entity.getCreatedBy());
+    writeText(entity.getLastModifiedBy());
+    writeText(entity.getTraceId());
+    writeLong(entity.getResponseSize());
+    writeText(entity.getResponseHash());
+    writeLong(entity.getDnsNanos());
+    writeLong(entity.getConnectNanos());
+    writeLong(entity.getTlsNanos());
+    writeLong(entity.getTtfbNanos());
+    writeLong(entity.getDownloadNanos());
+    writeLong(entity.getTotalNanos());
+  }
+
+  /**
+   * Writes the trailer and flushes, must be called once after the job executions.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  void writeTrailer() throws IOException {
+    out.writeShort(-1);
+    out.flush();
+  }
+
+  private void writeNull() throws IOException {
+    out.writeInt(-1);
+  }
+
+  private void writeText(String value) throws IOException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private void writeInt(Integer value) throws IOException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    out.writeInt(Integer.BYTES);
+    out.writeInt(value);
+  }
+
+  private void writeLong(Long value) throws IOException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    out.writeInt(Long.BYTES);
+    out.writeLong(value);
+  }
+
+  private void writeUuid(UUID value) throws IOException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    out.writeInt(2 * Long.BYTES);
+    out.writeLong(value.getMostSignificantBits());
+    out.writeLong(value.getLeastSignificantBits());
+  }
+
+  /** Timestamps are encoded as microseconds since the PostgreSQL epoch. */
+  private void writeTimestamp(Instant value) throws IOException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    out.writeInt(Long.BYTES);
+    out.writeLong(ChronoUnit.MICROS.between(POSTGRES_EPOCH, value));
+  }
+}
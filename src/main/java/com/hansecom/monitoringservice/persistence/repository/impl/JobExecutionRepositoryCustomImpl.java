@@ -1,60 +1,353 @@
 package com.hansecom.monitoringservice.persistence.repository.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hansecom.monitoringservice.persistence.model.AbstractModelEntity_;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCursor;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity_;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
 import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepositoryCustom;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /** Implementation for Job Execution custom queries. */
 @Repository
 public class JobExecutionRepositoryCustomImpl implements JobExecutionRepositoryCustom {
 
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private static final String ESTIMATE_SQL = "EXPLAIN (FORMAT JSON) SELECT 1 FROM job_execution";
+
+  // a skip scan, PostgreSQL has none: each step seeks the next job name in the index
+  private static final String LATEST_PER_JOB_SQL =
+      """
+      WITH RECURSIVE job AS (
+          (SELECT job_name FROM job_execution ORDER BY job_name LIMIT 1)
+          UNION ALL
+          SELECT (SELECT e.job_name
+                  FROM job_execution e
+                  WHERE e.job_name > job.job_name
+                  ORDER BY e.job_name
+                  LIMIT 1)
+          FROM job
+          WHERE job.job_name IS NOT NULL)
+      SELECT latest.*
+      FROM job
+               CROSS JOIN LATERAL (
+          SELECT e.id, e.external_id, e.job_name, e.url, e.status, e.error_message, e.response_time,
+                 e.response_size, e.response_hash, e.dns_nanos, e.connect_nanos, e.tls_nanos,
+                 e.ttfb_nanos, e.download_nanos, e.total_nanos, e.created_date
+          FROM job_execution e
+          WHERE e.job_name = job.job_name
+          ORDER BY e.created_date DESC, e.id DESC
+          LIMIT ?) latest
+      ORDER BY latest.job_name, latest.created_date DESC, latest.id DESC
+      """;
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   @PersistenceContext private EntityManager entityManager;
 
+  @Value("${custom-properties.job-execution.export.fetch-size:1000}")
+  private int exportFetchSize;
+
+  private final AuditorAware<String> auditorAware;
+
+  /**
+   * Constructor.
+   *
+   * @param auditorAware provides the user to fill the audit columns on bulk inserts
+   */
+  public JobExecutionRepositoryCustomImpl(AuditorAware<String> auditorAware) {
+    this.auditorAware = auditorAware;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Slice<JobExecutionView> findViewsByCriteria(
+      @NotNull @Valid JobExecutionCriteriaParams jobExecutionCriteriaParams) {
+
+    TypedQuery<JobExecutionView> query =
+        createQuery(
+            jobExecutionCriteriaParams,
+            JobExecutionView.class,
+            JobExecutionRepositoryCustomImpl::view,
+            1);
+
+    // nothing to flush before a read-only query
+    query.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    query.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+    return slice(query.getResultList(), jobExecutionCriteriaParams.getPageable());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long forEachViewByCriteria(
+      @NotNull @Valid JobExecutionCriteriaParams jobExecutionCriteriaParams,
+      @NotNull Consumer<JobExecutionView> consumer) {
+
+    TypedQuery<JobExecutionView> query =
+        createQuery(
+            jobExecutionCriteriaParams,
+            JobExecutionView.class,
+            JobExecutionRepositoryCustomImpl::view,
+            0);
+
+    query.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    query.setHint(HibernateHints.HINT_READ_ONLY, true);
+    // the driver only uses a cursor inside a transaction and with a fetch size
+    query.setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize);
+
+    long count = 0;
+    try (Stream<JobExecutionView> views = query.getResultStream()) {
+      Iterator<JobExecutionView> iterator = views.iterator();
+      while (iterator.hasNext()) {
+        consumer.accept(iterator.next());
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<JobExecutionView> findLatestPerJob(@Min(1) int limit) {
+
+    return entityManager
+        .unwrap(Session.class)
+        .doReturningWork(
+            connection -> {
+              try (PreparedStatement statement = connection.prepareStatement(LATEST_PER_JOB_SQL)) {
+                statement.setInt(1, limit);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                  List<JobExecutionView> views = new ArrayList<>();
+                  while (resultSet.next()) {
+                    views.add(view(resultSet));
+                  }
+                  return views;
+                }
+              }
+            });
+  }
+
   @Override
-  public Page<JobExecutionEntity> findByCriteria(
+  @Transactional(readOnly = true)
+  public long countByCriteria(
       @NotNull @Valid JobExecutionCriteriaParams jobExecutionCriteriaParams) {
 
+    return Boolean.TRUE.equals(jobExecutionCriteriaParams.getEstimateTotal())
+        ? estimateRecords(jobExecutionCriteriaParams)
+        : countRecords(jobExecutionCriteriaParams);
+  }
+
+  @Override
+  @Transactional
+  public long copyAll(@NotNull List<JobExecutionEntity> jobExecutionEntities) {
+
+    if (jobExecutionEntities.isEmpty()) {
+      return 0;
+    }
+
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    String auditor = auditorAware.getCurrentAuditor().orElse(null);
+
+    return entityManager
+        .unwrap(Session.class)
+        .doReturningWork(
+            connection -> {
+              CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+              PGCopyOutputStream copyOut =
+                  new PGCopyOutputStream(copyManager.copyIn(JobExecutionCopyEncoder.COPY_SQL));
+
+              try {
+                JobExecutionCopyEncoder encoder =
+                    new JobExecutionCopyEncoder(
+                        new BufferedOutputStream(copyOut, COPY_BUFFER_SIZE));
+                encoder.writeHeader();
+                for (JobExecutionEntity entity : jobExecutionEntities) {
+                  if (entity.getCreatedDate() == null) {
+                    entity.setCreatedDate(now);
+                  }
+                  entity.prePersist();
+                  entity.setLastModifiedDate(now);
+                  entity.setCreatedBy(auditor);
+                  entity.setLastModifiedBy(auditor);
+                  encoder.write(entity);
+                }
+                encoder.writeTrailer();
+                return copyOut.endCopy();
+              } catch (IOException e) {
+                throw new SQLException("Error copying job executions", e);
+              } finally {
+                // never leave a partial copy to be committed
+                if (copyOut.isActive()) {
+                  copyOut.cancelCopy();
+                }
+              }
+            });
+  }
+
+  /**
+   * Method that creates the query for the records matching the params for the requested page.
+   *
+   * <p>Package-private for the criteria benchmark.
+   *
+   * @param jobExecutionCriteriaParams parameters to filter by
+   * @param resultClass the class of the selected results
+   * @param selection what to select from the job executions
+   * @param extraRows rows to fetch beyond the page size
+   * @param <T> the type of the selected results
+   * @return the query for the records of the page, plus the extra rows if there are more
+   */
+  <T> TypedQuery<T> createQuery(
+      JobExecutionCriteriaParams jobExecutionCriteriaParams,
+      Class<T> resultClass,
+      BiFunction<CriteriaBuilder, Root<JobExecutionEntity>, Selection<? extends T>> selection,
+      int extraRows) {
+
     CriteriaBuilder builder = entityManager.getCriteriaBuilder();
 
-    CriteriaQuery<JobExecutionEntity> criteria = builder.createQuery(JobExecutionEntity.class);
+    CriteriaQuery<T> criteria = builder.createQuery(resultClass);
     Root<JobExecutionEntity> csrRoot = criteria.from(JobExecutionEntity.class);
+    criteria.select(selection.apply(builder, csrRoot));
 
     List<Predicate> predicates = getPredicates(jobExecutionCriteriaParams, builder, csrRoot);
+    jobExecutionCriteriaParams
+        .getAfter()
+        .ifPresent(cursor -> predicates.add(seekPredicate(cursor, builder, csrRoot)));
 
     criteria.where(builder.and(predicates.toArray(new Predicate[0])));
 
     Pageable pageable = jobExecutionCriteriaParams.getPageable();
     criteria.orderBy(QueryUtils.toOrders(pageable.getSort(), csrRoot, builder));
 
-    TypedQuery<JobExecutionEntity> query = entityManager.createQuery(criteria);
+    TypedQuery<T> query = entityManager.createQuery(criteria);
 
     if (pageable.isPaged()) {
-      query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+      query
+          .setFirstResult((int) pageable.getOffset())
+          .setMaxResults(pageable.getPageSize() + extraRows);
     }
 
-    List<JobExecutionEntity> result = query.getResultList();
+    return query;
+  }
+
+  /**
+   * Method that converts the records fetched with one extra row into a slice.
+   *
+   * @param result the records of the page plus the extra row, if there are more
+   * @param pageable the requested page
+   * @param <T> the type of the records
+   * @return the slice with the records of the page
+   */
+  private static <T> Slice<T> slice(List<T> result, Pageable pageable) {
+
+    boolean hasNext = pageable.isPaged() && result.size() > pageable.getPageSize();
+
+    return new SliceImpl<>(
+        hasNext ? result.subList(0, pageable.getPageSize()) : result, pageable, hasNext);
+  }
 
-    Long count = countRecords(jobExecutionCriteriaParams);
+  /**
+   * Method that selects the columns of {@link JobExecutionView}, in the constructor order.
+   *
+   * @param builder the criteria builder
+   * @param csrRoot the root object
+   * @return the projection selection
+   */
+  private static Selection<JobExecutionView> view(
+      CriteriaBuilder builder, Root<JobExecutionEntity> csrRoot) {
+
+    return builder.construct(
+        JobExecutionView.class,
+        csrRoot.get(AbstractModelEntity_.ID),
+        csrRoot.get(AbstractModelEntity_.EXTERNAL_ID),
+        csrRoot.get(JobExecutionEntity_.JOB_NAME),
+        csrRoot.get(JobExecutionEntity_.URL),
+        csrRoot.get(JobExecutionEntity_.STATUS),
+        csrRoot.get(JobExecutionEntity_.ERROR_MESSAGE),
+        csrRoot.get(JobExecutionEntity_.RESPONSE_TIME),
+        csrRoot.get(JobExecutionEntity_.RESPONSE_SIZE),
+        csrRoot.get(JobExecutionEntity_.RESPONSE_HASH),
+        csrRoot.get(JobExecutionEntity_.DNS_NANOS),
+        csrRoot.get(JobExecutionEntity_.CONNECT_NANOS),
+        csrRoot.get(JobExecutionEntity_.TLS_NANOS),
+        csrRoot.get(JobExecutionEntity_.TTFB_NANOS),
+        csrRoot.get(JobExecutionEntity_.DOWNLOAD_NANOS),
+        csrRoot.get(JobExecutionEntity_.TOTAL_NANOS),
+        csrRoot.get(AbstractModelEntity_.CREATED_DATE));
+  }
+
+  /**
+   * Reads the projection of the current row of a native query.
+   *
+   * @param resultSet the result set, with the columns of {@link JobExecutionView}
+   * @return the projection
+   * @throws SQLException if a column can not be read
+   */
+  private static JobExecutionView view(ResultSet resultSet) throws SQLException {
 
-    return new PageImpl<>(result, pageable, count);
+    return new JobExecutionView(
+        resultSet.getLong("id"),
+        resultSet.getObject("external_id", UUID.class),
+        resultSet.getString("job_name"),
+        resultSet.getString("url"),
+        JobExecutionStatusEntity.valueOf(resultSet.getString("status")),
+        resultSet.getString("error_message"),
+        resultSet.getObject("response_time", Long.class),
+        resultSet.getObject("response_size", Long.class),
+        resultSet.getString("response_hash"),
+        resultSet.getObject("dns_nanos", Long.class),
+        resultSet.getObject("connect_nanos", Long.class),
+        resultSet.getObject("tls_nanos", Long.class),
+        resultSet.getObject("ttfb_nanos", Long.class),
+        resultSet.getObject("download_nanos", Long.class),
+        resultSet.getObject("total_nanos", Long.class),
+        resultSet.getObject("created_date", OffsetDateTime.class).toInstant());
   }
 
   /**
@@ -77,6 +370,121 @@ public class JobExecutionRepositoryCustomImpl implements JobExecutionRepositoryC
     return entityManager.createQuery(countQuery).getSingleResult();
   }
 
+  /**
+   * Method that estimates the records matching the params with the PostgreSQL planner.
+   *
+   * <p>The planner estimate comes from the table statistics, so it costs the same whatever the
+   * table size, but it may be off for recent inserts or correlated filters.
+   *
+   * @param jobExecutionCriteriaParams parameters to filter by
+   * @return estimated number of records matching the params
+   */
+  private long estimateRecords(JobExecutionCriteriaParams jobExecutionCriteriaParams) {
+
+    List<String> conditions = new ArrayList<>();
+    List<Object> values = new ArrayList<>();
+
+    jobExecutionCriteriaParams
+        .getJobName()
+        .ifPresent(
+            jobName -> {
+              conditions.add("job_name = ?");
+              values.add(jobName);
+            });
+    jobExecutionCriteriaParams
+        .getUrl()
+        .ifPresent(
+            url -> {
+              conditions.add("url = ?");
+              values.add(url);
+            });
+    jobExecutionCriteriaParams
+        .getStatus()
+        .ifPresent(
+            status -> {
+              conditions.add("status = ?");
+              values.add(status.name());
+            });
+    jobExecutionCriteriaParams
+        .getFrom()
+        .ifPresent(
+            from -> {
+              conditions.add("created_date >= ?");
+              values.add(Timestamp.from(from));
+            });
+    jobExecutionCriteriaParams
+        .getTo()
+        .ifPresent(
+            to -> {
+              conditions.add("created_date <= ?");
+              values.add(Timestamp.from(to));
+            });
+
+    String sql =
+        conditions.isEmpty()
+            ? ESTIMATE_SQL
+            : ESTIMATE_SQL + " WHERE " + String.join(" AND ", conditions);
+
+    return entityManager
+        .unwrap(Session.class)
+        .doReturningWork(
+            connection -> {
+              try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < values.size(); i++) {
+                  statement.setObject(i + 1, values.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                  resultSet.next();
+                  return OBJECT_MAPPER
+                      .readTree(resultSet.getString(1))
+                      .path(0)
+                      .path("Plan")
+                      .path("Plan Rows")
+                      .asLong();
+                } catch (JsonProcessingException e) {
+                  throw new SQLException("Error reading the estimate plan", e);
+                }
+              }
+            });
+  }
+
+  /**
+   * Method that returns the keyset predicate to seek the job executions after the cursor.
+   *
+   * <p>Equivalent to {@code (created_date, id) < (:createdDate, :id)} for descending order, or
+   * {@code >} for ascending order. The redundant bound on the created date alone lets PostgreSQL
+   * use it as an index range and to prune partitions, so every page costs the same as the first.
+   *
+   * @param cursor the position of the last job execution of the previous page
+   * @param builder the criteria builder
+   * @param csrRoot the root object
+   * @return the seek predicate
+   */
+  private static Predicate seekPredicate(
+      JobExecutionCursor cursor, CriteriaBuilder builder, Root<JobExecutionEntity> csrRoot) {
+
+    Path<Instant> createdDate = csrRoot.get(AbstractModelEntity_.CREATED_DATE);
+    Path<Long> id = csrRoot.get(AbstractModelEntity_.ID);
+
+    if (cursor.direction().isAscending()) {
+      return builder.and(
+          builder.greaterThanOrEqualTo(createdDate, cursor.createdDate()),
+          builder.or(
+              builder.greaterThan(createdDate, cursor.createdDate()),
+              builder.and(
+                  builder.equal(createdDate, cursor.createdDate()),
+                  builder.greaterThan(id, cursor.id()))));
+    }
+
+    return builder.and(
+        builder.lessThanOrEqualTo(createdDate, cursor.createdDate()),
+        builder.or(
+            builder.lessThan(createdDate, cursor.createdDate()),
+            builder.and(
+                builder.equal(createdDate, cursor.createdDate()),
+                builder.lessThan(id, cursor.id()))));
+  }
+
   /**
    * Method that returns a list of predicates based on the parameters.
    *
@@ -0,0 +1,244 @@
+package com.hansecom.monitoringservice.persistence.repository.impl;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionRollup;
+import com.hansecom.monitoringservice.persistence.model.LatencySketch;
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRollupRepository;
+import jakarta.validation.constraints.NotNull;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Implementation of {@link JobExecutionRollupRepository} with plain JDBC. */
+@Repository
+@RequiredArgsConstructor
+public class JobExecutionRollupRepositoryImpl implements JobExecutionRollupRepository {
+
+  private static final String COLUMNS =
+      "resolution, job_name, bucket_start, executions, failures, min_response_time,"
+          + " max_response_time, sum_response_time, response_time_count, latency_sketch";
+
+  private static final String INSERT_EMPTY =
+      "INSERT INTO job_execution_rollup ("
+          + COLUMNS
+          + ") VALUES (?, ?, ?, 0, 0, NULL, NULL, 0, 0, ?) ON CONFLICT DO NOTHING";
+
+  // the key arrays are sent as text, pgjdbc would send timestamps without their offset
+  private static final String SELECT_FOR_UPDATE =
+      """
+      SELECT r.*
+      FROM job_execution_rollup r
+               JOIN unnest(?::varchar[], ?::varchar[], ?::timestamptz[]) AS k(resolution, job_name, bucket_start)
+                    ON r.resolution = k.resolution
+                        AND r.job_name = k.job_name
+                        AND r.bucket_start = k.bucket_start
+      ORDER BY r.resolution, r.job_name COLLATE "C", r.bucket_start
+      FOR UPDATE OF r
+      """;
+
+  private static final String UPDATE =
+      """
+      UPDATE job_execution_rollup
+      SET executions          = ?,
+          failures            = ?,
+          min_response_time   = ?,
+          max_response_time   = ?,
+          sum_response_time   = ?,
+          response_time_count = ?,
+          latency_sketch      = ?
+      WHERE resolution = ?
+        AND job_name = ?
+        AND bucket_start = ?
+      """;
+
+  private static final String SELECT =
+      "SELECT " + COLUMNS + " FROM job_execution_rollup WHERE resolution = ?";
+
+  /**
+   * Order in which the rollups are locked, the same for every writer to avoid deadlocks. Matches
+   * the {@code COLLATE "C"} order of the database for the job names.
+   */
+  private static final Comparator<RollupKey> KEY_ORDER =
+      Comparator.comparing((RollupKey key) -> key.resolution().name())
+          .thenComparing(RollupKey::jobName)
+          .thenComparing(RollupKey::bucketStart);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  @Transactional
+  public int record(@NotNull List<JobExecutionEntity> jobExecutionEntities) {
+
+    if (jobExecutionEntities.isEmpty()) {
+      return 0;
+    }
+
+    Map<RollupKey, JobExecutionRollup> rollups = new TreeMap<>(KEY_ORDER);
+    for (JobExecutionEntity jobExecutionEntity : jobExecutionEntities) {
+      Instant createdDate =
+          Optional.ofNullable(jobExecutionEntity.getCreatedDate()).orElseGet(Instant::now);
+      for (RollupResolutionEntity resolution : RollupResolutionEntity.values()) {
+        RollupKey key =
+            new RollupKey(
+                resolution, jobExecutionEntity.getJobName(), resolution.bucketStart(createdDate));
+        rollups
+            .computeIfAbsent(
+                key, k -> JobExecutionRollup.empty(k.resolution(), k.jobName(), k.bucketStart()))
+            .add(jobExecutionEntity);
+      }
+    }
+
+    List<RollupKey> keys = new ArrayList<>(rollups.keySet());
+    byte[] emptySketch = new LatencySketch().toBytes();
+
+    // the rows must exist to be locked, a concurrent writer may be creating the same buckets
+    jdbcTemplate.batchUpdate(
+        INSERT_EMPTY,
+        keys,
+        keys.size(),
+        (ps, key) -> {
+          ps.setString(1, key.resolution().name());
+          ps.setString(2, key.jobName());
+          ps.setObject(3, offsetDateTime(key.bucketStart()));
+          ps.setBytes(4, emptySketch);
+        });
+
+    List<JobExecutionRollup> stored =
+        jdbcTemplate.query(
+            connection -> selectForUpdate(connection, keys), (rs, rowNum) -> rollup(rs));
+    stored.forEach(
+        rollup ->
+            rollups
+                .get(
+                    new RollupKey(
+                        rollup.getResolution(), rollup.getJobName(), rollup.getBucketStart()))
+                .merge(rollup));
+
+    jdbcTemplate.batchUpdate(
+        UPDATE,
+        rollups.values(),
+        rollups.size(),
+        (ps, rollup) -> {
+          ps.setLong(1, rollup.getExecutions());
+          ps.setLong(2, rollup.getFailures());
+          ps.setObject(3, rollup.getMinResponseTime(), Types.BIGINT);
+          ps.setObject(4, rollup.getMaxResponseTime(), Types.BIGINT);
+          ps.setLong(5, rollup.getSumResponseTime());
+          ps.setLong(6, rollup.getResponseTimeCount());
+          ps.setBytes(7, rollup.getLatencySketch().toBytes());
+          ps.setString(8, rollup.getResolution().name());
+          ps.setString(9, rollup.getJobName());
+          ps.setObject(10, offsetDateTime(rollup.getBucketStart()));
+        });
+
+    return rollups.size();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<JobExecutionRollup> findRollups(
+      @NotNull RollupResolutionEntity resolution,
+      @NotNull Optional<String> jobName,
+      @NotNull Instant from,
+      @NotNull Instant to) {
+
+    List<Object> values = new ArrayList<>();
+    values.add(resolution.name());
+    StringBuilder sql = new StringBuilder(SELECT);
+    jobName.ifPresent(
+        name -> {
+          sql.append(" AND job_name = ?");
+          values.add(name);
+        });
+    sql.append(" AND bucket_start >= ? AND bucket_start < ? ORDER BY job_name, bucket_start");
+    values.add(offsetDateTime(from));
+    values.add(offsetDateTime(to));
+
+    return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> rollup(rs), values.toArray());
+  }
+
+  @Override
+  @Transactional
+  public int deleteOlderThan(@NotNull RollupResolutionEntity resolution, @NotNull Instant before) {
+    return jdbcTemplate.update(
+        "DELETE FROM job_execution_rollup WHERE resolution = ? AND bucket_start < ?",
+        resolution.name(),
+        offsetDateTime(before));
+  }
+
+  /**
+   * Creates the statement selecting and locking the stored rollups of the keys.
+   *
+   * @param connection the connection of the transaction
+   * @param keys the keys of the rollups
+   * @return the statement
+   * @throws SQLException if the statement can not be created
+   */
+  private static PreparedStatement selectForUpdate(Connection connection, List<RollupKey> keys)
+      throws SQLException {
+
+    PreparedStatement ps = connection.prepareStatement(SELECT_FOR_UPDATE);
+    ps.setArray(
+        1,
+        connection.createArrayOf(
+            "varchar", keys.stream().map(key -> key.resolution().name()).toArray()));
+    ps.setArray(
+        2, connection.createArrayOf("varchar", keys.stream().map(RollupKey::jobName).toArray()));
+    ps.setArray(
+        3,
+        connection.createArrayOf(
+            "varchar", keys.stream().map(key -> key.bucketStart().toString()).toArray()));
+    return ps;
+  }
+
+  /**
+   * Reads the rollup of the current row.
+   *
+   * @param rs the result set
+   * @return the rollup
+   * @throws SQLException if a column can not be read
+   */
+  private static JobExecutionRollup rollup(ResultSet rs) throws SQLException {
+    return new JobExecutionRollup(
+        RollupResolutionEntity.valueOf(rs.getString("resolution")),
+        rs.getString("job_name"),
+        rs.getObject("bucket_start", OffsetDateTime.class).toInstant(),
+        rs.getLong("executions"),
+        rs.getLong("failures"),
+        rs.getObject("min_response_time", Long.class),
+        rs.getObject("max_response_time", Long.class),
+        rs.getLong("sum_response_time"),
+        rs.getLong("response_time_count"),
+        LatencySketch.fromBytes(rs.getBytes("latency_sketch")));
+  }
+
+  private static OffsetDateTime offsetDateTime(Instant instant) {
+    return instant.atOffset(ZoneOffset.UTC);
+  }
+
+  /**
+   * Primary key of a rollup.
+   *
+   * @param resolution the bucket size
+   * @param jobName the job name
+   * @param bucketStart the start of the bucket
+   */
+  private record RollupKey(
+      RollupResolutionEntity resolution, String jobName, Instant bucketStart) {}
+}
@@ -0,0 +1,214 @@
+package com.hansecom.monitoringservice.persistence.rollup;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionRollup;
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRollupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the job execution rollups of the closed buckets, in front of {@link
+ * JobExecutionRollupRepository#findRollups}.
+ *
+ * <p>Job executions are only appended, so once a bucket is closed its rollups never change. The
+ * rollups are cached per bucket, with the buckets without job executions, and only the buckets
+ * missing from the cache and the open buckets at the end of the range are read from the database. A
+ * bucket is closed once its end is older than a grace period, covering the job executions still
+ * being saved. Rollups deleted by the retention are invalidated.
+ *
+ * <p>Configured through the properties under {@code custom-properties.job-execution.rollup.cache},
+ * the cache is bounded by the number of rollups held, {@code max-rollups}, evicting the least
+ * recently used buckets.
+ *
+ * <p>Exposes the cache metrics of Micrometer, such as {@code cache.gets} and {@code
+ * cache.evictions}, with the tag {@code cache=jobExecutionRollups}.
+ */
+@Slf4j
+@Component
+public class JobExecutionRollupCache {
+
+  private static final String CACHE_NAME = "jobExecutionRollups";
+
+  private static final Comparator<JobExecutionRollup> ORDER =
+      Comparator.comparing(JobExecutionRollup::getJobName)
+          .thenComparing(JobExecutionRollup::getBucketStart);
+
+  private final JobExecutionRollupRepository jobExecutionRollupRepository;
+
+  private final Duration gracePeriod;
+
+  private final Cache<BucketKey, List<JobExecutionRollup>> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param jobExecutionRollupRepository repository of the rollups
+   * @param meterRegistry registry for the cache metrics
+   * @param maxRollups max rollups held by the cache
+   * @param gracePeriod time after the end of a bucket until it is closed
+   */
+  public JobExecutionRollupCache(
+      JobExecutionRollupRepository jobExecutionRollupRepository,
+      MeterRegistry meterRegistry,
+      @Value("${custom-properties.job-execution.rollup.cache.max-rollups:100000}") long maxRollups,
+      @Value("${custom-properties.job-execution.rollup.cache.grace-period:PT1M}")
+          Duration gracePeriod) {
+
+    this.jobExecutionRollupRepository = jobExecutionRollupRepository;
+    this.gracePeriod = gracePeriod;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxRollups)
+            // empty buckets still take an entry
+            .<BucketKey, List<JobExecutionRollup>>weigher((key, rollups) -> rollups.size() + 1)
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Same as {@link JobExecutionRollupRepository#findRollups}, reading the closed buckets from the
+   * cache.
+   *
+   * <p>The returned rollups are shared with the cache and must not be modified.
+   *
+   * @param resolution the bucket size
+   * @param jobName only rollups of this job, if present
+   * @param from start of the buckets, inclusive
+   * @param to end of the buckets, exclusive
+   * @return the rollups, sorted by job name and bucket start
+   */
+  public List<JobExecutionRollup> findRollups(
+      RollupResolutionEntity resolution, Optional<String> jobName, Instant from, Instant to) {
+    return findRollups(resolution, jobName, from, to, Instant.now());
+  }
+
+  /**
+   * Invalidates the cached rollups deleted by the retention.
+   *
+   * @param resolution the bucket size
+   * @param before buckets starting before are invalidated
+   */
+  public void invalidateOlderThan(RollupResolutionEntity resolution, Instant before) {
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(key -> key.resolution() == resolution && key.bucketStart().isBefore(before));
+  }
+
+  /**
+   * Same as {@link #findRollups(RollupResolutionEntity, Optional, Instant, Instant)} at a given
+   * instant.
+   *
+   * @param resolution the bucket size
+   * @param jobName only rollups of this job, if present
+   * @param from start of the buckets, inclusive
+   * @param to end of the buckets, exclusive
+   * @param now the current instant
+   * @return the rollups, sorted by job name and bucket start
+   */
+  List<JobExecutionRollup> findRollups(
+      RollupResolutionEntity resolution,
+      Optional<String> jobName,
+      Instant from,
+      Instant to,
+      Instant now) {
+
+    Instant firstBucket =
+        resolution.isBucketStart(from)
+            ? from
+            : resolution.bucketStart(from).plus(1, resolution.getUnit());
+    // buckets starting before are closed
+    Instant open = resolution.bucketStart(now.minus(gracePeriod));
+    Instant closedTo = to.isBefore(open) ? to : open;
+
+    List<JobExecutionRollup> rollups = new ArrayList<>();
+    Instant missingFrom = null;
+    Instant bucket = firstBucket;
+    for (; bucket.isBefore(closedTo); bucket = bucket.plus(1, resolution.getUnit())) {
+      List<JobExecutionRollup> cached =
+          cache.getIfPresent(new BucketKey(resolution, jobName, bucket));
+      if (cached == null) {
+        missingFrom = missingFrom == null ? bucket : missingFrom;
+        continue;
+      }
+      if (missingFrom != null) {
+        rollups.addAll(load(resolution, jobName, missingFrom, bucket));
+        missingFrom = null;
+      }
+      rollups.addAll(cached);
+    }
+    if (missingFrom != null) {
+      rollups.addAll(load(resolution, jobName, missingFrom, bucket));
+    }
+
+    Instant openFrom = bucket.isAfter(firstBucket) ? bucket : from;
+    if (openFrom.isBefore(to)) {
+      rollups.addAll(jobExecutionRollupRepository.findRollups(resolution, jobName, openFrom, to));
+    }
+
+    if (jobName.isEmpty()) {
+      // read bucket by bucket, sorted as the repository does
+      rollups.sort(ORDER);
+    }
+    return rollups;
+  }
+
+  /**
+   * Reads the rollups of closed buckets and caches them per bucket.
+   *
+   * @param resolution the bucket size
+   * @param jobName only rollups of this job, if present
+   * @param from start of the buckets, inclusive
+   * @param to end of the buckets, exclusive, all closed
+   * @return the rollups
+   */
+  private List<JobExecutionRollup> load(
+      RollupResolutionEntity resolution, Optional<String> jobName, Instant from, Instant to) {
+
+    List<JobExecutionRollup> rollups =
+        jobExecutionRollupRepository.findRollups(resolution, jobName, from, to);
+
+    Map<Instant, List<JobExecutionRollup>> perBucket = new HashMap<>();
+    rollups.forEach(
+        rollup ->
+            perBucket
+                .computeIfAbsent(rollup.getBucketStart(), bucket -> new ArrayList<>())
+                .add(rollup));
+    for (Instant bucket = from;
+        bucket.isBefore(to);
+        bucket = bucket.plus(1, resolution.getUnit())) {
+      cache.put(
+          new BucketKey(resolution, jobName, bucket),
+          List.copyOf(perBucket.getOrDefault(bucket, List.of())));
+    }
+
+    log.debug(
+        "Cached {} {} job execution rollups from {} to {}", rollups.size(), resolution, from, to);
+    return rollups;
+  }
+
+  /**
+   * Key of the cached rollups of a bucket.
+   *
+   * @param resolution the bucket size
+   * @param jobName the job, empty for all jobs
+   * @param bucketStart the start of the bucket
+   */
+  private record BucketKey(
+      RollupResolutionEntity resolution, Optional<String> jobName, Instant bucketStart) {}
+}
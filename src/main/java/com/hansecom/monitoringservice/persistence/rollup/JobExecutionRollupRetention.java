@@ -0,0 +1,105 @@
+package com.hansecom.monitoringservice.persistence.rollup;
+
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRollupRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes the expired job execution rollups.
+ *
+ * <p>Each resolution has its own retention, so the fine grained rollups, the most numerous, are
+ * only kept for recent time ranges while the coarse ones can be kept much longer than the job
+ * executions themselves. The deleted rollups are invalidated from the {@link
+ * JobExecutionRollupCache}.
+ *
+ * <p>Configured through the properties under {@code custom-properties.job-execution.rollup}, by
+ * default minute rollups are kept 7 days, hour rollups 90 days and day rollups forever.
+ */
+@Slf4j
+@Component
+public class JobExecutionRollupRetention {
+
+  private final JobExecutionRollupRepository jobExecutionRollupRepository;
+
+  private final JobExecutionRollupCache jobExecutionRollupCache;
+
+  private final Map<RollupResolutionEntity, Integer> retentionDays =
+      new EnumMap<>(RollupResolutionEntity.class);
+
+  /**
+   * Constructor.
+   *
+   * @param jobExecutionRollupRepository repository of the rollups
+   * @param jobExecutionRollupCache cache of the rollups
+   * @param minuteRetentionDays number of days of minute rollups to keep, 0 to keep all
+   * @param hourRetentionDays number of days of hour rollups to keep, 0 to keep all
+   * @param dayRetentionDays number of days of day rollups to keep, 0 to keep all
+   */
+  public JobExecutionRollupRetention(
+      JobExecutionRollupRepository jobExecutionRollupRepository,
+      JobExecutionRollupCache jobExecutionRollupCache,
+      @Value("${custom-properties.job-execution.rollup.minute-retention-days:7}")
+          int minuteRetentionDays,
+      @Value("${custom-properties.job-execution.rollup.hour-retention-days:90}")
+          int hourRetentionDays,
+      @Value("${custom-properties.job-execution.rollup.day-retention-days:0}")
+          int dayRetentionDays) {
+
+    this.jobExecutionRollupRepository = jobExecutionRollupRepository;
+    this.jobExecutionRollupCache = jobExecutionRollupCache;
+    retentionDays.put(RollupResolutionEntity.MINUTE, minuteRetentionDays);
+    retentionDays.put(RollupResolutionEntity.HOUR, hourRetentionDays);
+    retentionDays.put(RollupResolutionEntity.DAY, dayRetentionDays);
+  }
+
+  /**
+   * Gets the oldest bucket start kept for a resolution.
+   *
+   * @param resolution the bucket size
+   * @param now the current instant
+   * @return the oldest bucket start kept, {@link Instant#MIN} if all are kept
+   */
+  public Instant oldestKept(RollupResolutionEntity resolution, Instant now) {
+
+    int days = retentionDays.get(resolution);
+    if (days <= 0) {
+      return Instant.MIN;
+    }
+    return RollupResolutionEntity.DAY.bucketStart(now).minus(Duration.ofDays(days));
+  }
+
+  /** Deletes the rollups older than the retention of their resolution. */
+  @Scheduled(
+      initialDelayString = "${custom-properties.job-execution.rollup.initial-delay:PT1M}",
+      fixedDelayString = "${custom-properties.job-execution.rollup.interval:PT1H}")
+  public void deleteExpired() {
+
+    Instant now = Instant.now();
+
+    for (RollupResolutionEntity resolution : RollupResolutionEntity.values()) {
+      Instant oldestKept = oldestKept(resolution, now);
+      if (Instant.MIN.equals(oldestKept)) {
+        continue;
+      }
+
+      try {
+        int deleted = jobExecutionRollupRepository.deleteOlderThan(resolution, oldestKept);
+        jobExecutionRollupCache.invalidateOlderThan(resolution, oldestKept);
+        if (deleted > 0) {
+          log.info(
+              "Deleted {} {} job execution rollups before {}", deleted, resolution, oldestKept);
+        }
+      } catch (DataAccessException e) {
+        log.error("Error deleting expired {} job execution rollups", resolution, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,259 @@
+package com.hansecom.monitoringservice.persistence.writer;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRollupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind writer for the job executions recorded by the probes.
+ *
+ * <p>Job executions are added to a bounded in-memory queue and the caller returns immediately. A
+ * dedicated thread drains the queue and saves the job executions in batches, flushing as soon as a
+ * batch is full or when the flush interval has passed since the first job execution of the batch.
+ *
+ * <p>When the queue is full new job executions are dropped, so a slow database never blocks the
+ * probes. On shutdown the pending batch is flushed right away and the queue is drained before the
+ * writer stops.
+ *
+ * <p>Batches are inserted according to the property {@code
+ * custom-properties.job-execution.writer.ingestion}:
+ *
+ * <ul>
+ *   <li>{@code jpa} (default): batched inserts through {@link JobExecutionRepository#saveAll}
+ *   <li>{@code copy}: PostgreSQL binary {@code COPY} through {@link
+ *       JobExecutionRepository#copyAll}, for high volumes of job executions
+ * </ul>
+ *
+ * <p>Each batch is added to the rollups of its jobs through {@link
+ * JobExecutionRollupRepository#record} in the same transaction, so the rollups always match the
+ * saved job executions.
+ *
+ * <p>Exposes the gauge {@code monitoring.job.execution.writer.queue.depth}, the timer {@code
+ * monitoring.job.execution.writer.flush}, the counter {@code monitoring.job.execution.writer.saved}
+ * and the counter {@code monitoring.job.execution.writer.dropped}, tagged with the reason {@code
+ * overflow} or {@code error}.
+ */
+@Slf4j
+@Component
+public class JobExecutionBatchWriter implements DisposableBean {
+
+  private static final String THREAD_NAME = "job-execution-writer";
+
+  private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final JobExecutionRepository jobExecutionRepository;
+
+  private final JobExecutionRollupRepository jobExecutionRollupRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Ingestion ingestion;
+
+  private final int batchSize;
+
+  private final Duration flushInterval;
+
+  private final BlockingQueue<JobExecutionEntity> queue;
+
+  private final Timer flushTimer;
+
+  private final Counter saved;
+
+  private final Counter overflow;
+
+  private final Counter errors;
+
+  private final Thread drainer;
+
+  private volatile boolean running = true;
+
+  /**
+   * Constructor.
+   *
+   * @param jobExecutionRepository repository to save the job executions
+   * @param jobExecutionRollupRepository repository to roll up the saved job executions
+   * @param transactionTemplate transaction saving a batch and its rollups
+   * @param meterRegistry registry for the writer metrics
+   * @param ingestion how the batches are inserted
+   * @param batchSize max job executions saved at once
+   * @param flushInterval max time a job execution waits in the queue for the batch to fill
+   * @param queueCapacity max job executions waiting to be saved
+   */
+  public JobExecutionBatchWriter(
+      JobExecutionRepository jobExecutionRepository,
+      JobExecutionRollupRepository jobExecutionRollupRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${custom-properties.job-execution.writer.ingestion:jpa}") Ingestion ingestion,
+      @Value("${custom-properties.job-execution.writer.batch-size:500}") int batchSize,
+      @Value("${custom-properties.job-execution.writer.flush-interval:1s}") Duration flushInterval,
+      @Value("${custom-properties.job-execution.writer.queue-capacity:50000}") int queueCapacity) {
+
+    this.jobExecutionRepository = jobExecutionRepository;
+    this.jobExecutionRollupRepository = jobExecutionRollupRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.ingestion = ingestion;
+    this.batchSize = batchSize;
+    this.flushInterval = flushInterval;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    Gauge.builder("monitoring.job.execution.writer.queue.depth", queue, BlockingQueue::size)
+        .description("Job executions waiting to be saved")
+        .register(meterRegistry);
+    this.flushTimer =
+        Timer.builder("monitoring.job.execution.writer.flush")
+            .description("Time saving a batch of job executions")
+            .register(meterRegistry);
+    this.saved =
+        Counter.builder("monitoring.job.execution.writer.saved")
+            .description("Job executions saved by the writer")
+            .register(meterRegistry);
+    this.overflow = dropped(meterRegistry, "overflow");
+    this.errors = dropped(meterRegistry, "error");
+
+    this.drainer = Thread.ofPlatform().name(THREAD_NAME).start(this::drain);
+
+    log.debug(
+        "Job execution writer created with {} ingestion, batch size {}, flush interval {} and queue capacity {}",
+        ingestion,
+        batchSize,
+        flushInterval,
+        queueCapacity);
+  }
+
+  /**
+   * Queues the job execution to be saved.
+   *
+   * @param jobExecutionEntity the job execution
+   * @return true if queued, false if dropped because the queue is full or the writer is stopped
+   */
+  public boolean submit(JobExecutionEntity jobExecutionEntity) {
+
+    if (running && queue.offer(jobExecutionEntity)) {
+      return true;
+    }
+
+    overflow.increment();
+    log.warn("Job execution of {} dropped by the writer", jobExecutionEntity.getJobName());
+    return false;
+  }
+
+  /** Drains the queue in batches until the writer is stopped and the queue is empty. */
+  private void drain() {
+
+    // waits in short slices to react to the stop, the thread is never interrupted so a batch being
+    // saved is not aborted
+    while (running || !queue.isEmpty()) {
+      List<JobExecutionEntity> batch = new ArrayList<>(batchSize);
+      try {
+        JobExecutionEntity first = queue.poll(POLL_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize && running) {
+          queue.drainTo(batch, batchSize - batch.size());
+          long remaining = deadline - System.nanoTime();
+          if (batch.size() >= batchSize || remaining <= 0) {
+            break;
+          }
+          JobExecutionEntity next =
+              queue.poll(Math.min(remaining, POLL_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+          if (next != null) {
+            batch.add(next);
+          }
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.warn("Job execution writer interrupted, {} job executions not saved", queue.size());
+        return;
+      }
+
+      flush(batch);
+    }
+
+    log.debug("Job execution writer stopped");
+  }
+
+  /**
+   * Saves the batch of job executions with their rollups, errors are logged and counted as dropped.
+   *
+   * @param batch the job executions to save
+   */
+  private void flush(List<JobExecutionEntity> batch) {
+
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> save(batch)));
+      saved.increment(batch.size());
+      log.debug("Saved batch of {} job executions", batch.size());
+    } catch (RuntimeException e) {
+      errors.increment(batch.size());
+      log.error("Error saving batch of {} job executions", batch.size(), e);
+    }
+  }
+
+  /**
+   * Inserts the batch of job executions and rolls them up, within the current transaction.
+   *
+   * @param batch the job executions to save
+   */
+  private void save(List<JobExecutionEntity> batch) {
+
+    if (Ingestion.COPY.equals(ingestion)) {
+      jobExecutionRepository.copyAll(batch);
+    } else {
+      jobExecutionRepository.saveAll(batch);
+    }
+    // the created dates are set by the insert
+    jobExecutionRollupRepository.record(batch);
+  }
+
+  /** Stops accepting job executions and waits for the queued ones to be saved. */
+  @Override
+  public void destroy() throws InterruptedException {
+    running = false;
+    drainer.join();
+  }
+
+  /**
+   * Registers the counter of dropped job executions.
+   *
+   * @param meterRegistry registry for the writer metrics
+   * @param reason why the job executions were dropped
+   * @return the counter
+   */
+  private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder("monitoring.job.execution.writer.dropped")
+        .description("Job executions dropped by the writer")
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  /** Possible ingestion modes. */
+  public enum Ingestion {
+    JPA,
+    COPY
+  }
+}
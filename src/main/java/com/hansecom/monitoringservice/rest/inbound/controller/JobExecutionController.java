@@ -1,29 +1,65 @@
 package com.hansecom.monitoringservice.rest.inbound.controller;
 
+import com.hansecom.monitoringservice.rest.inbound.mapper.JobExecutionMapper;
 import com.hansecom.monitoringservice.rest.inbound.openapi.api.JobsExecutionApi;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecution;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecutionPercentilesResponseList;
 import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecutionResponseList;
+import com.hansecom.monitoringservice.service.JobExecutionExport;
 import com.hansecom.monitoringservice.service.JobExecutionService;
+import com.hansecom.monitoringservice.service.JobExecutionStatisticsService;
+import com.hansecom.monitoringservice.service.dto.ExportFormat;
 import com.hansecom.monitoringservice.service.dto.JobExecutionDtoList;
 import com.hansecom.monitoringservice.service.dto.JobExecutionFilterDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupFilterDto;
 import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
 import com.hansecom.monitoringservice.service.dto.PageRequestDto;
+import com.hansecom.monitoringservice.service.dto.TotalMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 /** The controller class that handles REST requests for {@link JobsExecutionApi}. */
 @RestController
 @RequiredArgsConstructor
 public class JobExecutionController implements JobsExecutionApi {
 
-  private final ModelMapper mapper;
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+  private static final String GZIP = "gzip";
+
+  private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+  private static final String JOB_EXECUTION_EVENT = "job-execution";
+
+  private static final ServerSentEvent<JobExecution> HEARTBEAT =
+      ServerSentEvent.<JobExecution>builder().comment("heartbeat").build();
+
+  private final JobExecutionMapper jobExecutionMapper;
 
   private final JobExecutionService jobExecutionService;
 
+  private final JobExecutionStatisticsService jobExecutionStatisticsService;
+
+  @Value("${custom-properties.job-execution.stream.heartbeat-interval:15s}")
+  private Duration heartbeatInterval;
+
   @Override
   public ResponseEntity<JobExecutionResponseList> getJobsExecutions(
       String jobName,
@@ -34,7 +70,9 @@ public class JobExecutionController implements JobsExecutionApi {
       Integer offset,
       Integer limit,
       String sortDirection,
-      Set<String> sortProperties) {
+      Set<String> sortProperties,
+      String cursor,
+      String totalMode) {
 
     JobExecutionDtoList jobExecutionDtoList =
         jobExecutionService.getJobsExecutions(
@@ -51,8 +89,149 @@ public class JobExecutionController implements JobsExecutionApi {
                             limit,
                             PageRequestDto.SortDirection.fromString(sortDirection),
                             sortProperties)))
+                .cursor(Optional.ofNullable(cursor))
+                .totalMode(Optional.ofNullable(totalMode).map(TotalMode::fromString))
                 .build());
 
-    return ResponseEntity.ok(mapper.map(jobExecutionDtoList, JobExecutionResponseList.class));
+    return ResponseEntity.ok(jobExecutionMapper.toJobExecutionResponseList(jobExecutionDtoList));
+  }
+
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportJobsExecutions(
+      String jobName,
+      String url,
+      String status,
+      Instant from,
+      Instant to,
+      String format,
+      String acceptEncoding) {
+
+    ExportFormat exportFormat = ExportFormat.fromString(format);
+
+    JobExecutionExport jobExecutionExport =
+        jobExecutionService.exportJobsExecutions(
+            JobExecutionFilterDto.builder()
+                .jobName(Optional.ofNullable(jobName))
+                .url(Optional.ofNullable(url))
+                .status(Optional.ofNullable(status).map(JobExecutionStatus::fromString))
+                .from(Optional.ofNullable(from))
+                .to(Optional.ofNullable(to))
+                .pageRequestDto(Optional.empty())
+                .cursor(Optional.empty())
+                .totalMode(Optional.empty())
+                .build(),
+            exportFormat);
+
+    boolean gzip = acceptsGzip(acceptEncoding);
+
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(
+                ExportFormat.CSV.equals(exportFormat)
+                    ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                    : NDJSON)
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                    .filename("jobs-executions." + exportFormat.name().toLowerCase())
+                    .build()
+                    .toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+
+    return response.body(
+        outputStream -> {
+          if (gzip) {
+            GZIPOutputStream gzipOutputStream =
+                new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+            jobExecutionExport.writeTo(gzipOutputStream);
+            gzipOutputStream.finish();
+          } else {
+            jobExecutionExport.writeTo(outputStream);
+          }
+        });
+  }
+
+  @Override
+  public ResponseEntity<JobExecutionPercentilesResponseList> getJobsExecutionsPercentiles(
+      Instant from, Instant to, String jobName) {
+
+    return ResponseEntity.ok(
+        jobExecutionMapper.toJobExecutionPercentilesResponseList(
+            jobExecutionStatisticsService.getJobsExecutionsPercentiles(
+                JobExecutionRollupFilterDto.builder()
+                    .jobName(Optional.ofNullable(jobName))
+                    .from(from)
+                    .to(to)
+                    .build())));
+  }
+
+  /**
+   * Streams the job executions as Server-Sent Events, as documented in the OpenAPI specification.
+   *
+   * <p>The handler is declared here because the generator only supports Server-Sent Events with the
+   * reactive library. Heartbeat comments are interleaved with the job executions while the stream
+   * is open.
+   *
+   * @param jobName only job executions of this job, if present
+   * @param status only job executions with this status, if present
+   * @return the job executions as Server-Sent Events
+   */
+  @GetMapping(value = "/jobs-executions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Flux<ServerSentEvent<JobExecution>> streamJobsExecutions(
+      @RequestParam(value = "jobName", required = false) String jobName,
+      @RequestParam(value = "status", required = false) String status) {
+
+    Flux<ServerSentEvent<JobExecution>> jobExecutions =
+        jobExecutionService
+            .streamJobsExecutions(
+                JobExecutionFilterDto.builder()
+                    .jobName(Optional.ofNullable(jobName))
+                    .url(Optional.empty())
+                    .status(Optional.ofNullable(status).map(JobExecutionStatus::fromString))
+                    .from(Optional.empty())
+                    .to(Optional.empty())
+                    .pageRequestDto(Optional.empty())
+                    .cursor(Optional.empty())
+                    .totalMode(Optional.empty())
+                    .build())
+            .map(
+                jobExecutionDto ->
+                    ServerSentEvent.builder(jobExecutionMapper.toJobExecution(jobExecutionDto))
+                        .id(String.valueOf(jobExecutionDto.getExternalId()))
+                        .event(JOB_EXECUTION_EVENT)
+                        .build());
+
+    // the heartbeats stop with the job executions, that complete when the application stops
+    return jobExecutions.publish(
+        shared ->
+            Flux.merge(
+                shared,
+                Flux.interval(heartbeatInterval)
+                    .onBackpressureDrop()
+                    .map(tick -> HEARTBEAT)
+                    .takeUntilOther(shared.then())));
+  }
+
+  /**
+   * Checks if the client accepts gzip, ignoring the quality values other than zero.
+   *
+   * @param acceptEncoding the Accept-Encoding header
+   * @return true if the response can be compressed with gzip
+   */
+  private static boolean acceptsGzip(String acceptEncoding) {
+
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    return Arrays.stream(acceptEncoding.split(","))
+        .map(coding -> coding.replace(" ", "").toLowerCase())
+        .anyMatch(
+            coding ->
+                coding.equals(GZIP)
+                    || (coding.startsWith(GZIP + ";") && !coding.matches(".*;q=0(\\.0*)?$")));
   }
 }
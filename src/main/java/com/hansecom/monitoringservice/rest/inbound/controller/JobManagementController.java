@@ -1,11 +1,12 @@
 package com.hansecom.monitoringservice.rest.inbound.controller;
 
+import com.hansecom.monitoringservice.rest.inbound.mapper.JobMapper;
 import com.hansecom.monitoringservice.rest.inbound.openapi.api.JobsManagementApi;
 import com.hansecom.monitoringservice.rest.inbound.openapi.model.Job;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobStatusResponseList;
 import com.hansecom.monitoringservice.service.JobService;
 import com.hansecom.monitoringservice.service.dto.JobDto;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -14,15 +15,20 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class JobManagementController implements JobsManagementApi {
 
-  private final ModelMapper mapper;
+  private final JobMapper jobMapper;
 
   private final JobService jobService;
 
   @Override
   public ResponseEntity<Job> createJob(Job job) {
 
-    JobDto jobDto = jobService.createJob(mapper.map(job, JobDto.class));
+    JobDto jobDto = jobService.createJob(jobMapper.toJobDto(job));
 
-    return ResponseEntity.ok(mapper.map(jobDto, Job.class));
+    return ResponseEntity.ok(jobMapper.toJob(jobDto));
+  }
+
+  @Override
+  public ResponseEntity<JobStatusResponseList> getJobsStatus() {
+    return ResponseEntity.ok(jobMapper.toJobStatusResponseList(jobService.getJobsStatus()));
   }
 }
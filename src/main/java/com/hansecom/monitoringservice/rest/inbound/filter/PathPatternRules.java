@@ -0,0 +1,88 @@
+package com.hansecom.monitoringservice.rest.inbound.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Ordered rules matching request paths, the first matching rule wins.
+ *
+ * <p>The patterns are parsed once into {@link PathPattern}s and the decision of each path is
+ * cached, up to {@code maxCachedPaths} paths, so a path seen before is decided with a single
+ * lookup. Immutable, rules are changed by replacing the instance.
+ *
+ * @param <T> type of the value of each rule
+ */
+final class PathPatternRules<T> {
+
+  private final Map<String, T> rules;
+
+  private final List<Rule<T>> compiledRules;
+
+  private final Cache<String, Optional<T>> decisions;
+
+  /**
+   * Constructor.
+   *
+   * @param rules the value of each pattern, in order
+   * @param maxCachedPaths max paths with their decision cached
+   * @throws org.springframework.web.util.pattern.PatternParseException if a pattern is invalid
+   */
+  PathPatternRules(Map<String, T> rules, long maxCachedPaths) {
+
+    this.rules = Collections.unmodifiableMap(new LinkedHashMap<>(rules));
+    this.compiledRules = new ArrayList<>(rules.size());
+    rules.forEach(
+        (pattern, value) ->
+            compiledRules.add(
+                new Rule<>(PathPatternParser.defaultInstance.parse(pattern.trim()), value)));
+    this.decisions = Caffeine.newBuilder().maximumSize(maxCachedPaths).build();
+  }
+
+  /**
+   * Gets the value of the first rule matching the path.
+   *
+   * @param path the path within the application
+   * @return the value, empty if no rule matches
+   */
+  Optional<T> match(String path) {
+    return compiledRules.isEmpty() ? Optional.empty() : decisions.get(path, this::evaluate);
+  }
+
+  /**
+   * Gets the rules.
+   *
+   * @return the value of each pattern, in order
+   */
+  Map<String, T> rules() {
+    return rules;
+  }
+
+  private Optional<T> evaluate(String path) {
+
+    PathContainer pathContainer = PathContainer.parsePath(path);
+    for (Rule<T> rule : compiledRules) {
+      if (rule.pattern().matches(pathContainer)) {
+        return Optional.of(rule.value());
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Compiled rule.
+   *
+   * @param pattern the parsed pattern
+   * @param value the value of the rule
+   * @param <T> type of the value
+   */
+  private record Rule<T>(PathPattern pattern, T value) {}
+}
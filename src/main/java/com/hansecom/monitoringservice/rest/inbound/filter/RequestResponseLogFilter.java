@@ -6,19 +6,27 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import jakarta.servlet.http.HttpSession;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
@@ -27,82 +35,162 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.ServletServerHttpRequest;
-import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 /**
  * Filter responsible for logging the request and response, including the bodies.
  *
- * <p>It can be configured to not log some requests using the property {@code
- * logging.web.path.exclude}
+ * <p>Configured through the properties under {@code logging.web}:
+ *
+ * <ul>
+ *   <li>{@code path.exclude}: requests not logged, can be changed at runtime through {@link
+ *       RequestResponseLogFilterEndpoint}
+ *   <li>{@code sample-rate}: ratio of the requests logged, from 0 to 1
+ *   <li>{@code path.sample-rates}: ratio of the requests logged per path, as {@code pattern=rate},
+ *       the first matching pattern wins over {@code sample-rate}
+ *   <li>{@code path.max-cached-paths}: max paths with their exclusion and sample rate cached
+ *   <li>{@code max-payload-bytes}: max bytes of each body logged
+ * </ul>
+ *
+ * <p>The paths are {@link org.springframework.web.util.pattern.PathPattern} patterns, matched
+ * against the path within the application, without the context path. They are compiled once, see
+ * {@link PathPatternRules}.
+ *
+ * <p>Requests and responses are logged at info level with their bodies, once the request is
+ * completed, also when it failed with an exception. The bodies are copied as they are read and
+ * written, up to {@code max-payload-bytes}, instead of buffering them, and are only parsed when
+ * complete.
  */
 @Slf4j
 @Component
 @Order(value = Ordered.HIGHEST_PRECEDENCE + 100)
 public class RequestResponseLogFilter extends OncePerRequestFilter {
 
-  /** {@link AntPathMatcher} used to validate URLs. */
-  private static final AntPathMatcher antPathMatcher = new AntPathMatcher();
+  private final long maxCachedPaths;
+
+  private volatile PathPatternRules<Boolean> excludePaths;
+
+  private final double sampleRate;
 
-  @Value("${logging.web.path.exclude:}")
-  private Set<String> excludePaths;
+  private final PathPatternRules<Double> pathSampleRates;
+
+  private final int maxPayloadBytes;
+
+  /**
+   * Constructor.
+   *
+   * @param excludePaths patterns of the paths not logged
+   * @param sampleRate ratio of the requests logged
+   * @param pathSampleRates ratio of the requests logged per path, as {@code pattern=rate}
+   * @param maxCachedPaths max paths with their exclusion and sample rate cached
+   * @param maxPayloadBytes max bytes of each body logged
+   */
+  public RequestResponseLogFilter(
+      @Value("${logging.web.path.exclude:}") Set<String> excludePaths,
+      @Value("${logging.web.sample-rate:1.0}") double sampleRate,
+      @Value("${logging.web.path.sample-rates:}") List<String> pathSampleRates,
+      @Value("${logging.web.path.max-cached-paths:10000}") long maxCachedPaths,
+      @Value("${logging.web.max-payload-bytes:4096}") int maxPayloadBytes) {
+
+    this.maxCachedPaths = maxCachedPaths;
+    setExcludePaths(excludePaths);
+    this.sampleRate = sampleRate;
+    Map<String, Double> rates = new LinkedHashMap<>();
+    for (String pathSampleRate : pathSampleRates) {
+      String[] patternAndRate = pathSampleRate.split("=", 2);
+      if (patternAndRate.length != 2) {
+        throw new IllegalArgumentException(
+            "Invalid sample rate, expected pattern=rate: " + pathSampleRate);
+      }
+      rates.put(patternAndRate[0].trim(), Double.parseDouble(patternAndRate[1].trim()));
+    }
+    this.pathSampleRates = new PathPatternRules<>(rates, maxCachedPaths);
+    this.maxPayloadBytes = maxPayloadBytes;
+  }
+
+  /**
+   * Gets the patterns of the paths not logged.
+   *
+   * @return the patterns
+   */
+  public Set<String> getExcludePaths() {
+    return excludePaths.rules().keySet();
+  }
+
+  /**
+   * Replaces the patterns of the paths not logged, compiled before replacing them.
+   *
+   * @param excludePaths the patterns
+   * @throws org.springframework.web.util.pattern.PatternParseException if a pattern is invalid
+   */
+  public void setExcludePaths(Set<String> excludePaths) {
+
+    Map<String, Boolean> rules = new LinkedHashMap<>();
+    excludePaths.stream()
+        .filter(StringUtils::hasText)
+        .forEach(excludePath -> rules.put(excludePath.trim(), Boolean.TRUE));
+    this.excludePaths = new PathPatternRules<>(rules, maxCachedPaths);
+  }
 
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
 
-    // wrappers for request and response to be able to access the body
-    CachedHttpServletRequest contentCachingRequestWrapper = new CachedHttpServletRequest(request);
-    ContentCachingResponseWrapper contentCachingResponseWrapper =
-        new ContentCachingResponseWrapper(response);
-
-    String requestBody =
-        getAsStringValue(
-            contentCachingRequestWrapper.cachedPayload, request.getCharacterEncoding());
-    logRequest(request, requestBody);
-
-    // after log the request continue the filter chain
-    filterChain.doFilter(contentCachingRequestWrapper, contentCachingResponseWrapper);
+    if (!log.isInfoEnabled() || !isSampled(request)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
 
-    // in the end log the response
-    String responseBody =
-        getAsStringValue(
-            contentCachingResponseWrapper.getContentAsByteArray(), response.getCharacterEncoding());
-    logResponse(request, response, responseBody);
+    // wrappers for request and response copying the beginning of the bodies
+    TeeHttpServletRequest teeRequest = new TeeHttpServletRequest(request, maxPayloadBytes);
+    TeeHttpServletResponse teeResponse = new TeeHttpServletResponse(response, maxPayloadBytes);
 
-    // needed for the client receive the body
-    contentCachingResponseWrapper.copyBodyToResponse();
+    try {
+      filterChain.doFilter(teeRequest, teeResponse);
+
+      // needed for the client receive the body written through the writer
+      teeResponse.flushWriter();
+    } finally {
+      // also when the request failed with an exception
+      logRequest(request, teeRequest.payload);
+      logResponse(request, response, teeResponse.payload);
+    }
   }
 
   @Override
   protected boolean shouldNotFilter(HttpServletRequest request) {
 
-    return excludePaths.parallelStream()
-        .anyMatch(path -> antPathMatcher.match(path, request.getRequestURI()));
+    return excludePaths.match(pathWithinApplication(request)).isPresent();
   }
 
   /**
-   * Converts from byte array to string.
+   * Decides if the request is logged, by the sample rate of its path.
    *
-   * @param contentAsByteArray the byte array content
-   * @param characterEncoding content encoding
-   * @return the corresponding content as string
+   * @param request the http request object
+   * @return true if the request is logged
    */
-  private String getAsStringValue(byte[] contentAsByteArray, String characterEncoding) {
+  private boolean isSampled(HttpServletRequest request) {
 
-    try {
-      return new String(
-          contentAsByteArray, characterEncoding == null ? "UTF-8" : characterEncoding);
-    } catch (UnsupportedEncodingException e) {
-      log.error("Error parsing body to string", e);
-      return "";
-    }
+    double rate = pathSampleRates.match(pathWithinApplication(request)).orElse(sampleRate);
+    return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  /**
+   * Gets the path of the request without the context path.
+   *
+   * @param request the http request object
+   * @return the path within the application
+   */
+  private static String pathWithinApplication(HttpServletRequest request) {
+
+    String requestUri = request.getRequestURI();
+    String contextPath = request.getContextPath();
+    return StringUtils.hasLength(contextPath) && requestUri.startsWith(contextPath)
+        ? requestUri.substring(contextPath.length())
+        : requestUri;
   }
 
   /**
@@ -133,7 +221,7 @@ public class RequestResponseLogFilter extends OncePerRequestFilter {
    * @param request the http request object
    * @param payload the request payload
    */
-  private void logRequest(HttpServletRequest request, String payload) {
+  private void logRequest(HttpServletRequest request, Payload payload) {
     Map<String, Object> requestMap = new HashMap<>();
 
     String client = request.getRemoteAddr();
@@ -149,31 +237,47 @@ public class RequestResponseLogFilter extends OncePerRequestFilter {
       requestMap.put("user", user);
     }
 
-    HttpHeaders headers = new ServletServerHttpRequest(request).getHeaders();
-    Map<String, Object> requestHeadersMap = new HashMap<>(headers);
-    requestMap.put("headers", requestHeadersMap);
+    requestMap.put("headers", new ServletServerHttpRequest(request).getHeaders());
 
-    if (payload != null) {
-      logPayload(requestMap, payload, "Error parsing request payload");
-    }
+    logPayload(requestMap, payload, request.getCharacterEncoding());
 
     StringBuilder msg = requestBuilder("HTTP Request: ", request);
     log.info(msg + " - {}", value("request", requestMap));
   }
 
   /**
-   * Method that parses the payload to a json object.
+   * Adds the payload, parsed to a json object when complete.
    *
-   * @param requestMap the request map
+   * @param map the request or response map
    * @param payload the payload
-   * @param errorMsg the error message to use in case of error
+   * @param characterEncoding the payload encoding, null for UTF-8
    */
-  private void logPayload(Map<String, Object> requestMap, String payload, String errorMsg) {
+  private void logPayload(Map<String, Object> map, Payload payload, String characterEncoding) {
+
+    if (payload.size == 0) {
+      return;
+    }
+
+    String content =
+        new String(
+            payload.bytes,
+            0,
+            payload.captured,
+            characterEncoding == null
+                ? StandardCharsets.UTF_8
+                : Charset.forName(characterEncoding, StandardCharsets.UTF_8));
+    if (payload.isTruncated()) {
+      map.put("payload", content);
+      map.put("payloadSize", payload.size);
+      return;
+    }
+
     try {
       JSONParser parser = new JSONParser(JSONParser.MODE_PERMISSIVE);
-      requestMap.put("payload", parser.parse(payload));
+      map.put("payload", parser.parse(content));
     } catch (ParseException e) {
-      log.error(errorMsg, e);
+      // not json, logged as it is
+      map.put("payload", content);
     }
   }
 
@@ -185,22 +289,22 @@ public class RequestResponseLogFilter extends OncePerRequestFilter {
    * @param payload the response payload
    */
   private void logResponse(
-      HttpServletRequest request, HttpServletResponse response, String payload) {
+      HttpServletRequest request, HttpServletResponse response, Payload payload) {
 
     Map<String, Object> responseMap = new HashMap<>();
 
-    try (ServletServerHttpResponse servletServerHttpResponse =
-        new ServletServerHttpResponse(response)) {
-      Map<String, Object> responseHeadersMap =
-          new HashMap<>(servletServerHttpResponse.getHeaders());
-      responseMap.put("headers", responseHeadersMap);
+    HttpHeaders headers = new HttpHeaders();
+    for (String headerName : response.getHeaderNames()) {
+      headers.addAll(headerName, List.copyOf(response.getHeaders(headerName)));
+    }
+    if (response.getContentType() != null && headers.getContentType() == null) {
+      headers.set(HttpHeaders.CONTENT_TYPE, response.getContentType());
     }
+    responseMap.put("headers", headers);
 
     responseMap.put("status", response.getStatus());
 
-    if (payload != null) {
-      logPayload(responseMap, payload, "Error parsing response payload");
-    }
+    logPayload(responseMap, payload, response.getCharacterEncoding());
 
     StringBuilder msg = requestBuilder("HTTP Response: ", request);
     log.info(msg + " - {}", value("response", responseMap));
@@ -210,73 +314,279 @@ public class RequestResponseLogFilter extends OncePerRequestFilter {
    * Auxiliary classes
    */
 
-  /** Caches the request body content. */
-  private static class CachedHttpServletRequest extends HttpServletRequestWrapper {
+  /** Copy of the beginning of a body, up to a max size. */
+  private static final class Payload {
+
+    private final int maxBytes;
+
+    private byte[] bytes = new byte[0];
+
+    /** Bytes copied. */
+    private int captured;
+
+    /** Bytes of the whole body. */
+    private long size;
+
+    /**
+     * Constructor.
+     *
+     * @param maxBytes max bytes copied
+     */
+    private Payload(int maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Copies the bytes while there is room.
+     *
+     * @param source the bytes read or written
+     * @param offset start of the bytes
+     * @param length number of bytes
+     */
+    private void copy(byte[] source, int offset, int length) {
+
+      size += length;
+      int copied = Math.min(length, maxBytes - captured);
+      if (copied <= 0) {
+        return;
+      }
+      grow(captured + copied);
+      System.arraycopy(source, offset, bytes, captured, copied);
+      captured += copied;
+    }
+
+    /**
+     * Copies a single byte while there is room.
+     *
+     * @param value the byte read or written
+     */
+    private void copy(int value) {
+
+      size++;
+      if (captured == maxBytes) {
+        return;
+      }
+      grow(captured + 1);
+      bytes[captured++] = (byte) value;
+    }
+
+    /**
+     * Grows the copied bytes, doubling up to the max size.
+     *
+     * @param length the bytes needed
+     */
+    private void grow(int length) {
+      if (length > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.min(maxBytes, Math.max(length, bytes.length * 2)));
+      }
+    }
+
+    private boolean isTruncated() {
+      return size > captured;
+    }
+  }
+
+  /** Copies the beginning of the request body as it is read. */
+  private static class TeeHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final Payload payload;
+
+    private ServletInputStream inputStream;
 
-    private final byte[] cachedPayload;
+    private BufferedReader reader;
 
     /**
      * Constructor.
      *
      * @param request the http request object
-     * @throws IOException if some read or write operation fails
+     * @param maxPayloadBytes max bytes of the body copied
      */
-    public CachedHttpServletRequest(HttpServletRequest request) throws IOException {
+    public TeeHttpServletRequest(HttpServletRequest request, int maxPayloadBytes) {
       super(request);
-      InputStream requestInputStream = request.getInputStream();
-      this.cachedPayload = StreamUtils.copyToByteArray(requestInputStream);
+      this.payload = new Payload(maxPayloadBytes);
     }
 
     @Override
-    public ServletInputStream getInputStream() {
-      return new CachedServletInputStream(this.cachedPayload);
+    public ServletInputStream getInputStream() throws IOException {
+      if (inputStream == null) {
+        inputStream = new TeeServletInputStream(super.getInputStream(), payload);
+      }
+      return inputStream;
     }
 
     @Override
-    public BufferedReader getReader() {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(this.cachedPayload);
-      return new BufferedReader(new InputStreamReader(byteArrayInputStream));
+    public BufferedReader getReader() throws IOException {
+      if (reader == null) {
+        String characterEncoding = getCharacterEncoding();
+        reader =
+            new BufferedReader(
+                new InputStreamReader(
+                    getInputStream(),
+                    characterEncoding == null
+                        ? StandardCharsets.UTF_8
+                        : Charset.forName(characterEncoding)));
+      }
+      return reader;
     }
   }
 
-  /** Caches the request input stream. */
-  @Slf4j
-  private static class CachedServletInputStream extends ServletInputStream {
+  /** Copies the beginning of the response body as it is written. */
+  private static class TeeHttpServletResponse extends HttpServletResponseWrapper {
+
+    private final Payload payload;
 
-    private final InputStream cachedInputStream;
+    private ServletOutputStream outputStream;
+
+    private PrintWriter writer;
 
     /**
      * Constructor.
      *
-     * @param cachedBody the request body in byte array
+     * @param response the http response object
+     * @param maxPayloadBytes max bytes of the body copied
      */
-    public CachedServletInputStream(byte[] cachedBody) {
-      this.cachedInputStream = new ByteArrayInputStream(cachedBody);
+    public TeeHttpServletResponse(HttpServletResponse response, int maxPayloadBytes) {
+      super(response);
+      this.payload = new Payload(maxPayloadBytes);
     }
 
     @Override
-    public boolean isFinished() {
-      try {
-        return cachedInputStream.available() == 0;
-      } catch (IOException exp) {
-        log.error(exp.getMessage());
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (outputStream == null) {
+        outputStream = new TeeServletOutputStream(super.getOutputStream(), payload);
+      }
+      return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      if (writer == null) {
+        String characterEncoding = getCharacterEncoding();
+        writer =
+            new PrintWriter(
+                new OutputStreamWriter(
+                    getOutputStream(),
+                    characterEncoding == null
+                        ? StandardCharsets.ISO_8859_1
+                        : Charset.forName(characterEncoding)));
       }
-      return false;
+      return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      flushWriter();
+      super.flushBuffer();
+    }
+
+    /** Writes what is left in the writer, if used. */
+    private void flushWriter() {
+      if (writer != null) {
+        writer.flush();
+      }
+    }
+  }
+
+  /** Request input stream copying the bytes read. */
+  private static class TeeServletInputStream extends ServletInputStream {
+
+    private final ServletInputStream delegate;
+
+    private final Payload payload;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the request input stream
+     * @param payload where the bytes read are copied
+     */
+    public TeeServletInputStream(ServletInputStream delegate, Payload payload) {
+      this.delegate = delegate;
+      this.payload = payload;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return delegate.isFinished();
     }
 
     @Override
     public boolean isReady() {
-      return true;
+      return delegate.isReady();
     }
 
     @Override
     public void setReadListener(ReadListener readListener) {
-      throw new UnsupportedOperationException();
+      delegate.setReadListener(readListener);
     }
 
     @Override
     public int read() throws IOException {
-      return cachedInputStream.read();
+      int value = delegate.read();
+      if (value != -1) {
+        payload.copy(value);
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      int read = delegate.read(bytes, offset, length);
+      if (read > 0) {
+        payload.copy(bytes, offset, read);
+      }
+      return read;
+    }
+  }
+
+  /** Response output stream copying the bytes written. */
+  private static class TeeServletOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream delegate;
+
+    private final Payload payload;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the response output stream
+     * @param payload where the bytes written are copied
+     */
+    public TeeServletOutputStream(ServletOutputStream delegate, Payload payload) {
+      this.delegate = delegate;
+      this.payload = payload;
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      delegate.setWriteListener(writeListener);
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+      delegate.write(value);
+      payload.copy(value);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      delegate.write(bytes, offset, length);
+      payload.copy(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
     }
   }
 }
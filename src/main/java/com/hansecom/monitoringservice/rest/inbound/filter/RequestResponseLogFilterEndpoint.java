@@ -0,0 +1,85 @@
+package com.hansecom.monitoringservice.rest.inbound.filter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint {@code logfilter} to change the paths not logged by {@link
+ * RequestResponseLogFilter} without a restart.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/logfilter}: the patterns of the paths not logged
+ *   <li>{@code POST /actuator/logfilter} with {@code {"exclude": [...]}}: replaces the patterns
+ *   <li>{@code DELETE /actuator/logfilter}: does not delete anything, it resets the patterns to the
+ *       property {@code logging.web.path.exclude}, undoing the changes done with {@code POST}
+ * </ul>
+ *
+ * <p>The changes are kept in memory only, after a restart the property applies again.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "logfilter")
+@RequiredArgsConstructor
+public class RequestResponseLogFilterEndpoint {
+
+  static final String EXCLUDE_PROPERTY = "logging.web.path.exclude";
+
+  private final RequestResponseLogFilter requestResponseLogFilter;
+
+  private final Environment environment;
+
+  /**
+   * Gets the patterns of the paths not logged.
+   *
+   * @return the patterns, under {@code exclude}
+   */
+  @ReadOperation
+  public Map<String, Set<String>> excludePaths() {
+    return Map.of("exclude", new TreeSet<>(requestResponseLogFilter.getExcludePaths()));
+  }
+
+  /**
+   * Replaces the patterns of the paths not logged.
+   *
+   * @param exclude the patterns
+   * @return the patterns, under {@code exclude}
+   */
+  @WriteOperation
+  public Map<String, Set<String>> replace(List<String> exclude) {
+    return update(Set.copyOf(exclude));
+  }
+
+  /**
+   * Resets the patterns of the paths not logged to the ones configured. Mapped to {@code DELETE}
+   * since an actuator endpoint takes a single {@code POST}, already replacing the patterns.
+   *
+   * @return the patterns, under {@code exclude}
+   */
+  @DeleteOperation
+  public Map<String, Set<String>> reload() {
+    return update(
+        Binder.get(environment)
+            .bind(EXCLUDE_PROPERTY, Bindable.setOf(String.class))
+            .orElse(Set.of()));
+  }
+
+  private Map<String, Set<String>> update(Set<String> excludePaths) {
+
+    requestResponseLogFilter.setExcludePaths(excludePaths);
+
+    log.info("Changed the paths not logged: {}", excludePaths);
+    return excludePaths();
+  }
+}
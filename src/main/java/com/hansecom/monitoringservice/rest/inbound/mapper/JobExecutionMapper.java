@@ -0,0 +1,40 @@
+package com.hansecom.monitoringservice.rest.inbound.mapper;
+
+import com.hansecom.monitoringservice.configuration.MapperConfiguration;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecution;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecutionPercentilesResponseList;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecutionResponseList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDtoList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionPercentilesDtoList;
+import org.mapstruct.Mapper;
+
+/** Mapper from the job execution dtos into the REST model. */
+@Mapper(config = MapperConfiguration.class)
+public interface JobExecutionMapper {
+
+  /**
+   * Converts the job executions into the response.
+   *
+   * @param jobExecutionDtoList the job executions
+   * @return the response
+   */
+  JobExecutionResponseList toJobExecutionResponseList(JobExecutionDtoList jobExecutionDtoList);
+
+  /**
+   * Converts a {@link JobExecutionDto} into the REST model.
+   *
+   * @param jobExecutionDto the job execution dto
+   * @return the REST model
+   */
+  JobExecution toJobExecution(JobExecutionDto jobExecutionDto);
+
+  /**
+   * Converts the response time percentiles of the jobs into the response.
+   *
+   * @param jobExecutionPercentilesDtoList the percentiles of the jobs
+   * @return the response
+   */
+  JobExecutionPercentilesResponseList toJobExecutionPercentilesResponseList(
+      JobExecutionPercentilesDtoList jobExecutionPercentilesDtoList);
+}
@@ -0,0 +1,37 @@
+package com.hansecom.monitoringservice.rest.inbound.mapper;
+
+import com.hansecom.monitoringservice.configuration.MapperConfiguration;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.Job;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobStatusResponseList;
+import com.hansecom.monitoringservice.service.dto.JobDto;
+import com.hansecom.monitoringservice.service.dto.JobStatusDtoList;
+import org.mapstruct.Mapper;
+
+/** Mapper between the job REST model and {@link JobDto}. */
+@Mapper(config = MapperConfiguration.class)
+public interface JobMapper {
+
+  /**
+   * Converts the REST model into a {@link JobDto}.
+   *
+   * @param job the REST model
+   * @return the job dto
+   */
+  JobDto toJobDto(Job job);
+
+  /**
+   * Converts a {@link JobDto} into the REST model.
+   *
+   * @param jobDto the job dto
+   * @return the REST model
+   */
+  Job toJob(JobDto jobDto);
+
+  /**
+   * Converts the status of the jobs into the response.
+   *
+   * @param jobStatusDtoList the status of the jobs
+   * @return the response
+   */
+  JobStatusResponseList toJobStatusResponseList(JobStatusDtoList jobStatusDtoList);
+}
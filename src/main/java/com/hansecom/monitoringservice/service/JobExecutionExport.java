@@ -0,0 +1,18 @@
+package com.hansecom.monitoringservice.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** Export of job executions, written only when the output is available. */
+@FunctionalInterface
+public interface JobExecutionExport {
+
+  /**
+   * Streams the exported job executions to the output, which is flushed but not closed.
+   *
+   * @param outputStream where the job executions are written
+   * @return the number of exported job executions
+   * @throws IOException if an I/O error occurs
+   */
+  long writeTo(OutputStream outputStream) throws IOException;
+}
@@ -1,10 +1,13 @@
 package com.hansecom.monitoringservice.service;
 
+import com.hansecom.monitoringservice.service.dto.ExportFormat;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
 import com.hansecom.monitoringservice.service.dto.JobExecutionDtoList;
 import com.hansecom.monitoringservice.service.dto.JobExecutionFilterDto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
 
 /** Handles business logic for job executions. */
 @Validated
@@ -18,4 +21,27 @@ public interface JobExecutionService {
    */
   JobExecutionDtoList getJobsExecutions(
       @NotNull @Valid final JobExecutionFilterDto jobExecutionFilterDto);
+
+  /**
+   * Export all Job Executions matching the filters, sorted by created date and id.
+   *
+   * <p>The filters are validated right away, the job executions are only read while the export is
+   * written.
+   *
+   * @param jobExecutionFilterDto filters to apply in the query, the pagination is ignored
+   * @param exportFormat format of the exported job executions
+   * @return the export of the job executions found according to the filters
+   */
+  JobExecutionExport exportJobsExecutions(
+      @NotNull @Valid final JobExecutionFilterDto jobExecutionFilterDto,
+      @NotNull final ExportFormat exportFormat);
+
+  /**
+   * Stream the Job Executions recorded from now on, filtered by job name and status.
+   *
+   * @param jobExecutionFilterDto filters to apply, only the job name and the status are used
+   * @return the job executions as they are recorded, a slow subscriber loses the oldest ones
+   */
+  Flux<JobExecutionDto> streamJobsExecutions(
+      @NotNull @Valid final JobExecutionFilterDto jobExecutionFilterDto);
 }
@@ -0,0 +1,39 @@
+package com.hansecom.monitoringservice.service;
+
+import com.hansecom.monitoringservice.service.dto.JobExecutionPercentilesDtoList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupDtoList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupFilterDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.validation.annotation.Validated;
+
+/** Handles business logic for the job execution statistics. */
+@Validated
+public interface JobExecutionStatisticsService {
+
+  /**
+   * Get the statistics of the jobs per time bucket, read from the rollups.
+   *
+   * <p>The coarsest resolution whose buckets start at both ends of the time range, and that is
+   * still kept for the whole range, is used. When no resolution fits the range it is rounded down
+   * to the buckets of the finest resolution kept.
+   *
+   * @param jobExecutionRollupFilterDto filters to apply
+   * @return the statistics per job and bucket, with their resolution
+   */
+  JobExecutionRollupDtoList getJobsExecutionsRollups(
+      @NotNull @Valid final JobExecutionRollupFilterDto jobExecutionRollupFilterDto);
+
+  /**
+   * Get the response time percentiles of the jobs over the time range, read from the rollups.
+   *
+   * <p>The range is covered with the fewest rollups, day buckets in the middle and hour and minute
+   * buckets at its ends, merged per job. The ends of the range are rounded down to the minute, or
+   * to the hour or day where the finer rollups are no longer kept.
+   *
+   * @param jobExecutionRollupFilterDto filters to apply
+   * @return the percentiles per job
+   */
+  JobExecutionPercentilesDtoList getJobsExecutionsPercentiles(
+      @NotNull @Valid final JobExecutionRollupFilterDto jobExecutionRollupFilterDto);
+}
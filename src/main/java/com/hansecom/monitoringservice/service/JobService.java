@@ -1,6 +1,7 @@
 package com.hansecom.monitoringservice.service;
 
 import com.hansecom.monitoringservice.service.dto.JobDto;
+import com.hansecom.monitoringservice.service.dto.JobStatusDtoList;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.validation.annotation.Validated;
@@ -16,4 +17,11 @@ public interface JobService {
    * @return the newly created job
    */
   JobDto createJob(@NotNull @Valid final JobDto jobDto);
+
+  /**
+   * Get the current status and latest results of the jobs, kept in memory.
+   *
+   * @return the status of each job
+   */
+  JobStatusDtoList getJobsStatus();
 }
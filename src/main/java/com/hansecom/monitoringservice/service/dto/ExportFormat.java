@@ -0,0 +1,44 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import com.hansecom.monitoringservice.exception.StandardException;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.InvalidParamDetail;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Possible formats of the job executions export.
+ *
+ * <ul>
+ *   <li>NDJSON: one JSON object per line
+ *   <li>CSV: comma separated values with a header line
+ * </ul>
+ */
+public enum ExportFormat {
+  NDJSON,
+  CSV;
+
+  /**
+   * Returns the corresponding {@link ExportFormat} from the input string.
+   *
+   * <p>An error will be thrown if no matches found.
+   *
+   * @param value the export format value
+   * @return The corresponding {@link ExportFormat} if exists, otherwise returns an exception
+   * @throws StandardException if input don't match any value
+   */
+  public static ExportFormat fromString(String value) {
+
+    String errorMessage =
+        "Invalid export format value. Please provide one of %s"
+            .formatted(Arrays.toString(ExportFormat.values()));
+
+    return Arrays.stream(values())
+        .filter(v -> v.name().equals(value.toUpperCase()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                StandardException.invalidRequestParams(
+                    new IllegalArgumentException(errorMessage),
+                    List.of(new InvalidParamDetail().name("format").reason(errorMessage))));
+  }
+}
@@ -1,11 +1,11 @@
 package com.hansecom.monitoringservice.service.dto;
 
 import java.time.Instant;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.validator.constraints.UUID;
 
 /** Data transfer object for Job Execution */
 @Data
@@ -26,5 +26,21 @@ public class JobExecutionDto {
 
   private Long responseTime;
 
+  private Long responseSize;
+
+  private String responseHash;
+
+  private Long dnsNanos;
+
+  private Long connectNanos;
+
+  private Long tlsNanos;
+
+  private Long ttfbNanos;
+
+  private Long downloadNanos;
+
+  private Long totalNanos;
+
   private Instant createdDate;
 }
@@ -11,7 +11,15 @@ public class JobExecutionDtoList {
 
   private List<JobExecutionDto> jobExecutionList;
 
-  private int totalPages;
+  private TotalMode totalMode;
 
-  private long totalElements;
+  /** Null when the total mode is {@link TotalMode#NONE}. */
+  private Integer totalPages;
+
+  /** Null when the total mode is {@link TotalMode#NONE}. */
+  private Long totalElements;
+
+  private boolean hasNext;
+
+  private String nextCursor;
 }
@@ -34,4 +34,8 @@ public class JobExecutionFilterDto {
   @NotNull
   private Optional<@Valid @ValidPageRequestDto(clazz = JobExecutionEntity.class) PageRequestDto>
       pageRequestDto;
+
+  @NotNull private Optional<String> cursor;
+
+  @NotNull private Optional<TotalMode> totalMode;
 }
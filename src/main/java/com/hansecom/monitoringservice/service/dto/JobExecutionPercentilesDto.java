@@ -0,0 +1,38 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data transfer object for the response time percentiles of a job over a time range. */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobExecutionPercentilesDto {
+
+  private String jobName;
+
+  private long executions;
+
+  private long failures;
+
+  /** In milliseconds, null without response times. */
+  private Long minResponseTime;
+
+  /** In milliseconds, null without response times. */
+  private Long maxResponseTime;
+
+  /** In milliseconds, null without response times. */
+  private Double meanResponseTime;
+
+  /** In milliseconds, null without response times. */
+  private Double p50;
+
+  /** In milliseconds, null without response times. */
+  private Double p90;
+
+  /** In milliseconds, null without response times. */
+  private Double p99;
+}
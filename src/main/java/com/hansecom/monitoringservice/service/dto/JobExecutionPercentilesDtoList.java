@@ -0,0 +1,14 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Data transfer object for the response time percentiles of jobs over a time range. */
+@Getter
+@Builder
+public class JobExecutionPercentilesDtoList {
+
+  /** Sorted by job name, jobs without job executions in the time range are missing. */
+  private List<JobExecutionPercentilesDto> percentileList;
+}
@@ -0,0 +1,32 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data transfer object for the statistics of a job within a time bucket. */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobExecutionRollupDto {
+
+  private String jobName;
+
+  private Instant bucketStart;
+
+  private long executions;
+
+  private long failures;
+
+  /** In milliseconds, null without response times. */
+  private Long minResponseTime;
+
+  /** In milliseconds, null without response times. */
+  private Long maxResponseTime;
+
+  /** In milliseconds, null without response times. */
+  private Double meanResponseTime;
+}
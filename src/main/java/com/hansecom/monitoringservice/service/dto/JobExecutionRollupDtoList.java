@@ -0,0 +1,17 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Data transfer object for the statistics of jobs over a time range. */
+@Getter
+@Builder
+public class JobExecutionRollupDtoList {
+
+  /** Bucket size of the statistics. */
+  private RollupResolution resolution;
+
+  /** Sorted by job name and bucket start, buckets without job executions are missing. */
+  private List<JobExecutionRollupDto> rollupList;
+}
@@ -0,0 +1,25 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data transfer object for filtering Job Execution statistics. */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobExecutionRollupFilterDto {
+
+  @NotNull private Optional<String> jobName;
+
+  /** Start of the time range, inclusive. */
+  @NotNull private Instant from;
+
+  /** End of the time range, exclusive. */
+  @NotNull private Instant to;
+}
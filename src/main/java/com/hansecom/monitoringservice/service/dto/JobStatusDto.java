@@ -0,0 +1,30 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data transfer object for the current status and the recent results of a job. */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusDto {
+
+  private String jobName;
+
+  /** Null without results. */
+  private JobExecutionStatus lastStatus;
+
+  /** Null without results. */
+  private Instant lastExecutionDate;
+
+  /** Failed among the recent results. */
+  private int recentFailures;
+
+  /** Newest first. */
+  private List<JobStatusResultDto> recentResults;
+}
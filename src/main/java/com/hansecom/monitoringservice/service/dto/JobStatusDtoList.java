@@ -0,0 +1,14 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Data transfer object for the status of the jobs. */
+@Getter
+@Builder
+public class JobStatusDtoList {
+
+  /** Sorted by job name. */
+  private List<JobStatusDto> statusList;
+}
@@ -0,0 +1,22 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data transfer object for a recent result of a job. */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusResultDto {
+
+  private Instant createdDate;
+
+  private JobExecutionStatus status;
+
+  /** In milliseconds, null without response time. */
+  private Long responseTime;
+}
@@ -0,0 +1,8 @@
+package com.hansecom.monitoringservice.service.dto;
+
+/** Possible time bucket sizes of the job execution statistics, in UTC. */
+public enum RollupResolution {
+  MINUTE,
+  HOUR,
+  DAY
+}
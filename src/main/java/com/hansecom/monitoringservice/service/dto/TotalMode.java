@@ -0,0 +1,46 @@
+package com.hansecom.monitoringservice.service.dto;
+
+import com.hansecom.monitoringservice.exception.StandardException;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.InvalidParamDetail;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Possible values for how the total of a listing is calculated.
+ *
+ * <ul>
+ *   <li>EXACT: exact count of the matching elements, NONE is used instead with a cursor
+ *   <li>ESTIMATE: PostgreSQL planner estimate, constant cost whatever the table size
+ *   <li>NONE: no total, only if there is a next page
+ * </ul>
+ */
+public enum TotalMode {
+  EXACT,
+  ESTIMATE,
+  NONE;
+
+  /**
+   * Returns the corresponding {@link TotalMode} from the input string.
+   *
+   * <p>An error will be thrown if no matches found.
+   *
+   * @param value the total mode value
+   * @return The corresponding {@link TotalMode} if exists, otherwise returns an exception
+   * @throws StandardException if input don't match any value
+   */
+  public static TotalMode fromString(String value) {
+
+    String errorMessage =
+        "Invalid total mode value. Please provide one of %s"
+            .formatted(Arrays.toString(TotalMode.values()));
+
+    return Arrays.stream(values())
+        .filter(v -> v.name().equals(value.toUpperCase()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                StandardException.invalidRequestParams(
+                    new IllegalArgumentException(errorMessage),
+                    List.of(new InvalidParamDetail().name("totalMode").reason(errorMessage))));
+  }
+}
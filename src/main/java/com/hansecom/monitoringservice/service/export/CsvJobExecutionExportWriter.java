@@ -0,0 +1,95 @@
+package com.hansecom.monitoringservice.service.export;
+
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes job executions as comma separated values, with a header line. Null fields are empty and
+ * the values with commas, quotes or line breaks are quoted.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc4180">RFC 4180</a>
+ */
+final class CsvJobExecutionExportWriter implements JobExecutionExportWriter {
+
+  static final String HEADER =
+      "externalId,jobName,url,status,errorMessage,responseTime,responseSize,responseHash,dnsNanos,"
+          + "connectNanos,tlsNanos,ttfbNanos,downloadNanos,totalNanos,createdDate";
+
+  private static final String LINE_BREAK = "\r\n";
+
+  private final Writer writer;
+
+  /**
+   * Constructor, writes the header line.
+   *
+   * @param outputStream where the job executions are written
+   * @throws IOException if an I/O error occurs
+   */
+  CsvJobExecutionExportWriter(OutputStream outputStream) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    this.writer.write(HEADER);
+    this.writer.write(LINE_BREAK);
+  }
+
+  @Override
+  public void write(JobExecutionDto jobExecutionDto) throws IOException {
+    writeValue(jobExecutionDto.getExternalId());
+    writeValue(jobExecutionDto.getJobName());
+    writeValue(jobExecutionDto.getUrl());
+    writeValue(jobExecutionDto.getStatus());
+    writeValue(jobExecutionDto.getErrorMessage());
+    writeValue(jobExecutionDto.getResponseTime());
+    writeValue(jobExecutionDto.getResponseSize());
+    writeValue(jobExecutionDto.getResponseHash());
+    writeValue(jobExecutionDto.getDnsNanos());
+    writeValue(jobExecutionDto.getConnectNanos());
+    writeValue(jobExecutionDto.getTlsNanos());
+    writeValue(jobExecutionDto.getTtfbNanos());
+    writeValue(jobExecutionDto.getDownloadNanos());
+    writeValue(jobExecutionDto.getTotalNanos());
+    writeLastValue(jobExecutionDto.getCreatedDate());
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  /** Writes the value followed by the separator. */
+  private void writeValue(Object value) throws IOException {
+    if (value != null) {
+      writer.write(quote(value.toString()));
+    }
+    writer.write(',');
+  }
+
+  /** Writes the last value of the line followed by the line break. */
+  private void writeLastValue(Object value) throws IOException {
+    if (value != null) {
+      writer.write(quote(value.toString()));
+    }
+    writer.write(LINE_BREAK);
+  }
+
+  /**
+   * Quotes the value if needed, doubling the quotes inside.
+   *
+   * @param value the value
+   * @return the value ready to be written
+   */
+  static String quote(String value) {
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+        return '"' + value.replace("\"", "\"\"") + '"';
+      }
+    }
+    return value;
+  }
+}
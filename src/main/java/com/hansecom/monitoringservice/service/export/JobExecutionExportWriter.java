@@ -0,0 +1,48 @@
+package com.hansecom.monitoringservice.service.export;
+
+import com.hansecom.monitoringservice.service.dto.ExportFormat;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes job executions one by one in an export format.
+ *
+ * <p>Writers buffer a small amount of output and write it as they go, so the memory used does not
+ * depend on the number of job executions. The fields are written by hand, without reflection, in
+ * the same order and with the same names as the REST model.
+ */
+public interface JobExecutionExportWriter {
+
+  /**
+   * Writes a job execution.
+   *
+   * @param jobExecutionDto the job execution
+   * @throws IOException if an I/O error occurs
+   */
+  void write(JobExecutionDto jobExecutionDto) throws IOException;
+
+  /**
+   * Flushes the buffered output, without closing the output stream.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  void flush() throws IOException;
+
+  /**
+   * Creates the writer of the format.
+   *
+   * @param exportFormat the export format
+   * @param outputStream where the job executions are written
+   * @return the writer
+   * @throws IOException if an I/O error occurs
+   */
+  static JobExecutionExportWriter of(ExportFormat exportFormat, OutputStream outputStream)
+      throws IOException {
+
+    return switch (exportFormat) {
+      case NDJSON -> new NdjsonJobExecutionExportWriter(outputStream);
+      case CSV -> new CsvJobExecutionExportWriter(outputStream);
+    };
+  }
+}
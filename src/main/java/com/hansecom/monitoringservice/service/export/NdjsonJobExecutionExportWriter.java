@@ -0,0 +1,72 @@
+package com.hansecom.monitoringservice.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes job executions as newline delimited JSON, one object per line, skipping the null fields.
+ *
+ * @see <a href="https://github.com/ndjson/ndjson-spec">NDJSON specification</a>
+ */
+final class NdjsonJobExecutionExportWriter implements JobExecutionExportWriter {
+
+  private static final JsonFactory JSON_FACTORY =
+      JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+  private final JsonGenerator generator;
+
+  /**
+   * Constructor.
+   *
+   * @param outputStream where the job executions are written
+   * @throws IOException if an I/O error occurs
+   */
+  NdjsonJobExecutionExportWriter(OutputStream outputStream) throws IOException {
+    this.generator = JSON_FACTORY.createGenerator(outputStream);
+    // objects are separated by the new line written after each one
+    this.generator.setRootValueSeparator(null);
+  }
+
+  @Override
+  public void write(JobExecutionDto jobExecutionDto) throws IOException {
+    generator.writeStartObject();
+    writeString("externalId", jobExecutionDto.getExternalId());
+    writeString("jobName", jobExecutionDto.getJobName());
+    writeString("url", jobExecutionDto.getUrl());
+    writeString("status", jobExecutionDto.getStatus());
+    writeString("errorMessage", jobExecutionDto.getErrorMessage());
+    writeNumber("responseTime", jobExecutionDto.getResponseTime());
+    writeNumber("responseSize", jobExecutionDto.getResponseSize());
+    writeString("responseHash", jobExecutionDto.getResponseHash());
+    writeNumber("dnsNanos", jobExecutionDto.getDnsNanos());
+    writeNumber("connectNanos", jobExecutionDto.getConnectNanos());
+    writeNumber("tlsNanos", jobExecutionDto.getTlsNanos());
+    writeNumber("ttfbNanos", jobExecutionDto.getTtfbNanos());
+    writeNumber("downloadNanos", jobExecutionDto.getDownloadNanos());
+    writeNumber("totalNanos", jobExecutionDto.getTotalNanos());
+    writeString("createdDate", jobExecutionDto.getCreatedDate());
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  @Override
+  public void flush() throws IOException {
+    generator.flush();
+  }
+
+  private void writeString(String name, Object value) throws IOException {
+    if (value != null) {
+      generator.writeStringField(name, value.toString());
+    }
+  }
+
+  private void writeNumber(String name, Long value) throws IOException {
+    if (value != null) {
+      generator.writeNumberField(name, value);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.hansecom.monitoringservice.service.feed;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionDtoMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-process live feed of the job executions, as they are recorded by the jobs.
+ *
+ * <p>Job executions are published to a multicast sink and pushed to every subscriber, the database
+ * is never queried. Each subscriber gets its own bounded buffer, configured through the property
+ * {@code custom-properties.job-execution.stream.buffer-size}: a subscriber that does not keep up
+ * loses its oldest pending job executions, without slowing down the jobs nor the other subscribers.
+ * When there are no subscribers publishing is a no-op.
+ *
+ * <p>On shutdown the feed completes, so the subscribers are notified.
+ *
+ * <p>Exposes the gauge {@code monitoring.job.execution.stream.subscribers} and the counter {@code
+ * monitoring.job.execution.stream.dropped}.
+ */
+@Slf4j
+@Component
+public class JobExecutionFeed implements DisposableBean {
+
+  /** Not serialized by the sink, concurrent publishers are serialized by {@link #publish}. */
+  private final Sinks.Many<JobExecutionDto> sink =
+      Sinks.unsafe().many().multicast().directBestEffort();
+
+  private final JobExecutionDtoMapper jobExecutionDtoMapper;
+
+  private final int bufferSize;
+
+  private final Counter dropped;
+
+  /**
+   * Constructor.
+   *
+   * @param jobExecutionDtoMapper mapper of the published job executions
+   * @param meterRegistry registry for the feed metrics
+   * @param bufferSize max job executions waiting to be sent to each subscriber
+   */
+  public JobExecutionFeed(
+      JobExecutionDtoMapper jobExecutionDtoMapper,
+      MeterRegistry meterRegistry,
+      @Value("${custom-properties.job-execution.stream.buffer-size:256}") int bufferSize) {
+
+    this.jobExecutionDtoMapper = jobExecutionDtoMapper;
+    this.bufferSize = bufferSize;
+
+    Gauge.builder(
+            "monitoring.job.execution.stream.subscribers", sink, Sinks.Many::currentSubscriberCount)
+        .description("Subscribers of the job executions live feed")
+        .register(meterRegistry);
+    this.dropped =
+        Counter.builder("monitoring.job.execution.stream.dropped")
+            .description("Job executions not sent to a slow subscriber of the live feed")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Publishes the job execution to the current subscribers.
+   *
+   * @param jobExecutionEntity the recorded job execution, with its created date, not queued for
+   *     saving yet
+   */
+  public void publish(JobExecutionEntity jobExecutionEntity) {
+
+    if (sink.currentSubscriberCount() == 0) {
+      return;
+    }
+
+    JobExecutionDto jobExecutionDto = jobExecutionDtoMapper.toJobExecutionDto(jobExecutionEntity);
+
+    synchronized (sink) {
+      sink.tryEmitNext(jobExecutionDto);
+    }
+  }
+
+  /**
+   * Subscribes to the job executions published from now on.
+   *
+   * @param jobName only job executions of this job, if present
+   * @param status only job executions with this status, if present
+   * @return the job executions, completes when the application stops
+   */
+  public Flux<JobExecutionDto> subscribe(
+      Optional<String> jobName, Optional<JobExecutionStatus> status) {
+
+    return sink.asFlux()
+        .filter(
+            jobExecutionDto ->
+                jobName.map(name -> name.equals(jobExecutionDto.getJobName())).orElse(true)
+                    && status.map(value -> value.equals(jobExecutionDto.getStatus())).orElse(true))
+        .onBackpressureBuffer(
+            bufferSize, jobExecutionDto -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST);
+  }
+
+  /** Completes the feed for all the subscribers. */
+  @Override
+  public void destroy() {
+
+    synchronized (sink) {
+      sink.tryEmitComplete();
+    }
+    log.debug("Job execution feed completed");
+  }
+}
@@ -1,36 +1,54 @@
 package com.hansecom.monitoringservice.service.impl;
 
 import com.hansecom.monitoringservice.exception.StandardException;
+import com.hansecom.monitoringservice.persistence.model.AbstractModelEntity_;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
-import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCursor;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
 import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.InvalidParamDetail;
+import com.hansecom.monitoringservice.service.JobExecutionExport;
 import com.hansecom.monitoringservice.service.JobExecutionService;
+import com.hansecom.monitoringservice.service.dto.ExportFormat;
 import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
 import com.hansecom.monitoringservice.service.dto.JobExecutionDtoList;
 import com.hansecom.monitoringservice.service.dto.JobExecutionFilterDto;
 import com.hansecom.monitoringservice.service.dto.PageRequestDto;
+import com.hansecom.monitoringservice.service.dto.TotalMode;
+import com.hansecom.monitoringservice.service.export.JobExecutionExportWriter;
+import com.hansecom.monitoringservice.service.feed.JobExecutionFeed;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionDtoMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 /** Implementation service of {@link JobExecutionService}. */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobExecutionServiceImpl implements JobExecutionService {
 
   private final JobExecutionRepository jobExecutionRepository;
 
-  private final ModelMapper mapper;
+  private final JobExecutionDtoMapper jobExecutionDtoMapper;
+
+  private final JobExecutionFeed jobExecutionFeed;
 
   @Value("${custom-properties.database.pagination.max-page-size:100}")
   private int maxPageSize;
@@ -39,6 +57,88 @@ public class JobExecutionServiceImpl implements JobExecutionService {
   public JobExecutionDtoList getJobsExecutions(
       @NotNull @Valid JobExecutionFilterDto jobExecutionFilterDto) {
 
+    validateDateRange(jobExecutionFilterDto);
+
+    Optional<JobExecutionCursor> cursor = jobExecutionFilterDto.getCursor().map(this::cursor);
+    TotalMode totalMode = totalMode(jobExecutionFilterDto.getTotalMode(), cursor);
+
+    JobExecutionCriteriaParams jobExecutionCriteriaParams =
+        jobExecutionDtoMapper.toJobExecutionCriteriaParams(jobExecutionFilterDto);
+    jobExecutionCriteriaParams
+        .setPageable(pageRequest(jobExecutionFilterDto.getPageRequestDto(), cursor))
+        .setAfter(cursor)
+        .setEstimateTotal(TotalMode.ESTIMATE.equals(totalMode));
+
+    Slice<JobExecutionView> result =
+        jobExecutionRepository.findViewsByCriteria(jobExecutionCriteriaParams);
+
+    List<JobExecutionDto> jobExecutionDtoList =
+        result.stream().map(jobExecutionDtoMapper::toJobExecutionDto).toList();
+
+    JobExecutionDtoList.JobExecutionDtoListBuilder jobExecutionDtoListBuilder =
+        JobExecutionDtoList.builder()
+            .jobExecutionList(jobExecutionDtoList)
+            .totalMode(totalMode)
+            .hasNext(result.hasNext())
+            .nextCursor(nextCursor(result).map(JobExecutionCursor::encode).orElse(null));
+
+    if (!TotalMode.NONE.equals(totalMode)) {
+      Page<JobExecutionView> page = page(result, jobExecutionCriteriaParams);
+      jobExecutionDtoListBuilder
+          .totalPages(page.getTotalPages())
+          .totalElements(page.getTotalElements());
+    }
+
+    return jobExecutionDtoListBuilder.build();
+  }
+
+  @Override
+  public JobExecutionExport exportJobsExecutions(
+      @NotNull @Valid JobExecutionFilterDto jobExecutionFilterDto,
+      @NotNull ExportFormat exportFormat) {
+
+    validateDateRange(jobExecutionFilterDto);
+
+    // oldest first, following the created date index
+    JobExecutionCriteriaParams jobExecutionCriteriaParams =
+        jobExecutionDtoMapper
+            .toJobExecutionCriteriaParams(jobExecutionFilterDto)
+            .setPageable(Pageable.unpaged(keysetSort(Sort.Direction.ASC)));
+
+    return outputStream -> {
+      JobExecutionExportWriter writer = JobExecutionExportWriter.of(exportFormat, outputStream);
+
+      long count;
+      try {
+        count =
+            jobExecutionRepository.forEachViewByCriteria(
+                jobExecutionCriteriaParams, jobExecutionView -> write(writer, jobExecutionView));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writer.flush();
+
+      log.debug("Exported {} job executions as {}", count, exportFormat);
+      return count;
+    };
+  }
+
+  @Override
+  public Flux<JobExecutionDto> streamJobsExecutions(
+      @NotNull @Valid JobExecutionFilterDto jobExecutionFilterDto) {
+
+    return jobExecutionFeed.subscribe(
+        jobExecutionFilterDto.getJobName(), jobExecutionFilterDto.getStatus());
+  }
+
+  /**
+   * Validates that the from date is not after the to date.
+   *
+   * @param jobExecutionFilterDto the filters
+   * @throws StandardException if the date range is invalid
+   */
+  private static void validateDateRange(JobExecutionFilterDto jobExecutionFilterDto) {
+
     Optional<Instant> from = jobExecutionFilterDto.getFrom();
     Optional<Instant> to = jobExecutionFilterDto.getTo();
     if (from.isPresent()
@@ -46,24 +146,122 @@ public class JobExecutionServiceImpl implements JobExecutionService {
         && (from.get().isAfter(to.get()) || to.get().isBefore(from.get()))) {
       throw StandardException.invalidDateRange();
     }
+  }
 
-    JobExecutionCriteriaParams jobExecutionCriteriaParams =
-        mapper.map(jobExecutionFilterDto, JobExecutionCriteriaParams.class);
-    jobExecutionCriteriaParams.setPageable(pageRequest(jobExecutionFilterDto.getPageRequestDto()));
+  /**
+   * Writes the projection to the export.
+   *
+   * @param writer the export writer
+   * @param jobExecutionView the projection
+   * @throws UncheckedIOException if an I/O error occurs, as the repository consumer can not throw
+   *     checked exceptions
+   */
+  private void write(JobExecutionExportWriter writer, JobExecutionView jobExecutionView) {
 
-    Page<JobExecutionEntity> result =
-        jobExecutionRepository.findByCriteria(jobExecutionCriteriaParams);
+    try {
+      writer.write(jobExecutionDtoMapper.toJobExecutionDto(jobExecutionView));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
-    List<JobExecutionDto> jobExecutionDtoList =
-        result
-            .map(jobExecutionEntity -> mapper.map(jobExecutionEntity, JobExecutionDto.class))
-            .toList();
-
-    return JobExecutionDtoList.builder()
-        .jobExecutionList(jobExecutionDtoList)
-        .totalPages(result.getTotalPages())
-        .totalElements(result.getTotalElements())
-        .build();
+  /**
+   * Adds the total elements to the slice, the count is skipped when the total is known from the
+   * slice itself, like a last page without cursor.
+   *
+   * @param slice the current slice
+   * @param jobExecutionCriteriaParams the criteria of the slice
+   * @return the page with the total elements
+   */
+  private Page<JobExecutionView> page(
+      Slice<JobExecutionView> slice, JobExecutionCriteriaParams jobExecutionCriteriaParams) {
+
+    Pageable pageable = slice.getPageable();
+
+    if (jobExecutionCriteriaParams.getAfter().isEmpty()
+        && !slice.hasNext()
+        && (slice.hasContent() || pageable.getOffset() == 0)) {
+      return new PageImpl<>(
+          slice.getContent(), pageable, pageable.getOffset() + slice.getNumberOfElements());
+    }
+
+    return new PageImpl<>(
+        slice.getContent(),
+        pageable,
+        jobExecutionRepository.countByCriteria(jobExecutionCriteriaParams));
+  }
+
+  /**
+   * Resolves the total mode of the listing, {@link TotalMode#EXACT} by default.
+   *
+   * <p>With a cursor an exact total is not calculated, it would count all the matching job
+   * executions on every page and cancel the point of keyset pagination, {@link TotalMode#NONE} is
+   * used instead.
+   *
+   * @param totalMode the total mode requested
+   * @param cursor the cursor of the page, if any
+   * @return the total mode used
+   */
+  private static TotalMode totalMode(
+      Optional<TotalMode> totalMode, Optional<JobExecutionCursor> cursor) {
+
+    TotalMode requested = totalMode.orElse(TotalMode.EXACT);
+    return cursor.isPresent() && TotalMode.EXACT.equals(requested) ? TotalMode.NONE : requested;
+  }
+
+  /**
+   * Decodes the cursor sent by the client.
+   *
+   * @param value the encoded cursor
+   * @return the cursor
+   * @throws StandardException if the cursor is not valid
+   */
+  private JobExecutionCursor cursor(String value) {
+
+    try {
+      return JobExecutionCursor.decode(value);
+    } catch (IllegalArgumentException e) {
+      String errorMessage =
+          "Invalid cursor value. Please provide the nextCursor of the previous page";
+      throw StandardException.invalidRequestParams(
+          new IllegalArgumentException(errorMessage, e),
+          List.of(new InvalidParamDetail().name("cursor").reason(errorMessage)));
+    }
+  }
+
+  /**
+   * Returns the cursor of the page after the result, only possible when there is a next page and
+   * the result is sorted by created date and id.
+   *
+   * @param result the current page
+   * @return the cursor of the next page, empty if there are no more pages or the sort does not
+   *     allow keyset pagination
+   */
+  private static Optional<JobExecutionCursor> nextCursor(Slice<JobExecutionView> result) {
+
+    if (!result.hasNext() || !result.hasContent()) {
+      return Optional.empty();
+    }
+
+    Sort sort = result.getSort();
+    Sort.Order createdDate = sort.getOrderFor(AbstractModelEntity_.CREATED_DATE);
+    if (createdDate == null || !sort.equals(keysetSort(createdDate.getDirection()))) {
+      return Optional.empty();
+    }
+
+    JobExecutionView last = result.getContent().getLast();
+    return Optional.of(
+        new JobExecutionCursor(last.createdDate(), last.id(), createdDate.getDirection()));
+  }
+
+  /**
+   * Sort that allows keyset pagination, by created date and by id for equal created dates.
+   *
+   * @param direction the sort direction
+   * @return the sort
+   */
+  private static Sort keysetSort(Sort.Direction direction) {
+    return Sort.by(direction, AbstractModelEntity_.CREATED_DATE, AbstractModelEntity_.ID);
   }
 
   /**
@@ -79,15 +277,20 @@ public class JobExecutionServiceImpl implements JobExecutionService {
    *   <li>sortProperties: createdDate
    * </ul>
    *
+   * <p>When sorting only by created date, the id is added to the sort to have a stable order and
+   * allow keyset pagination. With a cursor the page number and sort are ignored, the first page
+   * after the cursor is requested, sorted in the cursor direction.
+   *
    * @param pageRequestDto input dto
+   * @param cursor the cursor of the previous page, if any
    * @return a {@link PageRequest} based on input and default values
    */
-  private PageRequest pageRequest(Optional<PageRequestDto> pageRequestDto) {
+  private PageRequest pageRequest(
+      Optional<PageRequestDto> pageRequestDto, Optional<JobExecutionCursor> cursor) {
 
     int pageNumber = 0;
     int pageSize = maxPageSize;
-    Sort sort =
-        Sort.sort(JobExecutionEntity.class).by(JobExecutionEntity::getCreatedDate).descending();
+    Sort sort = keysetSort(Sort.Direction.DESC);
 
     if (pageRequestDto.isPresent()) {
       if (pageRequestDto.get().pageNumber() != null) {
@@ -107,6 +310,15 @@ public class JobExecutionServiceImpl implements JobExecutionService {
       }
     }
 
+    if (cursor.isPresent()) {
+      return PageRequest.of(0, pageSize, keysetSort(cursor.get().direction()));
+    }
+
+    Sort.Order createdDate = sort.getOrderFor(AbstractModelEntity_.CREATED_DATE);
+    if (createdDate != null && sort.equals(Sort.by(createdDate))) {
+      sort = keysetSort(createdDate.getDirection());
+    }
+
     return PageRequest.of(pageNumber, pageSize, sort);
   }
 }
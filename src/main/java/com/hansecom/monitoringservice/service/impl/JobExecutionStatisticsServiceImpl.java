@@ -0,0 +1,220 @@
+package com.hansecom.monitoringservice.service.impl;
+
+import com.hansecom.monitoringservice.exception.StandardException;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionRollup;
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.persistence.rollup.JobExecutionRollupCache;
+import com.hansecom.monitoringservice.persistence.rollup.JobExecutionRollupRetention;
+import com.hansecom.monitoringservice.service.JobExecutionStatisticsService;
+import com.hansecom.monitoringservice.service.dto.JobExecutionPercentilesDtoList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupDtoList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupFilterDto;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionRollupDtoMapper;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/** Implementation service of {@link JobExecutionStatisticsService}. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobExecutionStatisticsServiceImpl implements JobExecutionStatisticsService {
+
+  /** From the coarsest to the finest. */
+  private static final List<RollupResolutionEntity> COARSEST_FIRST =
+      List.of(
+          RollupResolutionEntity.DAY, RollupResolutionEntity.HOUR, RollupResolutionEntity.MINUTE);
+
+  private final JobExecutionRollupCache jobExecutionRollupCache;
+
+  private final JobExecutionRollupDtoMapper jobExecutionRollupDtoMapper;
+
+  private final JobExecutionRollupRetention jobExecutionRollupRetention;
+
+  @Override
+  public JobExecutionRollupDtoList getJobsExecutionsRollups(
+      @NotNull @Valid JobExecutionRollupFilterDto jobExecutionRollupFilterDto) {
+
+    Instant from = jobExecutionRollupFilterDto.getFrom();
+    Instant to = jobExecutionRollupFilterDto.getTo();
+    if (!from.isBefore(to)) {
+      throw StandardException.invalidDateRange();
+    }
+
+    RollupResolutionEntity resolution = resolution(from, to, Instant.now());
+    List<JobExecutionRollup> rollups =
+        jobExecutionRollupCache.findRollups(
+            resolution, jobExecutionRollupFilterDto.getJobName(), resolution.bucketStart(from), to);
+
+    log.debug("Read {} {} job execution rollups", rollups.size(), resolution);
+
+    return JobExecutionRollupDtoList.builder()
+        .resolution(jobExecutionRollupDtoMapper.toRollupResolution(resolution))
+        .rollupList(
+            rollups.stream().map(jobExecutionRollupDtoMapper::toJobExecutionRollupDto).toList())
+        .build();
+  }
+
+  @Override
+  public JobExecutionPercentilesDtoList getJobsExecutionsPercentiles(
+      @NotNull @Valid JobExecutionRollupFilterDto jobExecutionRollupFilterDto) {
+
+    Instant from = jobExecutionRollupFilterDto.getFrom();
+    Instant to = jobExecutionRollupFilterDto.getTo();
+    if (!from.isBefore(to)) {
+      throw StandardException.invalidDateRange();
+    }
+
+    List<RollupSegment> segments = segments(from, to, Instant.now());
+
+    Map<String, JobExecutionRollup> merged = new TreeMap<>();
+    for (RollupSegment segment : segments) {
+      for (JobExecutionRollup rollup :
+          jobExecutionRollupCache.findRollups(
+              segment.resolution(),
+              jobExecutionRollupFilterDto.getJobName(),
+              segment.from(),
+              segment.to())) {
+        merged
+            .computeIfAbsent(
+                rollup.getJobName(),
+                jobName -> JobExecutionRollup.empty(rollup.getResolution(), jobName, from))
+            .merge(rollup);
+      }
+    }
+
+    log.debug("Merged the job execution rollups of {} segments", segments.size());
+
+    return JobExecutionPercentilesDtoList.builder()
+        .percentileList(
+            merged.values().stream()
+                .map(jobExecutionRollupDtoMapper::toJobExecutionPercentilesDto)
+                .toList())
+        .build();
+  }
+
+  /**
+   * Picks the coarsest resolution able to answer the time range, so the fewest rollups are read.
+   *
+   * @param from start of the range, inclusive
+   * @param to end of the range, exclusive
+   * @param now the current instant
+   * @return the coarsest resolution with buckets starting at both ends of the range and kept for
+   *     the whole range, otherwise the finest resolution kept, rounding the range to its buckets
+   */
+  RollupResolutionEntity resolution(Instant from, Instant to, Instant now) {
+
+    for (RollupResolutionEntity resolution : COARSEST_FIRST) {
+      if (resolution.isBucketStart(from)
+          && resolution.isBucketStart(to)
+          && isKept(resolution, from, now)) {
+        return resolution;
+      }
+    }
+
+    for (RollupResolutionEntity resolution : COARSEST_FIRST.reversed()) {
+      if (isKept(resolution, from, now)) {
+        return resolution;
+      }
+    }
+
+    return RollupResolutionEntity.DAY;
+  }
+
+  /**
+   * Covers the time range with the fewest rollups, the whole buckets of the coarsest resolution in
+   * the middle and the finer resolutions at both ends.
+   *
+   * @param from start of the range, inclusive
+   * @param to end of the range, exclusive
+   * @param now the current instant
+   * @return the segments, each read from the rollups of a single resolution
+   */
+  List<RollupSegment> segments(Instant from, Instant to, Instant now) {
+
+    List<RollupSegment> segments = new ArrayList<>();
+    cover(from, to, 0, now, segments);
+    return segments;
+  }
+
+  /**
+   * Covers the time range with the whole buckets of a resolution, leaving the ends to the finer
+   * ones.
+   *
+   * @param from start of the range, inclusive
+   * @param to end of the range, exclusive
+   * @param level the index of the resolution in {@link #COARSEST_FIRST}
+   * @param now the current instant
+   * @param segments where the segments are added, in time order
+   */
+  private void cover(
+      Instant from, Instant to, int level, Instant now, List<RollupSegment> segments) {
+
+    RollupResolutionEntity resolution = COARSEST_FIRST.get(level);
+    if (level == COARSEST_FIRST.size() - 1) {
+      segments.add(new RollupSegment(resolution, resolution.bucketStart(from), to));
+      return;
+    }
+
+    Instant bucketsFrom =
+        resolution.isBucketStart(from)
+            ? from
+            : resolution.bucketStart(from).plus(1, resolution.getUnit());
+    Instant bucketsTo = resolution.bucketStart(to);
+    if (!bucketsFrom.isBefore(bucketsTo)) {
+      coverFiner(from, to, level, now, segments);
+      return;
+    }
+
+    if (from.isBefore(bucketsFrom)) {
+      coverFiner(from, bucketsFrom, level, now, segments);
+    }
+    segments.add(new RollupSegment(resolution, bucketsFrom, bucketsTo));
+    if (bucketsTo.isBefore(to)) {
+      coverFiner(bucketsTo, to, level, now, segments);
+    }
+  }
+
+  /**
+   * Covers a time range shorter than a bucket of a resolution with the finer resolution, or with
+   * the bucket it starts in when the finer rollups are no longer kept.
+   *
+   * @param from start of the range, inclusive
+   * @param to end of the range, exclusive
+   * @param level the index of the resolution in {@link #COARSEST_FIRST}
+   * @param now the current instant
+   * @param segments where the segments are added, in time order
+   */
+  private void coverFiner(
+      Instant from, Instant to, int level, Instant now, List<RollupSegment> segments) {
+
+    if (isKept(COARSEST_FIRST.get(level + 1), from, now)) {
+      cover(from, to, level + 1, now, segments);
+    } else {
+      RollupResolutionEntity resolution = COARSEST_FIRST.get(level);
+      segments.add(new RollupSegment(resolution, resolution.bucketStart(from), to));
+    }
+  }
+
+  private boolean isKept(RollupResolutionEntity resolution, Instant from, Instant now) {
+    return !resolution
+        .bucketStart(from)
+        .isBefore(jobExecutionRollupRetention.oldestKept(resolution, now));
+  }
+
+  /**
+   * Part of a time range read from the rollups of a single resolution.
+   *
+   * @param resolution the bucket size
+   * @param from start of the buckets, inclusive
+   * @param to end of the buckets, exclusive
+   */
+  record RollupSegment(RollupResolutionEntity resolution, Instant from, Instant to) {}
+}
@@ -4,6 +4,8 @@ import com.hansecom.monitoringservice.exception.StandardException;
 import com.hansecom.monitoringservice.job.UrlMonitorJob;
 import com.hansecom.monitoringservice.service.JobService;
 import com.hansecom.monitoringservice.service.dto.JobDto;
+import com.hansecom.monitoringservice.service.dto.JobStatusDtoList;
+import com.hansecom.monitoringservice.service.status.JobStatusRegistry;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.util.Optional;
@@ -33,6 +35,8 @@ public class JobServiceImpl implements JobService {
 
   private final Scheduler scheduler;
 
+  private final JobStatusRegistry jobStatusRegistry;
+
   @Value("${custom-properties.max-jobs-allowed:5}")
   private int maxJobsAllowed;
 
@@ -65,6 +69,11 @@ public class JobServiceImpl implements JobService {
     return jobDto;
   }
 
+  @Override
+  public JobStatusDtoList getJobsStatus() {
+    return JobStatusDtoList.builder().statusList(jobStatusRegistry.snapshot()).build();
+  }
+
   /**
    * Performs validations on the job before it is scheduled. This method checks if the maximum
    * number of allowed jobs has been reached and if a job with the given name already exists.
@@ -0,0 +1,65 @@
+package com.hansecom.monitoringservice.service.mapper;
+
+import com.hansecom.monitoringservice.configuration.MapperConfiguration;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionFilterDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import java.util.Optional;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/** Mapper between the job execution dtos and the persistence model. */
+@Mapper(config = MapperConfiguration.class)
+public interface JobExecutionDtoMapper {
+
+  /**
+   * Converts the filter into the criteria of the query, without the pagination.
+   *
+   * @param jobExecutionFilterDto the filter
+   * @return the criteria params
+   */
+  @Mapping(target = "after", ignore = true)
+  @Mapping(target = "pageable", ignore = true)
+  @Mapping(target = "estimateTotal", ignore = true)
+  JobExecutionCriteriaParams toJobExecutionCriteriaParams(
+      JobExecutionFilterDto jobExecutionFilterDto);
+
+  /**
+   * Converts the projection into a {@link JobExecutionDto}.
+   *
+   * @param jobExecutionView the projection
+   * @return the job execution dto
+   */
+  JobExecutionDto toJobExecutionDto(JobExecutionView jobExecutionView);
+
+  /**
+   * Converts the entity into a {@link JobExecutionDto}.
+   *
+   * @param jobExecutionEntity the entity
+   * @return the job execution dto
+   */
+  JobExecutionDto toJobExecutionDto(JobExecutionEntity jobExecutionEntity);
+
+  /**
+   * Converts the status into the database status.
+   *
+   * @param jobExecutionStatus the status
+   * @return the database status
+   */
+  JobExecutionStatusEntity toJobExecutionStatusEntity(JobExecutionStatus jobExecutionStatus);
+
+  /**
+   * Converts the optional status into the database status, MapStruct does not map optionals.
+   *
+   * @param jobExecutionStatus the optional status
+   * @return the optional database status
+   */
+  default Optional<JobExecutionStatusEntity> toJobExecutionStatusEntity(
+      Optional<JobExecutionStatus> jobExecutionStatus) {
+    return jobExecutionStatus.map(this::toJobExecutionStatusEntity);
+  }
+}
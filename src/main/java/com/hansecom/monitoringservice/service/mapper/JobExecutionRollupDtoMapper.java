@@ -0,0 +1,55 @@
+package com.hansecom.monitoringservice.service.mapper;
+
+import com.hansecom.monitoringservice.configuration.MapperConfiguration;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionRollup;
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.service.dto.JobExecutionPercentilesDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupDto;
+import com.hansecom.monitoringservice.service.dto.RollupResolution;
+import java.util.OptionalDouble;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/** Mapper between the job execution statistics dtos and the persistence model. */
+@Mapper(config = MapperConfiguration.class)
+public interface JobExecutionRollupDtoMapper {
+
+  /**
+   * Converts the rollup into a {@link JobExecutionRollupDto}.
+   *
+   * @param jobExecutionRollup the rollup
+   * @return the rollup dto
+   */
+  JobExecutionRollupDto toJobExecutionRollupDto(JobExecutionRollup jobExecutionRollup);
+
+  /**
+   * Converts the database resolution into the resolution.
+   *
+   * @param rollupResolutionEntity the database resolution
+   * @return the resolution
+   */
+  RollupResolution toRollupResolution(RollupResolutionEntity rollupResolutionEntity);
+
+  /**
+   * Converts the rollup merged over a time range into a {@link JobExecutionPercentilesDto}.
+   *
+   * @param jobExecutionRollup the merged rollup
+   * @return the percentiles dto
+   */
+  @Mapping(target = "p50", expression = "java(quantile(jobExecutionRollup, 0.5))")
+  @Mapping(target = "p90", expression = "java(quantile(jobExecutionRollup, 0.9))")
+  @Mapping(target = "p99", expression = "java(quantile(jobExecutionRollup, 0.99))")
+  JobExecutionPercentilesDto toJobExecutionPercentilesDto(JobExecutionRollup jobExecutionRollup);
+
+  /**
+   * Estimates a quantile of the response times of the rollup.
+   *
+   * @param jobExecutionRollup the rollup
+   * @param quantile the quantile, between 0 and 1
+   * @return the response time in milliseconds, null without response times
+   */
+  default Double quantile(JobExecutionRollup jobExecutionRollup, double quantile) {
+    OptionalDouble value = jobExecutionRollup.getLatencySketch().quantile(quantile);
+    return value.isPresent() ? value.getAsDouble() : null;
+  }
+}
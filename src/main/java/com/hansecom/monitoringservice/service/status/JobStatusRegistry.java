@@ -0,0 +1,215 @@
+package com.hansecom.monitoringservice.service.status;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.service.dto.JobStatusDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.listeners.SchedulerListenerSupport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory status of the jobs, with the latest results of each job.
+ *
+ * <p>Each job has a {@link JobStatusRing} updated by the jobs on every execution, so the status is
+ * served without querying the database. On startup the rings are rebuilt from the latest job
+ * executions in the database, only for the jobs still in the scheduler, and the ring of a job is
+ * removed when the job is deleted from the scheduler.
+ *
+ * <p>Memory is bounded through the properties under {@code custom-properties.job-status}: {@code
+ * capacity} results per job and at most {@code max-jobs} jobs, the results of further jobs are not
+ * kept.
+ *
+ * <p>Exposes the gauges {@code monitoring.job.status.jobs} and {@code
+ * monitoring.job.status.memory}, and the counter {@code monitoring.job.status.untracked}.
+ */
+@Slf4j
+@Component
+public class JobStatusRegistry {
+
+  private final ConcurrentMap<String, JobStatusRing> rings = new ConcurrentHashMap<>();
+
+  private final JobExecutionRepository jobExecutionRepository;
+
+  private final Scheduler scheduler;
+
+  private final int capacity;
+
+  private final int maxJobs;
+
+  private final Counter untracked;
+
+  /**
+   * Constructor.
+   *
+   * @param jobExecutionRepository repository to rebuild the status on startup
+   * @param scheduler the Quartz scheduler running the jobs
+   * @param meterRegistry registry for the status metrics
+   * @param capacity results kept per job
+   * @param maxJobs max jobs with their status kept
+   */
+  public JobStatusRegistry(
+      JobExecutionRepository jobExecutionRepository,
+      Scheduler scheduler,
+      MeterRegistry meterRegistry,
+      @Value("${custom-properties.job-status.capacity:20}") int capacity,
+      @Value("${custom-properties.job-status.max-jobs:1000}") int maxJobs) {
+
+    this.jobExecutionRepository = jobExecutionRepository;
+    this.scheduler = scheduler;
+    this.capacity = capacity;
+    this.maxJobs = maxJobs;
+
+    Gauge.builder("monitoring.job.status.jobs", rings, Map::size)
+        .description("Jobs with their status kept in memory")
+        .register(meterRegistry);
+    Gauge.builder(
+            "monitoring.job.status.memory",
+            rings,
+            value -> (double) value.size() * JobStatusRing.memoryBytes(capacity))
+        .description("Estimated memory used by the status of the jobs")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    this.untracked =
+        Counter.builder("monitoring.job.status.untracked")
+            .description("Job executions not kept in the status, the max jobs was reached")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Adds the job execution to the status of its job.
+   *
+   * @param jobExecutionEntity the recorded job execution, with its created date, not queued for
+   *     saving yet
+   */
+  public void record(JobExecutionEntity jobExecutionEntity) {
+
+    Optional<JobStatusRing> ring = ring(jobExecutionEntity.getJobName());
+    if (ring.isEmpty()) {
+      untracked.increment();
+      return;
+    }
+
+    ring.get()
+        .add(
+            jobExecutionEntity.getCreatedDate(),
+            jobExecutionEntity.getResponseTime(),
+            JobExecutionStatusEntity.FAILED.equals(jobExecutionEntity.getStatus()));
+  }
+
+  /**
+   * Copies the current status of the jobs.
+   *
+   * @return the status of each job, sorted by job name
+   */
+  public List<JobStatusDto> snapshot() {
+    return rings.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(entry -> entry.getValue().snapshot(entry.getKey()))
+        .toList();
+  }
+
+  /**
+   * Removes the status of a job.
+   *
+   * @param jobName the job name
+   */
+  public void remove(String jobName) {
+    rings.remove(jobName);
+  }
+
+  /**
+   * Rebuilds the status of the jobs in the scheduler from the latest job executions in the
+   * database, and from then on removes the status of the jobs deleted from the scheduler.
+   *
+   * <p>Job executions recorded meanwhile are kept, the ones from the database are only restored
+   * behind them. The job executions of jobs no longer in the scheduler are not restored. On error
+   * the status starts empty.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+
+    List<JobExecutionView> latest;
+    Set<String> jobNames;
+    try {
+      // before reading the jobs, so no deletion is missed
+      scheduler.getListenerManager().addSchedulerListener(new JobDeletedListener());
+      jobNames =
+          scheduler.getJobKeys(GroupMatcher.anyJobGroup()).stream()
+              .map(JobKey::getName)
+              .collect(Collectors.toSet());
+      latest = jobExecutionRepository.findLatestPerJob(capacity);
+    } catch (SchedulerException | DataAccessException e) {
+      log.error("Error rebuilding the status of the jobs", e);
+      return;
+    }
+
+    Map<String, JobStatusRing> loaded = new LinkedHashMap<>();
+    // newest first, so added in reverse to keep the newest last
+    for (JobExecutionView jobExecutionView : latest.reversed()) {
+      if (!jobNames.contains(jobExecutionView.jobName())) {
+        continue;
+      }
+      loaded
+          .computeIfAbsent(jobExecutionView.jobName(), jobName -> new JobStatusRing(capacity))
+          .add(
+              jobExecutionView.createdDate(),
+              jobExecutionView.responseTime(),
+              JobExecutionStatusEntity.FAILED.equals(jobExecutionView.status()));
+    }
+    loaded.forEach((jobName, older) -> ring(jobName).ifPresent(ring -> ring.restore(older)));
+
+    log.info("Rebuilt the status of {} jobs from {} job executions", loaded.size(), latest.size());
+  }
+
+  /** Removes the status of the jobs deleted from the scheduler. */
+  private class JobDeletedListener extends SchedulerListenerSupport {
+
+    @Override
+    public void jobDeleted(JobKey jobKey) {
+      remove(jobKey.getName());
+    }
+  }
+
+  /**
+   * Gets the ring of the job, created if there is room.
+   *
+   * @param jobName the job name
+   * @return the ring, empty if the max jobs was reached
+   */
+  private Optional<JobStatusRing> ring(String jobName) {
+
+    JobStatusRing ring = rings.get(jobName);
+    if (ring != null) {
+      return Optional.of(ring);
+    }
+
+    // rings are rarely created, checking the size and creating at once keeps the bound exact
+    synchronized (rings) {
+      if (rings.size() >= maxJobs) {
+        return Optional.ofNullable(rings.get(jobName));
+      }
+      return Optional.of(rings.computeIfAbsent(jobName, name -> new JobStatusRing(capacity)));
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package com.hansecom.monitoringservice.service.status;
+
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import com.hansecom.monitoringservice.service.dto.JobStatusDto;
+import com.hansecom.monitoringservice.service.dto.JobStatusResultDto;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed size ring buffer with the latest results of a job, the newest overwriting the oldest.
+ *
+ * <p>The results are held in primitive arrays, the created dates and response times in {@code long}
+ * arrays and whether they failed in a bit set, so the memory is allocated once and does not depend
+ * on the number of job executions. Thread-safe.
+ */
+final class JobStatusRing {
+
+  private static final long NO_RESPONSE_TIME = -1;
+
+  /** Header of each array, plus the ring itself. */
+  private static final long OVERHEAD_BYTES = 3 * 16 + 32;
+
+  /** Epoch milliseconds. */
+  private final long[] createdDates;
+
+  /** Milliseconds, {@link #NO_RESPONSE_TIME} without response time. */
+  private final long[] responseTimes;
+
+  /** One bit per result, set when failed. */
+  private final long[] failedBits;
+
+  /** Index where the next result is written. */
+  private int next;
+
+  private int size;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity max results kept
+   */
+  JobStatusRing(int capacity) {
+    this.createdDates = new long[capacity];
+    this.responseTimes = new long[capacity];
+    this.failedBits = new long[words(capacity)];
+  }
+
+  /**
+   * Estimates the memory used by a ring.
+   *
+   * @param capacity max results kept
+   * @return the memory in bytes
+   */
+  static long memoryBytes(int capacity) {
+    return OVERHEAD_BYTES + 2L * capacity * Long.BYTES + (long) words(capacity) * Long.BYTES;
+  }
+
+  /**
+   * Adds a result, overwriting the oldest when full.
+   *
+   * @param createdDate when the job was executed
+   * @param responseTime the response time in milliseconds, null if unknown
+   * @param failed if the job execution failed
+   */
+  synchronized void add(Instant createdDate, Long responseTime, boolean failed) {
+
+    createdDates[next] = createdDate.toEpochMilli();
+    responseTimes[next] = responseTime == null ? NO_RESPONSE_TIME : responseTime;
+    if (failed) {
+      failedBits[next >> 6] |= 1L << next;
+    } else {
+      failedBits[next >> 6] &= ~(1L << next);
+    }
+
+    next = (next + 1) % createdDates.length;
+    size = Math.min(size + 1, createdDates.length);
+  }
+
+  /**
+   * Restores the older results of another ring behind the results of this one, as long as there is
+   * room. Only the results older than the oldest of this ring are restored, so results added to
+   * both are not repeated.
+   *
+   * @param older the ring with the older results, not modified
+   */
+  void restore(JobStatusRing older) {
+
+    List<JobStatusResultDto> olderResults = older.snapshot("").getRecentResults();
+
+    synchronized (this) {
+      List<JobStatusResultDto> results = results();
+      Instant oldest = results.isEmpty() ? Instant.MAX : results.getLast().getCreatedDate();
+      for (JobStatusResultDto result : olderResults) {
+        if (results.size() == createdDates.length) {
+          break;
+        }
+        if (result.getCreatedDate().isBefore(oldest)) {
+          results.add(result);
+        }
+      }
+
+      next = 0;
+      size = 0;
+      for (JobStatusResultDto result : results.reversed()) {
+        add(
+            result.getCreatedDate(),
+            result.getResponseTime(),
+            JobExecutionStatus.FAILED.equals(result.getStatus()));
+      }
+    }
+  }
+
+  /**
+   * Copies the current status of the job.
+   *
+   * @param jobName the job name
+   * @return the status with the results, newest first
+   */
+  synchronized JobStatusDto snapshot(String jobName) {
+
+    List<JobStatusResultDto> results = results();
+    return JobStatusDto.builder()
+        .jobName(jobName)
+        .lastStatus(results.isEmpty() ? null : results.getFirst().getStatus())
+        .lastExecutionDate(results.isEmpty() ? null : results.getFirst().getCreatedDate())
+        .recentFailures(
+            (int)
+                results.stream()
+                    .filter(result -> JobExecutionStatus.FAILED.equals(result.getStatus()))
+                    .count())
+        .recentResults(results)
+        .build();
+  }
+
+  /**
+   * Copies the results, must hold the lock.
+   *
+   * @return the results, newest first
+   */
+  private List<JobStatusResultDto> results() {
+
+    List<JobStatusResultDto> results = new ArrayList<>(size);
+    for (int i = 1; i <= size; i++) {
+      int index = Math.floorMod(next - i, createdDates.length);
+      results.add(
+          JobStatusResultDto.builder()
+              .createdDate(Instant.ofEpochMilli(createdDates[index]))
+              .status(
+                  (failedBits[index >> 6] & (1L << index)) != 0
+                      ? JobExecutionStatus.FAILED
+                      : JobExecutionStatus.SUCCEEDED)
+              .responseTime(responseTimes[index] == NO_RESPONSE_TIME ? null : responseTimes[index])
+              .build());
+    }
+    return results;
+  }
+
+  private static int words(int capacity) {
+    return (capacity + Long.SIZE - 1) / Long.SIZE;
+  }
+}
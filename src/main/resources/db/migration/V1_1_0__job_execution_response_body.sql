@@ -0,0 +1,7 @@
+------------------------
+-- Monitoring Service --
+------------------------
+-- body summary recorded by the probes, the body itself is never stored
+ALTER TABLE JOB_EXECUTION
+    ADD COLUMN RESPONSE_SIZE BIGINT       NULL,
+    ADD COLUMN RESPONSE_HASH VARCHAR(128) NULL;
@@ -0,0 +1,11 @@
+------------------------
+-- Monitoring Service --
+------------------------
+-- monotonic phase timings of the probes, in nanoseconds
+ALTER TABLE JOB_EXECUTION
+    ADD COLUMN DNS_NANOS      BIGINT NULL,
+    ADD COLUMN CONNECT_NANOS  BIGINT NULL,
+    ADD COLUMN TLS_NANOS      BIGINT NULL,
+    ADD COLUMN TTFB_NANOS     BIGINT NULL,
+    ADD COLUMN DOWNLOAD_NANOS BIGINT NULL,
+    ADD COLUMN TOTAL_NANOS    BIGINT NULL;
@@ -0,0 +1,6 @@
+------------------------
+-- Monitoring Service --
+------------------------
+-- ids are reserved in blocks by the hibernate pooled optimizer, the increment must match the
+-- allocation size of the entity. The column default keeps working for plain sql inserts
+ALTER SEQUENCE job_execution_id_seq INCREMENT BY 50;
@@ -0,0 +1,103 @@
+------------------------
+-- Monitoring Service --
+------------------------
+-- job_execution becomes range partitioned by created_date, with one partition per day (UTC).
+-- Old data is dropped a whole partition at a time and time range queries only scan the partitions
+-- in range. Future partitions are created ahead by the application, rows outside of any daily
+-- partition end up in the default partition.
+
+-- keep the id sequence when the old table is dropped
+ALTER SEQUENCE job_execution_id_seq OWNED BY NONE;
+
+ALTER TABLE JOB_EXECUTION RENAME TO JOB_EXECUTION_OLD;
+ALTER INDEX job_execution_pkey RENAME TO job_execution_old_pkey;
+ALTER INDEX job_execution_external_id_key RENAME TO job_execution_old_external_id_key;
+
+-- unique constraints of partitioned tables must include the partition key
+CREATE TABLE JOB_EXECUTION
+(
+    id                 BIGINT       NOT NULL DEFAULT nextval('job_execution_id_seq'),
+    external_id        UUID         NOT NULL,
+    JOB_NAME           VARCHAR(200) NOT NULL,
+    URL                VARCHAR(200) NOT NULL,
+    STATUS             VARCHAR(50)  NOT NULL,
+    RESPONSE_TIME      INT          NULL,
+    ERROR_MESSAGE      TEXT,
+    -- audit columns
+    CREATED_DATE       TIMESTAMPTZ  NOT NULL,
+    LAST_MODIFIED_DATE TIMESTAMPTZ  NOT NULL,
+    CREATED_BY         VARCHAR(100),
+    LAST_MODIFIED_BY   VARCHAR(100),
+    TRACE_ID           VARCHAR(32),
+    -- response body
+    RESPONSE_SIZE      BIGINT       NULL,
+    RESPONSE_HASH      VARCHAR(128) NULL,
+    -- probe timings
+    DNS_NANOS          BIGINT       NULL,
+    CONNECT_NANOS      BIGINT       NULL,
+    TLS_NANOS          BIGINT       NULL,
+    TTFB_NANOS         BIGINT       NULL,
+    DOWNLOAD_NANOS     BIGINT       NULL,
+    TOTAL_NANOS        BIGINT       NULL,
+    PRIMARY KEY (id, CREATED_DATE),
+    UNIQUE (external_id, CREATED_DATE)
+) PARTITION BY RANGE (CREATED_DATE);
+
+ALTER SEQUENCE job_execution_id_seq OWNED BY JOB_EXECUTION.id;
+
+CREATE TABLE JOB_EXECUTION_DEFAULT PARTITION OF JOB_EXECUTION DEFAULT;
+
+-- creates the partition of a day, does nothing if it already exists
+CREATE OR REPLACE FUNCTION create_job_execution_partition(partition_day DATE) RETURNS TEXT AS
+$$
+DECLARE
+    partition_name TEXT := 'job_execution_p' || to_char(partition_day, 'YYYYMMDD');
+BEGIN
+    EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF job_execution FOR VALUES FROM (%L) TO (%L)',
+            partition_name,
+            partition_day::TIMESTAMP AT TIME ZONE 'UTC',
+            (partition_day + 1)::TIMESTAMP AT TIME ZONE 'UTC');
+    RETURN partition_name;
+EXCEPTION
+    -- created at the same time by another instance
+    WHEN duplicate_table THEN
+        RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- partitions for the existing data and the next week
+SELECT create_job_execution_partition(partition_day::DATE)
+FROM generate_series(
+             COALESCE((SELECT min(CREATED_DATE AT TIME ZONE 'UTC')::DATE FROM JOB_EXECUTION_OLD),
+                      (now() AT TIME ZONE 'UTC')::DATE),
+             (now() AT TIME ZONE 'UTC')::DATE + 7,
+             INTERVAL '1 day') AS partition_day;
+
+INSERT INTO JOB_EXECUTION (id, external_id, JOB_NAME, URL, STATUS, RESPONSE_TIME, ERROR_MESSAGE,
+                           CREATED_DATE, LAST_MODIFIED_DATE, CREATED_BY, LAST_MODIFIED_BY, TRACE_ID,
+                           RESPONSE_SIZE, RESPONSE_HASH, DNS_NANOS, CONNECT_NANOS, TLS_NANOS,
+                           TTFB_NANOS, DOWNLOAD_NANOS, TOTAL_NANOS)
+SELECT id,
+       external_id,
+       JOB_NAME,
+       URL,
+       STATUS,
+       RESPONSE_TIME,
+       ERROR_MESSAGE,
+       CREATED_DATE,
+       LAST_MODIFIED_DATE,
+       CREATED_BY,
+       LAST_MODIFIED_BY,
+       TRACE_ID,
+       RESPONSE_SIZE,
+       RESPONSE_HASH,
+       DNS_NANOS,
+       CONNECT_NANOS,
+       TLS_NANOS,
+       TTFB_NANOS,
+       DOWNLOAD_NANOS,
+       TOTAL_NANOS
+FROM JOB_EXECUTION_OLD;
+
+DROP TABLE JOB_EXECUTION_OLD;
@@ -0,0 +1,6 @@
+------------------------
+-- Monitoring Service --
+------------------------
+-- supports the job execution listing sorted by created date and the keyset pagination seek on
+-- (created_date, id), created on every partition
+CREATE INDEX JOB_EXECUTION_CREATED_DATE_ID_IDX ON JOB_EXECUTION (CREATED_DATE, ID);
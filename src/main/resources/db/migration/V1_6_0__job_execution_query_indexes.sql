@@ -0,0 +1,26 @@
+------------------------
+-- Monitoring Service --
+------------------------
+-- indexes matched to the job execution listing filters, all sorted by (created_date, id) so the
+-- first page and every keyset page are read in index order. Created on every partition. The url
+-- filter has no index of its own, every job probes a single url and it is served by the
+-- (CREATED_DATE, ID) index
+
+-- listing of a job, the most common filter. Scanned backwards for the oldest first exports
+CREATE INDEX JOB_EXECUTION_JOB_NAME_CREATED_DATE_IDX
+    ON JOB_EXECUTION (JOB_NAME, CREATED_DATE DESC, ID DESC);
+
+-- listing of the failures, of all jobs or of a job. Only the failures are indexed, a small
+-- fraction of the job executions, so inserts of successful job executions do not pay for them
+CREATE INDEX JOB_EXECUTION_FAILED_CREATED_DATE_IDX
+    ON JOB_EXECUTION (CREATED_DATE DESC, ID DESC)
+    WHERE STATUS = 'FAILED';
+CREATE INDEX JOB_EXECUTION_FAILED_JOB_NAME_CREATED_DATE_IDX
+    ON JOB_EXECUTION (JOB_NAME, CREATED_DATE DESC, ID DESC)
+    WHERE STATUS = 'FAILED';
+
+-- counts over wide time ranges. Rows are inserted in created date order, so each block range
+-- covers a short period and the index is a few kilobytes per partition. Ranges are summarized as
+-- they fill, unsummarized ranges would be read in full
+CREATE INDEX JOB_EXECUTION_CREATED_DATE_BRIN_IDX
+    ON JOB_EXECUTION USING BRIN (CREATED_DATE) WITH (PAGES_PER_RANGE = 32, AUTOSUMMARIZE = ON);
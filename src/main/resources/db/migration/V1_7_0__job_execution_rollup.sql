@@ -0,0 +1,25 @@
+------------------------
+-- Monitoring Service --
+------------------------
+-- statistics of the job executions per job and per minute, hour and day bucket (UTC), updated by
+-- the application as the job executions are saved. Aggregates over long time ranges read a row per
+-- bucket instead of every job execution. Only the job executions saved from now on are rolled up.
+CREATE TABLE JOB_EXECUTION_ROLLUP
+(
+    RESOLUTION          VARCHAR(10)  NOT NULL,
+    JOB_NAME            VARCHAR(200) NOT NULL,
+    BUCKET_START        TIMESTAMPTZ  NOT NULL,
+    EXECUTIONS          BIGINT       NOT NULL,
+    FAILURES            BIGINT       NOT NULL,
+    -- over the job executions with a response time, in milliseconds
+    MIN_RESPONSE_TIME   BIGINT       NULL,
+    MAX_RESPONSE_TIME   BIGINT       NULL,
+    SUM_RESPONSE_TIME   BIGINT       NOT NULL,
+    RESPONSE_TIME_COUNT BIGINT       NOT NULL,
+    -- mergeable sketch of the response times, serialized by the application
+    LATENCY_SKETCH      BYTEA        NOT NULL,
+    PRIMARY KEY (RESOLUTION, JOB_NAME, BUCKET_START)
+);
+
+-- statistics of all the jobs over a time range, and the retention deletes
+CREATE INDEX JOB_EXECUTION_ROLLUP_BUCKET_START_IDX ON JOB_EXECUTION_ROLLUP (RESOLUTION, BUCKET_START);
@@ -0,0 +1,53 @@
+------------------------
+-- Monitoring Service --
+------------------------
+-- a daily partition could not be created once rows of its day had landed in the default partition,
+-- e.g. when the application was late creating it: the check of the default partition failed and no
+-- later day was created either. Those rows are now moved from the default partition into the new
+-- one, while inserts into the default partition wait.
+--
+-- note the unique constraint of job_execution is on (external_id, CREATED_DATE) since the
+-- partitioning, external ids are random UUIDs generated by the application.
+
+-- creates the partition of a day, does nothing if it already exists
+CREATE OR REPLACE FUNCTION create_job_execution_partition(partition_day DATE) RETURNS TEXT AS
+$$
+DECLARE
+    partition_name TEXT        := 'job_execution_p' || to_char(partition_day, 'YYYYMMDD');
+    range_start    TIMESTAMPTZ := partition_day::TIMESTAMP AT TIME ZONE 'UTC';
+    range_end      TIMESTAMPTZ := (partition_day + 1)::TIMESTAMP AT TIME ZONE 'UTC';
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    -- no new rows of the day in the default partition until it is attached
+    LOCK TABLE job_execution_default IN SHARE ROW EXCLUSIVE MODE;
+
+    IF NOT EXISTS(SELECT 1
+                  FROM job_execution_default
+                  WHERE CREATED_DATE >= range_start
+                    AND CREATED_DATE < range_end) THEN
+        EXECUTE format(
+                'CREATE TABLE %I PARTITION OF job_execution FOR VALUES FROM (%L) TO (%L)',
+                partition_name, range_start, range_end);
+        RETURN partition_name;
+    END IF;
+
+    -- the indexes of job_execution are created when attached
+    EXECUTE format('CREATE TABLE %I (LIKE job_execution INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format(
+            'WITH moved AS (DELETE FROM job_execution_default WHERE CREATED_DATE >= %L AND CREATED_DATE < %L RETURNING *) '
+                || 'INSERT INTO %I SELECT * FROM moved',
+            range_start, range_end, partition_name);
+    EXECUTE format(
+            'ALTER TABLE job_execution ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name, range_start, range_end);
+    RAISE NOTICE 'Moved the rows of % from the default partition', partition_name;
+    RETURN partition_name;
+EXCEPTION
+    -- created at the same time by another instance
+    WHEN duplicate_table THEN
+        RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
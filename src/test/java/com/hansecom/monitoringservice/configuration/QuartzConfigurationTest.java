@@ -5,13 +5,20 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.hansecom.monitoringservice.job.SchedulerMetricsListener;
+import com.hansecom.monitoringservice.job.VirtualThreadPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Properties;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.Scheduler;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,4 +46,35 @@ class QuartzConfigurationTest {
     verify(schedulerMock).start();
     verifyNoMoreInteractions(schedulerMock);
   }
+
+  @Test
+  void schedulerMetricsCustomizer() {
+
+    SchedulerMetricsListener schedulerMetricsListener =
+        new SchedulerMetricsListener(new SimpleMeterRegistry());
+
+    testSubject.schedulerMetricsCustomizer(schedulerMetricsListener).customize(factoryMock);
+
+    verify(factoryMock).setGlobalTriggerListeners(schedulerMetricsListener);
+    verify(factoryMock).setGlobalJobListeners(schedulerMetricsListener);
+    verifyNoMoreInteractions(factoryMock);
+  }
+
+  @Test
+  void virtualThreadPoolCustomizer() {
+
+    QuartzProperties quartzProperties = new QuartzProperties();
+    quartzProperties.getProperties().putAll(Map.of("org.quartz.jobStore.isClustered", "true"));
+
+    testSubject.virtualThreadPoolCustomizer(quartzProperties, 500).customize(factoryMock);
+
+    ArgumentCaptor<Properties> captor = ArgumentCaptor.forClass(Properties.class);
+    verify(factoryMock).setQuartzProperties(captor.capture());
+    verifyNoMoreInteractions(factoryMock);
+
+    assertThat(captor.getValue())
+        .containsEntry("org.quartz.jobStore.isClustered", "true")
+        .containsEntry("org.quartz.threadPool.class", VirtualThreadPool.class.getName())
+        .containsEntry("org.quartz.threadPool.maxConcurrency", "500");
+  }
 }
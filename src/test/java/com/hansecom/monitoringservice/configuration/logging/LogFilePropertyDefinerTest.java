@@ -0,0 +1,33 @@
+package com.hansecom.monitoringservice.configuration.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LogFilePropertyDefinerTest {
+
+  private final LoggerContext loggerContext = new LoggerContext();
+
+  private final LogFilePropertyDefiner testSubject = new LogFilePropertyDefiner();
+
+  @BeforeEach
+  void setUp() {
+    testSubject.setContext(loggerContext);
+  }
+
+  @Test
+  void getPropertyValue_logFile_enabled() {
+
+    loggerContext.putProperty(LogFilePropertyDefiner.LOG_FILE, "/var/log/monitoring-service.log");
+
+    assertThat(testSubject.getPropertyValue()).isEqualTo(LogFilePropertyDefiner.ENABLED);
+  }
+
+  @Test
+  void getPropertyValue_noLogFile_disabled() {
+
+    assertThat(testSubject.getPropertyValue()).isEqualTo(LogFilePropertyDefiner.DISABLED);
+  }
+}
@@ -0,0 +1,107 @@
+package com.hansecom.monitoringservice.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerMetricsListenerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final SchedulerMetricsListener testSubject = new SchedulerMetricsListener(meterRegistry);
+
+  @Mock private JobExecutionContext contextMock;
+
+  @Mock private Trigger triggerMock;
+
+  @Test
+  void triggerFired_lateTrigger_recordFireLag() {
+
+    when(contextMock.getJobDetail())
+        .thenReturn(JobBuilder.newJob(UrlMonitorJob.class).withIdentity("google").build());
+    when(contextMock.getScheduledFireTime()).thenReturn(new Date(1_000));
+    when(contextMock.getFireTime()).thenReturn(new Date(1_250));
+
+    testSubject.triggerFired(triggerMock, contextMock);
+
+    assertThat(
+            meterRegistry
+                .get("monitoring.scheduler.fire.lag")
+                .tag("job", "google")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(250);
+    assertThat(testSubject.vetoJobExecution(triggerMock, contextMock)).isFalse();
+  }
+
+  @Test
+  void triggerFired_noScheduledFireTime_notRecorded() {
+
+    testSubject.triggerFired(triggerMock, contextMock);
+
+    assertThat(meterRegistry.find("monitoring.scheduler.fire.lag").timer()).isNull();
+  }
+
+  @Test
+  void jobWasExecuted_outcome_recordDuration() {
+
+    when(contextMock.getJobDetail())
+        .thenReturn(JobBuilder.newJob(UrlMonitorJob.class).withIdentity("google").build());
+    when(contextMock.getJobRunTime()).thenReturn(20L, 30L);
+
+    testSubject.jobWasExecuted(contextMock, null);
+    testSubject.jobWasExecuted(contextMock, new JobExecutionException("down"));
+
+    assertThat(
+            meterRegistry
+                .get("monitoring.scheduler.job.duration")
+                .tags("job", "google", "outcome", "success")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(20);
+    assertThat(
+            meterRegistry
+                .get("monitoring.scheduler.job.duration")
+                .tags("job", "google", "outcome", "error")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(30);
+  }
+
+  @Test
+  void jobExecutionVetoed_countVetoed() {
+
+    when(contextMock.getJobDetail())
+        .thenReturn(JobBuilder.newJob(UrlMonitorJob.class).withIdentity("google").build());
+    testSubject.jobExecutionVetoed(contextMock);
+
+    assertThat(
+            meterRegistry.get("monitoring.scheduler.vetoed").tag("job", "google").counter().count())
+        .isOne();
+  }
+
+  @Test
+  void triggerMisfired_countMisfires() {
+
+    when(triggerMock.getJobKey()).thenReturn(JobKey.jobKey("bing"));
+
+    testSubject.triggerMisfired(triggerMock);
+
+    assertThat(
+            meterRegistry.get("monitoring.scheduler.misfires").tag("job", "bing").counter().count())
+        .isOne();
+  }
+}
@@ -2,15 +2,24 @@ package com.hansecom.monitoringservice.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.hansecom.monitoringservice.configuration.ModelMapperConfiguration;
+import com.hansecom.monitoringservice.job.probe.ProbeBodyReader;
+import com.hansecom.monitoringservice.job.probe.ProbeDispatcher;
+import com.hansecom.monitoringservice.job.probe.ProbeEngine;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
-import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.persistence.writer.JobExecutionBatchWriter;
+import com.hansecom.monitoringservice.service.feed.JobExecutionFeed;
+import com.hansecom.monitoringservice.service.status.JobStatusRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import lombok.SneakyThrows;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -18,6 +27,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
@@ -32,14 +42,21 @@ import org.springframework.http.MediaType;
 @SpringBootTest(
     classes = {
       UrlMonitorJob.class,
-      ValidationAutoConfiguration.class,
-      ModelMapperConfiguration.class
+      ProbeEngine.class,
+      ProbeBodyReader.class,
+      ProbeDispatcher.class,
+      SimpleMeterRegistry.class,
+      ValidationAutoConfiguration.class
     })
 class UrlMonitorJobTest {
 
   @Autowired private UrlMonitorJob testSubject;
 
-  @MockBean private JobExecutionRepository jobExecutionRepositoryMock;
+  @MockBean private JobExecutionBatchWriter jobExecutionBatchWriterMock;
+
+  @MockBean private JobExecutionFeed jobExecutionFeedMock;
+
+  @MockBean private JobStatusRegistry jobStatusRegistryMock;
 
   @MockBean private JobExecutionContext jobExecutionContextMock;
 
@@ -82,8 +99,8 @@ class UrlMonitorJobTest {
 
     testSubject.execute(jobExecutionContextMock);
 
-    verify(jobExecutionRepositoryMock)
-        .save(
+    verify(jobExecutionBatchWriterMock)
+        .submit(
             assertArg(
                 jobExecutionEntity -> {
                   assertThat(jobExecutionEntity.getJobName()).isEqualTo("google");
@@ -92,9 +109,39 @@ class UrlMonitorJobTest {
                   assertThat(jobExecutionEntity.getStatus())
                       .isEqualTo(JobExecutionStatusEntity.SUCCEEDED);
                   assertThat(jobExecutionEntity.getResponseTime()).isCloseTo(1000L, within(30000L));
+                  assertThat(jobExecutionEntity.getResponseSize()).isEqualTo(8);
+                  assertThat(jobExecutionEntity.getResponseHash()).isNull();
+                  assertThat(jobExecutionEntity.getTtfbNanos()).isPositive();
+                  assertThat(jobExecutionEntity.getDownloadNanos()).isNotNull();
+                  assertThat(jobExecutionEntity.getTotalNanos())
+                      .isGreaterThanOrEqualTo(jobExecutionEntity.getTtfbNanos());
+                  assertThat(jobExecutionEntity.getExternalId()).isNotNull();
+                  assertThat(jobExecutionEntity.getCreatedDate())
+                      .isCloseTo(Instant.now(), within(30, ChronoUnit.SECONDS));
+                  assertThat(jobExecutionEntity.getTraceId())
+                      .isEqualTo("00000000000000000000000000000000");
                 }));
+    verify(jobExecutionFeedMock)
+        .publish(
+            assertArg(
+                jobExecutionEntity ->
+                    assertThat(jobExecutionEntity.getStatus())
+                        .isEqualTo(JobExecutionStatusEntity.SUCCEEDED)));
+    verify(jobStatusRegistryMock)
+        .record(
+            assertArg(
+                jobExecutionEntity ->
+                    assertThat(jobExecutionEntity.getStatus())
+                        .isEqualTo(JobExecutionStatusEntity.SUCCEEDED)));
 
-    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+    // the writer changes the job execution while saving it
+    InOrder inOrder =
+        inOrder(jobExecutionFeedMock, jobStatusRegistryMock, jobExecutionBatchWriterMock);
+    inOrder.verify(jobExecutionFeedMock).publish(any());
+    inOrder.verify(jobStatusRegistryMock).record(any());
+    inOrder.verify(jobExecutionBatchWriterMock).submit(any());
+
+    verifyNoMoreInteractions(jobExecutionBatchWriterMock, jobExecutionFeedMock);
 
     verify(jobExecutionContextMock, times(2)).getJobDetail();
     verifyNoMoreInteractions(jobExecutionContextMock);
@@ -113,8 +160,8 @@ class UrlMonitorJobTest {
     } catch (Exception e) {
     }
 
-    verify(jobExecutionRepositoryMock)
-        .save(
+    verify(jobExecutionBatchWriterMock)
+        .submit(
             assertArg(
                 jobExecutionEntity -> {
                   assertThat(jobExecutionEntity.getJobName()).isEqualTo("google");
@@ -126,9 +173,22 @@ class UrlMonitorJobTest {
                       .isEqualTo(
                           "404 Not Found from GET http://localhost:" + mockWebClient.getPort());
                   assertThat(jobExecutionEntity.getResponseTime()).isCloseTo(1000L, within(1000L));
+                  assertThat(jobExecutionEntity.getTotalNanos()).isPositive();
                 }));
+    verify(jobExecutionFeedMock)
+        .publish(
+            assertArg(
+                jobExecutionEntity ->
+                    assertThat(jobExecutionEntity.getStatus())
+                        .isEqualTo(JobExecutionStatusEntity.FAILED)));
+    verify(jobStatusRegistryMock)
+        .record(
+            assertArg(
+                jobExecutionEntity ->
+                    assertThat(jobExecutionEntity.getStatus())
+                        .isEqualTo(JobExecutionStatusEntity.FAILED)));
 
-    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+    verifyNoMoreInteractions(jobExecutionBatchWriterMock, jobExecutionFeedMock);
 
     verify(jobExecutionContextMock, times(2)).getJobDetail();
     verifyNoMoreInteractions(jobExecutionContextMock);
@@ -0,0 +1,98 @@
+package com.hansecom.monitoringservice.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerConfigException;
+import org.quartz.impl.StdSchedulerFactory;
+
+class VirtualThreadPoolTest {
+
+  @SneakyThrows
+  @Test
+  void runInThread_runnable_runInVirtualThread() {
+
+    VirtualThreadPool testSubject = new VirtualThreadPool();
+    testSubject.initialize();
+
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicBoolean virtual = new AtomicBoolean();
+
+    boolean result =
+        testSubject.runInThread(
+            () -> {
+              virtual.set(Thread.currentThread().isVirtual());
+              latch.countDown();
+            });
+
+    assertThat(result).isTrue();
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(virtual).isTrue();
+
+    testSubject.shutdown(true);
+
+    assertThat(testSubject.runInThread(() -> {})).isFalse();
+  }
+
+  @SneakyThrows
+  @Test
+  void blockForAvailableThreads_jobsRunning_returnRemainingPermits() {
+
+    VirtualThreadPool testSubject = new VirtualThreadPool();
+    testSubject.setMaxConcurrency(2);
+    testSubject.initialize();
+
+    CountDownLatch release = new CountDownLatch(1);
+    testSubject.runInThread(() -> awaitQuietly(release));
+
+    assertThat(testSubject.blockForAvailableThreads()).isOne();
+    assertThat(testSubject.getPoolSize()).isEqualTo(2);
+
+    release.countDown();
+    testSubject.shutdown(true);
+
+    assertThat(testSubject.blockForAvailableThreads()).isZero();
+  }
+
+  @Test
+  void initialize_invalidMaxConcurrency_throwSchedulerConfigException() {
+
+    VirtualThreadPool testSubject = new VirtualThreadPool();
+    testSubject.setMaxConcurrency(0);
+
+    assertThatThrownBy(testSubject::initialize)
+        .isInstanceOf(SchedulerConfigException.class)
+        .hasMessage("maxConcurrency must be greater than 0");
+  }
+
+  @SneakyThrows
+  @Test
+  void stdSchedulerFactory_quartzProperties_usePool() {
+
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceName", "virtual-thread-pool-test");
+    properties.setProperty("org.quartz.threadPool.class", VirtualThreadPool.class.getName());
+    properties.setProperty("org.quartz.threadPool.threadCount", "10");
+    properties.setProperty("org.quartz.threadPool.maxConcurrency", "500");
+    properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+
+    Scheduler scheduler = new StdSchedulerFactory(properties).getScheduler();
+
+    assertThat(scheduler.getMetaData().getThreadPoolClass()).isEqualTo(VirtualThreadPool.class);
+    assertThat(scheduler.getMetaData().getThreadPoolSize()).isEqualTo(500);
+
+    scheduler.shutdown();
+  }
+
+  @SneakyThrows
+  private static void awaitQuietly(CountDownLatch latch) {
+    latch.await(5, TimeUnit.SECONDS);
+  }
+}
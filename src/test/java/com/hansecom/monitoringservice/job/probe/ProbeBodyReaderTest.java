@@ -0,0 +1,107 @@
+package com.hansecom.monitoringservice.job.probe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.NoSuchAlgorithmException;
+import lombok.SneakyThrows;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class ProbeBodyReaderTest {
+
+  private static final int LARGE_BODY_SIZE = 1024 * 1024;
+
+  public static MockWebServer mockWebClient = new MockWebServer();
+
+  @SneakyThrows
+  @BeforeAll
+  static void setUp() {
+    mockWebClient.start();
+  }
+
+  @SneakyThrows
+  @AfterAll
+  static void tearDown() {
+    mockWebClient.shutdown();
+  }
+
+  @SneakyThrows
+  @Test
+  void read_discardModeLargeBody_countBytes() {
+
+    mockWebClient.enqueue(
+        new MockResponse()
+            .setResponseCode(HttpStatus.OK.value())
+            .setBody(new Buffer().write(new byte[LARGE_BODY_SIZE])));
+
+    ProbeBodyReader testSubject = new ProbeBodyReader(ProbeBodyReader.BodyMode.DISCARD, "");
+
+    ProbeBodyReader.ProbeBody result = testSubject.read(retrieve()).block();
+
+    assertThat(result).isEqualTo(new ProbeBodyReader.ProbeBody(LARGE_BODY_SIZE, null));
+  }
+
+  @SneakyThrows
+  @Test
+  void read_stringModeLargeBody_throwDataBufferLimitException() {
+
+    mockWebClient.enqueue(
+        new MockResponse()
+            .setResponseCode(HttpStatus.OK.value())
+            .setBody(new Buffer().write(new byte[LARGE_BODY_SIZE])));
+
+    ProbeBodyReader testSubject = new ProbeBodyReader(ProbeBodyReader.BodyMode.STRING, "");
+
+    assertThatThrownBy(() -> testSubject.read(retrieve()).block())
+        .hasCauseInstanceOf(DataBufferLimitException.class);
+  }
+
+  @SneakyThrows
+  @Test
+  void read_hashAlgorithm_sameHashInBothModes() {
+
+    for (ProbeBodyReader.BodyMode bodyMode : ProbeBodyReader.BodyMode.values()) {
+      mockWebClient.enqueue(
+          new MockResponse().setResponseCode(HttpStatus.OK.value()).setBody("test"));
+
+      ProbeBodyReader.ProbeBody result =
+          new ProbeBodyReader(bodyMode, "SHA-256").read(retrieve()).block();
+
+      assertThat(result.size()).isEqualTo(4);
+      assertThat(result.hash())
+          .isEqualTo("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08");
+    }
+  }
+
+  @SneakyThrows
+  @Test
+  void read_emptyBody_emitZeroSize() {
+
+    for (ProbeBodyReader.BodyMode bodyMode : ProbeBodyReader.BodyMode.values()) {
+      mockWebClient.enqueue(new MockResponse().setResponseCode(HttpStatus.NO_CONTENT.value()));
+
+      ProbeBodyReader.ProbeBody result = new ProbeBodyReader(bodyMode, "").read(retrieve()).block();
+
+      assertThat(result).isEqualTo(new ProbeBodyReader.ProbeBody(0, null));
+    }
+  }
+
+  @Test
+  void constructor_unknownHashAlgorithm_throwNoSuchAlgorithmException() {
+
+    assertThatThrownBy(() -> new ProbeBodyReader(ProbeBodyReader.BodyMode.DISCARD, "unknown"))
+        .isInstanceOf(NoSuchAlgorithmException.class);
+  }
+
+  private static WebClient.ResponseSpec retrieve() {
+    return WebClient.create("http://localhost:" + mockWebClient.getPort()).get().retrieve();
+  }
+}
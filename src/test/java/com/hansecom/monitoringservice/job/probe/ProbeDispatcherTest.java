@@ -0,0 +1,202 @@
+package com.hansecom.monitoringservice.job.probe;
+
+import static org.assertj.core.api.Assertions.as;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.SneakyThrows;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class ProbeDispatcherTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ProbeDispatcher testSubject;
+
+  @AfterEach
+  void tearDown() {
+    testSubject.destroy();
+  }
+
+  @Test
+  void dispatch_blockingMode_waitForProbe() {
+
+    testSubject =
+        new ProbeDispatcher(
+            meterRegistry, ProbeDispatcher.ExecutionMode.BLOCKING, Duration.ofSeconds(1), 1, 1, 1);
+
+    AtomicBoolean executed = new AtomicBoolean();
+
+    testSubject.dispatch(
+        Mono.delay(Duration.ofMillis(50)).doOnNext(tick -> executed.set(true)).then());
+
+    assertThat(executed).isTrue();
+    assertThat(gauge("monitoring.probe.in.flight")).isZero();
+  }
+
+  @SneakyThrows
+  @Test
+  void dispatch_asyncMode_returnImmediatelyAndTrackProbes() {
+
+    testSubject =
+        new ProbeDispatcher(
+            meterRegistry, ProbeDispatcher.ExecutionMode.ASYNC, Duration.ofSeconds(1), 1, 1, 1);
+
+    Sinks.Empty<Void> first = Sinks.empty();
+    Sinks.Empty<Void> second = Sinks.empty();
+
+    testSubject.dispatch(first.asMono());
+    testSubject.dispatch(second.asMono());
+    testSubject.dispatch(Mono.empty());
+
+    awaitGauge("monitoring.probe.in.flight", 1);
+    assertThat(gauge("monitoring.probe.queue.depth")).isOne();
+    assertThat(meterRegistry.get("monitoring.probe.rejected").counter().count()).isOne();
+
+    first.tryEmitEmpty();
+
+    assertThat(gauge("monitoring.probe.queue.depth")).isZero();
+    // the second probe is subscribed on the dispatch scheduler
+    awaitGauge("monitoring.probe.in.flight", 1);
+
+    second.tryEmitEmpty();
+
+    assertThat(gauge("monitoring.probe.in.flight")).isZero();
+  }
+
+  @SneakyThrows
+  @Test
+  void dispatch_asyncMode_subscribeOffCallingThread() {
+
+    testSubject =
+        new ProbeDispatcher(
+            meterRegistry, ProbeDispatcher.ExecutionMode.ASYNC, Duration.ofSeconds(1), 1, 1, 1);
+
+    CompletableFuture<Thread> subscribingThread = new CompletableFuture<>();
+
+    testSubject.dispatch(
+        Mono.fromRunnable(() -> subscribingThread.complete(Thread.currentThread())));
+
+    assertThat(subscribingThread.get(5, TimeUnit.SECONDS))
+        .isNotEqualTo(Thread.currentThread())
+        .extracting(Thread::getName, as(InstanceOfAssertFactories.STRING))
+        .startsWith("probe-dispatch");
+  }
+
+  @SneakyThrows
+  @Test
+  void dispatch_asyncModeConcurrently_noProbeRejected() {
+
+    int threads = 8;
+    int probesPerThread = 1_000;
+    testSubject =
+        new ProbeDispatcher(
+            meterRegistry,
+            ProbeDispatcher.ExecutionMode.ASYNC,
+            Duration.ofSeconds(1),
+            10,
+            threads * probesPerThread,
+            1);
+
+    CountDownLatch executed = new CountDownLatch(threads * probesPerThread);
+    CountDownLatch start = new CountDownLatch(1);
+    List<CompletableFuture<Void>> dispatchers = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      dispatchers.add(
+          CompletableFuture.runAsync(
+              () -> {
+                awaitQuietly(start);
+                for (int j = 0; j < probesPerThread; j++) {
+                  testSubject.dispatch(Mono.fromRunnable(executed::countDown));
+                }
+              },
+              Executors.newVirtualThreadPerTaskExecutor()));
+    }
+    start.countDown();
+    CompletableFuture.allOf(dispatchers.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+    assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(meterRegistry.get("monitoring.probe.rejected").counter().count()).isZero();
+  }
+
+  @SneakyThrows
+  @Test
+  void complete_completionSchedulerBusy_responseTimeNotIncreased() {
+
+    testSubject =
+        new ProbeDispatcher(
+            meterRegistry, ProbeDispatcher.ExecutionMode.ASYNC, Duration.ofSeconds(1), 1, 10, 1);
+
+    CountDownLatch busy = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    testSubject
+        .getCompletionScheduler()
+        .schedule(
+            () -> {
+              busy.countDown();
+              awaitQuietly(release);
+            });
+    assertThat(busy.await(5, TimeUnit.SECONDS)).isTrue();
+
+    ProbeTimings probeTimings = ProbeTimings.start();
+    Mono<Long> totalNanos =
+        Mono.delay(Duration.ofMillis(10))
+            .transform(testSubject::complete)
+            .map(tick -> probeTimings.totalNanos())
+            .contextWrite(context -> context.put(ProbeTimings.KEY, probeTimings));
+
+    CompletableFuture<Long> result = totalNanos.toFuture();
+    // the outcome waits for the completion thread
+    Thread.sleep(300);
+    release.countDown();
+
+    assertThat(Duration.ofNanos(result.get(5, TimeUnit.SECONDS)))
+        .isLessThan(Duration.ofMillis(300));
+  }
+
+  @Test
+  void complete_slowRequest_failWithTimeout() {
+
+    testSubject =
+        new ProbeDispatcher(
+            meterRegistry, ProbeDispatcher.ExecutionMode.ASYNC, Duration.ofMillis(50), 1, 1, 1);
+
+    assertThatThrownBy(() -> testSubject.complete(Mono.never()).block())
+        .satisfies(e -> assertThat(Exceptions.unwrap(e)).isInstanceOf(TimeoutException.class));
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).gauge().value();
+  }
+
+  private void awaitGauge(String name, double expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (gauge(name) != expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(gauge(name)).isEqualTo(expected);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.hansecom.monitoringservice.job.probe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProbeEngineTest {
+
+  private final MockWebServer mockWebClient = new MockWebServer();
+
+  private ProbeEngine testSubject;
+
+  @SneakyThrows
+  @BeforeEach
+  void setUp() {
+    mockWebClient.start();
+    testSubject =
+        new ProbeEngine(
+            1,
+            10,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(30),
+            Duration.ofMinutes(5),
+            Duration.ofSeconds(30),
+            false);
+  }
+
+  @SneakyThrows
+  @AfterEach
+  void tearDown() {
+    testSubject.destroy();
+    mockWebClient.shutdown();
+  }
+
+  @Test
+  void webClient_probeTimingsInContext_recordPhases() {
+
+    mockWebClient.enqueue(
+        new MockResponse().setBody("first").setHeadersDelay(50, TimeUnit.MILLISECONDS));
+    mockWebClient.enqueue(new MockResponse().setBody("second"));
+
+    ProbeTimings newConnection = probe();
+
+    assertThat(newConnection.getDnsNanos()).isPositive();
+    assertThat(newConnection.getConnectNanos()).isPositive();
+    assertThat(newConnection.getTlsNanos()).isNull();
+    assertThat(newConnection.getTtfbNanos()).isGreaterThanOrEqualTo(50_000_000L);
+    assertThat(newConnection.getDownloadNanos()).isNotNull();
+
+    ProbeTimings pooledConnection = probe();
+
+    assertThat(pooledConnection.getDnsNanos()).isNull();
+    assertThat(pooledConnection.getConnectNanos()).isNull();
+    assertThat(pooledConnection.getTlsNanos()).isNull();
+    assertThat(pooledConnection.getTtfbNanos()).isPositive();
+    assertThat(pooledConnection.getDownloadNanos()).isNotNull();
+  }
+
+  @Test
+  void webClient_noProbeTimingsInContext_succeed() {
+
+    mockWebClient.enqueue(new MockResponse().setBody("not a probe"));
+
+    String result =
+        testSubject
+            .getWebClient()
+            .get()
+            .uri("http://localhost:" + mockWebClient.getPort())
+            .retrieve()
+            .bodyToMono(String.class)
+            .block();
+
+    assertThat(result).isEqualTo("not a probe");
+  }
+
+  private ProbeTimings probe() {
+
+    ProbeTimings probeTimings = ProbeTimings.start();
+
+    testSubject
+        .getWebClient()
+        .get()
+        .uri("http://localhost:" + mockWebClient.getPort())
+        .retrieve()
+        .toBodilessEntity()
+        .contextWrite(context -> context.put(ProbeTimings.KEY, probeTimings))
+        .block();
+
+    return probeTimings;
+  }
+}
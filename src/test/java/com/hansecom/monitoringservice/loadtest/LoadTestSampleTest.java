@@ -0,0 +1,30 @@
+package com.hansecom.monitoringservice.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LoadTestSampleTest {
+
+  @Test
+  void rate_elapsedTime_perSecond() {
+
+    LoadTestSample since = new LoadTestSample(1_000_000_000L, 10, 1, 5, 10, 100, 0, 2, 30);
+    LoadTestSample testSubject =
+        new LoadTestSample(3_000_000_000L, 210, 21, 405, 30, 500, 1, 4, 50);
+
+    assertThat(testSubject.rate(since, LoadTestSample::probes)).isEqualTo(110);
+    assertThat(testSubject.rate(since, LoadTestSample::failed)).isEqualTo(10);
+    assertThat(testSubject.rate(since, LoadTestSample::inserted)).isEqualTo(200);
+    assertThat(testSubject.meanFireLag(since)).isEqualTo(20);
+  }
+
+  @Test
+  void rate_noElapsedTime_zero() {
+
+    LoadTestSample testSubject = new LoadTestSample(1_000_000_000L, 10, 1, 5, 10, 100, 0, 2, 30);
+
+    assertThat(testSubject.rate(testSubject, LoadTestSample::probes)).isZero();
+    assertThat(testSubject.meanFireLag(testSubject)).isZero();
+  }
+}
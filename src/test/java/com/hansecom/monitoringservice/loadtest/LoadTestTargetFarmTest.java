@@ -0,0 +1,99 @@
+package com.hansecom.monitoringservice.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+class LoadTestTargetFarmTest {
+
+  private static final Duration SLOW_BODY_DELAY = Duration.ofMillis(200);
+
+  private LoadTestTargetFarm testSubject;
+
+  @AfterEach
+  void tearDown() {
+    testSubject.destroy();
+  }
+
+  @Test
+  void url_severalServers_spreadTargets() {
+
+    testSubject = farm(0, 0, 0);
+
+    assertThat(testSubject.url(0)).endsWith("/targets/0").isNotEqualTo(testSubject.url(1));
+    assertThat(testSubject.url(2).replace("/targets/2", ""))
+        .isEqualTo(testSubject.url(0).replace("/targets/0", ""));
+  }
+
+  @Test
+  void handle_noFailures_respondBody() {
+
+    testSubject = farm(0, 0, 0);
+
+    Tuple2<Integer, Integer> response = get(testSubject.url(0));
+
+    assertThat(response.getT1()).isEqualTo(200);
+    assertThat(response.getT2()).isEqualTo(64);
+  }
+
+  @Test
+  void handle_errorRate_respondError() {
+
+    testSubject = farm(0, 1, 0);
+
+    assertThat(get(testSubject.url(0)).getT1()).isEqualTo(500);
+  }
+
+  @Test
+  void handle_slowBodyRate_respondWholeBody() {
+
+    testSubject = farm(0, 0, 1);
+
+    long start = System.nanoTime();
+    Tuple2<Integer, Integer> response = get(testSubject.url(0));
+
+    assertThat(response.getT1()).isEqualTo(200);
+    assertThat(response.getT2()).isEqualTo(64);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(SLOW_BODY_DELAY);
+  }
+
+  @Test
+  void handle_resetRate_resetConnection() {
+
+    testSubject = farm(1, 0, 0);
+
+    assertThatThrownBy(() -> get(testSubject.url(0))).isInstanceOf(Exception.class);
+  }
+
+  private static LoadTestTargetFarm farm(double resetRate, double errorRate, double slowBodyRate) {
+    return new LoadTestTargetFarm(
+        2,
+        LoadTestTargetFarm.LatencyDistribution.FIXED,
+        Duration.ofMillis(1),
+        Duration.ofMillis(1),
+        resetRate,
+        errorRate,
+        slowBodyRate,
+        SLOW_BODY_DELAY,
+        64);
+  }
+
+  private static Tuple2<Integer, Integer> get(String url) {
+    return HttpClient.create()
+        .get()
+        .uri(url)
+        .responseSingle(
+            (response, body) ->
+                body.asByteArray()
+                    .map(bytes -> bytes.length)
+                    .defaultIfEmpty(0)
+                    .map(length -> Tuples.of(response.status().code(), length)))
+        .block(Duration.ofSeconds(5));
+  }
+}
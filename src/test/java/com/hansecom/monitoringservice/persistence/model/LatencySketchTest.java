@@ -0,0 +1,103 @@
+package com.hansecom.monitoringservice.persistence.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencySketchTest {
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0, 0.5, 0.9, 0.99, 1})
+  void quantile_randomValues_withinRelativeAccuracy(double quantile) {
+
+    long[] values = new Random(42).longs(10_000, 1, 30_000).sorted().toArray();
+    LatencySketch testSubject = new LatencySketch();
+    Arrays.stream(values).forEach(testSubject::add);
+
+    long expected = values[(int) Math.round(quantile * (values.length - 1))];
+
+    assertThat(testSubject.getCount()).isEqualTo(values.length);
+    assertThat(testSubject.quantile(quantile))
+        .hasValueCloseTo(
+            (double) expected, within(expected * LatencySketch.RELATIVE_ACCURACY * 1.01));
+  }
+
+  @Test
+  void merge_twoSketches_sameAsAddingAllValues() {
+
+    LatencySketch first = new LatencySketch();
+    LatencySketch second = new LatencySketch();
+    LatencySketch all = new LatencySketch();
+    LongStream.rangeClosed(0, 100)
+        .forEach(
+            value -> {
+              first.add(value);
+              all.add(value);
+            });
+    LongStream.rangeClosed(5_000, 5_100)
+        .forEach(
+            value -> {
+              second.add(value);
+              all.add(value);
+            });
+
+    first.merge(second);
+
+    assertThat(first).isEqualTo(all);
+    assertThat(first.getCount()).isEqualTo(202);
+    assertThat(first.quantile(0)).hasValue(0);
+    assertThat(first.quantile(1)).hasValueCloseTo(5_100.0, within(51.0));
+  }
+
+  @Test
+  void toBytes_sketch_roundTrip() {
+
+    LatencySketch testSubject = new LatencySketch();
+    testSubject.add(0);
+    testSubject.add(80, 3);
+    testSubject.add(120_000);
+
+    byte[] bytes = testSubject.toBytes();
+    LatencySketch result = LatencySketch.fromBytes(bytes);
+
+    assertThat(result).isEqualTo(testSubject);
+    assertThat(result.getCount()).isEqualTo(5);
+    assertThat(result.quantile(0.5)).hasValueCloseTo(80.0, within(0.8));
+    assertThat(LatencySketch.fromBytes(new LatencySketch().toBytes()).getCount()).isZero();
+  }
+
+  @Test
+  void toBytes_narrowDistribution_fewBytes() {
+
+    LatencySketch testSubject = new LatencySketch();
+    new Random(42).longs(1_000, 80, 120).forEach(testSubject::add);
+
+    assertThat(testSubject.toBytes()).hasSizeLessThan(64);
+  }
+
+  @Test
+  void fromBytes_invalidBytes_throwIllegalArgumentException() {
+
+    assertThatThrownBy(() -> LatencySketch.fromBytes(new byte[] {9}))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LatencySketch.fromBytes(new byte[] {1, 0, 0, 5, 1}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void quantile_emptySketch_empty() {
+
+    LatencySketch testSubject = new LatencySketch();
+
+    assertThat(testSubject.quantile(0.5)).isEmpty();
+    assertThatThrownBy(() -> testSubject.quantile(1.5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
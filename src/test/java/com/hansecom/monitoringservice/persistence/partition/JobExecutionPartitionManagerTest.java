@@ -0,0 +1,223 @@
+package com.hansecom.monitoringservice.persistence.partition;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class JobExecutionPartitionManagerTest {
+
+  private static final String CREATE_PARTITION = "SELECT create_job_execution_partition(?)";
+
+  private final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+  @Mock private JdbcTemplate jdbcTemplateMock;
+
+  @Mock private Connection connectionMock;
+
+  @Mock private Statement statementMock;
+
+  @Test
+  void managePartitions_retentionDisabled_onlyCreatePartitions() {
+
+    JobExecutionPartitionManager testSubject =
+        new JobExecutionPartitionManager(jdbcTemplateMock, 2, 0, Duration.ofSeconds(5));
+
+    testSubject.managePartitions();
+
+    verify(jdbcTemplateMock).queryForObject(CREATE_PARTITION, String.class, today);
+    verify(jdbcTemplateMock).queryForObject(CREATE_PARTITION, String.class, today.plusDays(1));
+    verify(jdbcTemplateMock).queryForObject(CREATE_PARTITION, String.class, today.plusDays(2));
+    verifyNoMoreInteractions(jdbcTemplateMock);
+  }
+
+  @SneakyThrows
+  @Test
+  void managePartitions_retentionEnabled_detachAndDropExpiredPartitions() {
+
+    givenPartitions(
+        List.of(
+            List.of(partition(today.minusDays(33)), "DETACH_PENDING"),
+            List.of(partition(today.minusDays(32)), "DETACHED"),
+            List.of(partition(today.minusDays(31)), "ATTACHED"),
+            List.of(partition(today.minusDays(30)), "ATTACHED"),
+            List.of(partition(today), "ATTACHED")));
+    givenDefaultPartition(true);
+    givenConnection();
+
+    JobExecutionPartitionManager testSubject =
+        new JobExecutionPartitionManager(jdbcTemplateMock, 0, 30, Duration.ofSeconds(5));
+
+    testSubject.managePartitions();
+
+    InOrder inOrder = inOrder(statementMock);
+    inOrder.verify(statementMock).execute("SET lock_timeout = 5000");
+    inOrder
+        .verify(statementMock)
+        .execute(
+            "ALTER TABLE job_execution DETACH PARTITION "
+                + partition(today.minusDays(33))
+                + " FINALIZE");
+    inOrder.verify(statementMock).execute("DROP TABLE IF EXISTS " + partition(today.minusDays(33)));
+    inOrder.verify(statementMock).execute("RESET lock_timeout");
+    inOrder.verify(statementMock).execute("SET lock_timeout = 5000");
+    inOrder.verify(statementMock).execute("DROP TABLE IF EXISTS " + partition(today.minusDays(32)));
+    inOrder.verify(statementMock).execute("RESET lock_timeout");
+    inOrder.verify(statementMock).execute("SET lock_timeout = 5000");
+    // not concurrently, the table has a default partition
+    inOrder
+        .verify(statementMock)
+        .execute("ALTER TABLE job_execution DETACH PARTITION " + partition(today.minusDays(31)));
+    inOrder.verify(statementMock).execute("DROP TABLE IF EXISTS " + partition(today.minusDays(31)));
+    inOrder.verify(statementMock).execute("RESET lock_timeout");
+    verify(statementMock, times(3)).close();
+    verifyNoMoreInteractions(statementMock);
+  }
+
+  @SneakyThrows
+  @Test
+  void managePartitions_noDefaultPartition_detachConcurrently() {
+
+    givenPartitions(List.of(List.of(partition(today.minusDays(31)), "ATTACHED")));
+    givenDefaultPartition(false);
+    givenConnection();
+
+    JobExecutionPartitionManager testSubject =
+        new JobExecutionPartitionManager(jdbcTemplateMock, 0, 30, Duration.ofSeconds(5));
+
+    testSubject.managePartitions();
+
+    verify(statementMock)
+        .execute(
+            "ALTER TABLE job_execution DETACH PARTITION "
+                + partition(today.minusDays(31))
+                + " CONCURRENTLY");
+    verify(statementMock).execute("DROP TABLE IF EXISTS " + partition(today.minusDays(31)));
+  }
+
+  @SneakyThrows
+  @Test
+  void managePartitions_lockTimeout_dropNextPartitions() {
+
+    givenPartitions(
+        List.of(
+            List.of(partition(today.minusDays(32)), "ATTACHED"),
+            List.of(partition(today.minusDays(31)), "ATTACHED")));
+    givenDefaultPartition(true);
+    when(jdbcTemplateMock.execute(any(ConnectionCallback.class)))
+        .thenThrow(new CannotAcquireLockException("lock timeout"))
+        .thenAnswer(
+            invocation ->
+                invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connectionMock));
+    when(connectionMock.createStatement()).thenReturn(statementMock);
+
+    JobExecutionPartitionManager testSubject =
+        new JobExecutionPartitionManager(jdbcTemplateMock, 0, 30, Duration.ofSeconds(5));
+
+    testSubject.managePartitions();
+
+    verify(jdbcTemplateMock, times(2)).execute(any(ConnectionCallback.class));
+    verify(statementMock).execute("DROP TABLE IF EXISTS " + partition(today.minusDays(31)));
+  }
+
+  @Test
+  void managePartitions_noExpiredPartitions_notDrop() {
+
+    givenPartitions(List.of(List.of(partition(today), "ATTACHED")));
+
+    JobExecutionPartitionManager testSubject =
+        new JobExecutionPartitionManager(jdbcTemplateMock, 0, 30, Duration.ofSeconds(5));
+
+    testSubject.managePartitions();
+
+    verify(jdbcTemplateMock).queryForObject(CREATE_PARTITION, String.class, today);
+    verify(jdbcTemplateMock).query(anyString(), any(RowMapper.class));
+    verifyNoMoreInteractions(jdbcTemplateMock);
+  }
+
+  @Test
+  void managePartitions_databaseError_notThrow() {
+
+    when(jdbcTemplateMock.queryForObject(anyString(), eq(String.class), any(LocalDate.class)))
+        .thenThrow(new DataAccessResourceFailureException("down"));
+
+    JobExecutionPartitionManager testSubject =
+        new JobExecutionPartitionManager(jdbcTemplateMock, 7, 30, Duration.ofSeconds(5));
+
+    testSubject.managePartitions();
+
+    verify(jdbcTemplateMock).queryForObject(CREATE_PARTITION, String.class, today);
+    verifyNoMoreInteractions(jdbcTemplateMock);
+  }
+
+  /**
+   * Lists the given partitions, as name and state, through the row mapper of the manager.
+   *
+   * @param partitions the partitions
+   */
+  @SuppressWarnings("unchecked")
+  private void givenPartitions(List<List<String>> partitions) {
+    when(jdbcTemplateMock.query(anyString(), any(RowMapper.class)))
+        .thenAnswer(
+            invocation -> {
+              RowMapper<?> rowMapper = invocation.getArgument(1);
+              List<Object> rows = new ArrayList<>();
+              for (List<String> partition : partitions) {
+                ResultSet resultSet = mock(ResultSet.class);
+                when(resultSet.getString(1)).thenReturn(partition.get(0));
+                when(resultSet.getString(2)).thenReturn(partition.get(1));
+                rows.add(rowMapper.mapRow(resultSet, rows.size()));
+              }
+              return rows;
+            });
+  }
+
+  private void givenDefaultPartition(boolean defaultPartition) {
+    // lenient, the partitions are created with the same method
+    lenient()
+        .when(jdbcTemplateMock.queryForObject(anyString(), eq(Boolean.class)))
+        .thenReturn(defaultPartition);
+  }
+
+  @SneakyThrows
+  @SuppressWarnings("unchecked")
+  private void givenConnection() {
+    when(jdbcTemplateMock.execute(any(ConnectionCallback.class)))
+        .thenAnswer(
+            invocation ->
+                invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connectionMock));
+    when(connectionMock.createStatement()).thenReturn(statementMock);
+  }
+
+  private static String partition(LocalDate day) {
+    return "job_execution_p" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+  }
+}
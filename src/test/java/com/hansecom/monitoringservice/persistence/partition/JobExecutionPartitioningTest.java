@@ -0,0 +1,115 @@
+package com.hansecom.monitoringservice.persistence.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hansecom.monitoringservice.persistence.test.util.DatabaseTestSetup;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DatabaseTestSetup
+class JobExecutionPartitioningTest {
+
+  private final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void managePartitions_missingDays_createPartitions() {
+
+    new JobExecutionPartitionManager(jdbcTemplate, 10, 0, Duration.ofSeconds(5)).managePartitions();
+
+    for (int day = 0; day <= 10; day++) {
+      assertThat(exists(partition(today.plusDays(day)))).isTrue();
+    }
+  }
+
+  @Test
+  void managePartitions_rowsInDefaultPartition_moveRowsAndCreateLaterDays() {
+
+    LocalDate late = today.plusDays(10);
+    insert(late.atTime(12, 0).toInstant(ZoneOffset.UTC));
+    assertThat(count("job_execution_default")).isOne();
+
+    new JobExecutionPartitionManager(jdbcTemplate, 12, 0, Duration.ofSeconds(5)).managePartitions();
+
+    assertThat(count("job_execution_default")).isZero();
+    assertThat(count(partition(late))).isOne();
+    assertThat(count("job_execution")).isOne();
+    assertThat(exists(partition(today.plusDays(12)))).isTrue();
+
+    // the indexes of job_execution are attached to the moved partition
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE tablename = ?",
+                Integer.class,
+                partition(late)))
+        .isEqualTo(
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE tablename = ?",
+                Integer.class,
+                partition(today)));
+  }
+
+  @Test
+  void managePartitions_retentionEnabled_dropExpiredPartitions() {
+
+    LocalDate expired = today.minusDays(31);
+    LocalDate kept = today.minusDays(30);
+    jdbcTemplate.queryForObject("SELECT create_job_execution_partition(?)", String.class, expired);
+    jdbcTemplate.queryForObject("SELECT create_job_execution_partition(?)", String.class, kept);
+    insert(expired.atTime(12, 0).toInstant(ZoneOffset.UTC));
+
+    new JobExecutionPartitionManager(jdbcTemplate, 0, 30, Duration.ofSeconds(5)).managePartitions();
+
+    assertThat(exists(partition(expired))).isFalse();
+    assertThat(exists(partition(kept))).isTrue();
+    assertThat(exists("job_execution_default")).isTrue();
+    assertThat(count("job_execution")).isZero();
+  }
+
+  @Test
+  void managePartitions_expiredPartitionDetached_dropPartition() {
+
+    LocalDate expired = today.minusDays(31);
+    jdbcTemplate.queryForObject("SELECT create_job_execution_partition(?)", String.class, expired);
+    jdbcTemplate.execute("ALTER TABLE job_execution DETACH PARTITION " + partition(expired));
+
+    new JobExecutionPartitionManager(jdbcTemplate, 0, 30, Duration.ofSeconds(5)).managePartitions();
+
+    assertThat(exists(partition(expired))).isFalse();
+  }
+
+  private void insert(Instant createdDate) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO job_execution (external_id, job_name, url, status, created_date,
+                                   last_modified_date)
+        VALUES (?, 'google', 'https://www.google.com', 'SUCCEEDED', ?, ?)
+        """,
+        UUID.randomUUID(),
+        Timestamp.from(createdDate),
+        Timestamp.from(createdDate));
+  }
+
+  private boolean exists(String table) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+  }
+
+  private long count(String table) {
+    // the names are built by the test
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+  }
+
+  private static String partition(LocalDate day) {
+    return "job_execution_p" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+  }
+}
@@ -0,0 +1,161 @@
+package com.hansecom.monitoringservice.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hansecom.monitoringservice.persistence.test.util.DatabaseTestSetup;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Query plan regression suite of the job execution listing.
+ *
+ * <p>Seeds a few days of job executions and checks with {@code EXPLAIN ANALYZE} that each filter
+ * combination of the listing is answered from an index, without reading a partition sequentially,
+ * and within the latency budget. The queries have the shape of the ones built by {@link
+ * JobExecutionRepository}: a page of 100 job executions plus the extra row, sorted by created date
+ * and id.
+ */
+@DatabaseTestSetup
+class JobExecutionQueryPlanTest {
+
+  private static final int ROWS = 2_000_000;
+
+  private static final double BUDGET_MILLIS = 100;
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final String SELECT =
+      "SELECT id, external_id, job_name, url, status, error_message, response_time, created_date"
+          + " FROM job_execution";
+
+  private static final String NEWEST_FIRST = " ORDER BY created_date DESC, id DESC LIMIT 101";
+
+  private static final String OLDEST_FIRST = " ORDER BY created_date, id LIMIT 101";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void listingQueries_millionsOfRows_useIndexesWithinBudget() {
+
+    seed();
+
+    List<QueryShape> queryShapes =
+        List.of(
+            new QueryShape("no filters", SELECT + NEWEST_FIRST),
+            new QueryShape("job name", SELECT + " WHERE job_name = 'job-7'" + NEWEST_FIRST),
+            new QueryShape(
+                "url", SELECT + " WHERE url = 'https://www.google.com/7'" + NEWEST_FIRST),
+            new QueryShape("failed", SELECT + " WHERE status = 'FAILED'" + NEWEST_FIRST),
+            new QueryShape("succeeded", SELECT + " WHERE status = 'SUCCEEDED'" + NEWEST_FIRST),
+            new QueryShape(
+                "job name and failed",
+                SELECT + " WHERE job_name = 'job-7' AND status = 'FAILED'" + NEWEST_FIRST),
+            new QueryShape(
+                "date range",
+                SELECT
+                    + " WHERE created_date >= now() - interval '1 day'"
+                    + " AND created_date <= now() - interval '12 hours'"
+                    + NEWEST_FIRST),
+            new QueryShape(
+                "job name and date range, oldest first",
+                SELECT
+                    + " WHERE job_name = 'job-7' AND created_date >= now() - interval '1 day'"
+                    + OLDEST_FIRST),
+            new QueryShape(
+                "keyset page",
+                SELECT
+                    + " WHERE created_date <= now() - interval '1 day'"
+                    + " AND (created_date < now() - interval '1 day'"
+                    + " OR (created_date = now() - interval '1 day' AND id < 1000000))"
+                    + NEWEST_FIRST),
+            new QueryShape(
+                "count of a date range",
+                "SELECT count(*) FROM job_execution"
+                    + " WHERE created_date >= now() - interval '2 hours'"
+                    + " AND created_date <= now() - interval '1 hour'"));
+
+    SoftAssertions softly = new SoftAssertions();
+    for (QueryShape queryShape : queryShapes) {
+      JsonNode plan = explain(queryShape.sql());
+      List<JsonNode> nodes = new ArrayList<>();
+      collectNodes(plan.path("Plan"), nodes);
+
+      softly
+          .assertThat(nodes)
+          .as("%s uses an index", queryShape.name())
+          .anyMatch(JobExecutionQueryPlanTest::isIndexScan);
+      softly
+          .assertThat(nodes)
+          .as("%s reads no partition sequentially", queryShape.name())
+          .noneMatch(JobExecutionQueryPlanTest::isSequentialRead);
+      softly
+          .assertThat(plan.path("Execution Time").asDouble())
+          .as("%s execution time in milliseconds", queryShape.name())
+          .isLessThan(BUDGET_MILLIS);
+    }
+    softly.assertAll();
+  }
+
+  /**
+   * Inserts the job executions of the last days, 200 jobs probed every 100 ms in total and 2% of
+   * failures, with up to date statistics.
+   */
+  private void seed() {
+
+    jdbcTemplate.queryForList(
+        "SELECT create_job_execution_partition(day::date)"
+            + " FROM generate_series(now() - interval '3 days', now(), interval '1 day') day");
+    jdbcTemplate.update(
+        "INSERT INTO job_execution (external_id, job_name, url, status, response_time,"
+            + " created_date, last_modified_date)"
+            + " SELECT gen_random_uuid(), 'job-' || (i % 200), 'https://www.google.com/' || (i % 200),"
+            + " CASE WHEN i % 50 = 0 THEN 'FAILED' ELSE 'SUCCEEDED' END, 80,"
+            + " now() - i * interval '100 milliseconds', now()"
+            + " FROM generate_series(1, ?) i",
+        ROWS);
+
+    // done by autovacuum on a live database, the test runs in a single transaction
+    jdbcTemplate.queryForList(
+        "SELECT brin_summarize_new_values(index.indexrelid) FROM pg_index index"
+            + " JOIN pg_class class ON class.oid = index.indexrelid"
+            + " JOIN pg_am am ON am.oid = class.relam"
+            + " WHERE am.amname = 'brin'"
+            + " AND class.relkind = 'i'");
+    jdbcTemplate.execute("ANALYZE job_execution");
+
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM job_execution", Long.class))
+        .isEqualTo(ROWS);
+  }
+
+  @SneakyThrows
+  private JsonNode explain(String sql) {
+    String plan =
+        jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, FORMAT JSON) " + sql, String.class);
+    return OBJECT_MAPPER.readTree(plan).path(0);
+  }
+
+  private static void collectNodes(JsonNode node, List<JsonNode> nodes) {
+    nodes.add(node);
+    node.path("Plans").forEach(child -> collectNodes(child, nodes));
+  }
+
+  private static boolean isIndexScan(JsonNode node) {
+    return List.of("Index Scan", "Index Only Scan", "Bitmap Index Scan")
+        .contains(node.path("Node Type").asText());
+  }
+
+  /** Sequential scans of empty partitions are expected, the planner prefers them. */
+  private static boolean isSequentialRead(JsonNode node) {
+    return "Seq Scan".equals(node.path("Node Type").asText())
+        && node.path("Actual Rows").asLong() + node.path("Rows Removed by Filter").asLong() > 0;
+  }
+
+  private record QueryShape(String name, String sql) {}
+}
@@ -2,28 +2,39 @@ package com.hansecom.monitoringservice.persistence.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCursor;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
 import com.hansecom.monitoringservice.persistence.test.util.DatabaseTestSetup;
 import jakarta.validation.ConstraintViolationException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @DatabaseTestSetup
 class JobExecutionRepositoryTest {
@@ -60,6 +71,52 @@ class JobExecutionRepositoryTest {
     assertThat(saved.getResponseTime()).isEqualTo(80L);
   }
 
+  @Test
+  void copyAll_entities_succeed() {
+
+    JobExecutionEntity entity =
+        JobExecutionEntity.builder()
+            .jobName("google copy")
+            .url("https://www.google.com")
+            .status(JobExecutionStatusEntity.SUCCEEDED)
+            .responseTime(80L)
+            .responseSize(1024L)
+            .totalNanos(80_000_000L)
+            .build();
+
+    long result = testSubject.copyAll(List.of(entity));
+
+    assertThat(result).isOne();
+    assertThat(entity.getExternalId()).isNotNull();
+    assertThat(entity.getTraceId()).isEqualTo("00000000000000000000000000000000");
+
+    JobExecutionView copied =
+        testSubject
+            .findViewsByCriteria(
+                new JobExecutionCriteriaParams()
+                    .setJobName(Optional.of("google copy"))
+                    .setPageable(PageRequest.of(0, 10)))
+            .getContent()
+            .getFirst();
+
+    assertThat(copied.id()).isNotNull();
+    assertThat(copied.externalId()).isEqualTo(entity.getExternalId());
+    assertThat(copied.createdDate()).isCloseTo(Instant.now(), within(30, ChronoUnit.SECONDS));
+    assertThat(copied.responseTime()).isEqualTo(80L);
+    assertThat(copied.responseSize()).isEqualTo(1024L);
+    assertThat(copied.totalNanos()).isEqualTo(80_000_000L);
+    assertThat(copied.errorMessage()).isNull();
+
+    // the audit columns are not part of the view
+    assertThat(testSubject.findById(copied.id()))
+        .get()
+        .satisfies(
+            copiedEntity -> {
+              assertThat(copiedEntity.getCreatedBy()).isEqualTo("test-user");
+              assertThat(copiedEntity.getLastModifiedBy()).isEqualTo("test-user");
+            });
+  }
+
   @Test
   void save_emptyEntity_throwDataIntegrityViolationException() {
 
@@ -72,67 +129,223 @@ class JobExecutionRepositoryTest {
   }
 
   @Test
-  void findByCriteria_invalidInput_throwConstraintViolationException() {
+  void findViewsByCriteria_invalidInput_throwConstraintViolationException() {
 
-    assertThatThrownBy(() -> testSubject.findByCriteria(null))
+    assertThatThrownBy(() -> testSubject.findViewsByCriteria(null))
         .isInstanceOf(ConstraintViolationException.class)
-        .hasMessage("findByCriteria.jobExecutionCriteriaParams: must not be null");
+        .hasMessage("findViewsByCriteria.jobExecutionCriteriaParams: must not be null");
 
     JobExecutionCriteriaParams jobExecutionCriteriaParams =
-        new JobExecutionCriteriaParams(null, null, null, null, null, null);
+        new JobExecutionCriteriaParams(null, null, null, null, null, null, null, null);
 
-    assertThatThrownBy(() -> testSubject.findByCriteria(jobExecutionCriteriaParams))
+    assertThatThrownBy(() -> testSubject.findViewsByCriteria(jobExecutionCriteriaParams))
         .isInstanceOf(ConstraintViolationException.class)
-        .hasMessageContaining("findByCriteria.jobExecutionCriteriaParams.jobName: must not be null")
-        .hasMessageContaining("findByCriteria.jobExecutionCriteriaParams.url: must not be null")
-        .hasMessageContaining("findByCriteria.jobExecutionCriteriaParams.status: must not be null")
-        .hasMessageContaining("findByCriteria.jobExecutionCriteriaParams.from: must not be null")
-        .hasMessageContaining("findByCriteria.jobExecutionCriteriaParams.to: must not be null")
         .hasMessageContaining(
-            "findByCriteria.jobExecutionCriteriaParams.pageable: must not be null");
+            "findViewsByCriteria.jobExecutionCriteriaParams.jobName: must not be null")
+        .hasMessageContaining(
+            "findViewsByCriteria.jobExecutionCriteriaParams.url: must not be null")
+        .hasMessageContaining(
+            "findViewsByCriteria.jobExecutionCriteriaParams.status: must not be null")
+        .hasMessageContaining(
+            "findViewsByCriteria.jobExecutionCriteriaParams.from: must not be null")
+        .hasMessageContaining("findViewsByCriteria.jobExecutionCriteriaParams.to: must not be null")
+        .hasMessageContaining(
+            "findViewsByCriteria.jobExecutionCriteriaParams.pageable: must not be null")
+        .hasMessageContaining(
+            "findViewsByCriteria.jobExecutionCriteriaParams.after: must not be null")
+        .hasMessageContaining(
+            "findViewsByCriteria.jobExecutionCriteriaParams.estimateTotal: must not be null");
 
-    assertDoesNotThrow(() -> testSubject.findByCriteria(new JobExecutionCriteriaParams()));
+    assertDoesNotThrow(() -> testSubject.findViewsByCriteria(new JobExecutionCriteriaParams()));
   }
 
   @ParameterizedTest
-  @MethodSource("findByCriteriaInputs")
+  @MethodSource("findViewsByCriteriaInputs")
   @Sql("/db/insert_test_job_execution.sql")
-  void findByCriteria_severalInputs_succeed(
+  void findViewsByCriteria_severalInputs_succeed(
       final JobExecutionCriteriaParams jobExecutionCriteriaParams,
       final Long totalElements,
-      final Integer totalPages,
+      final Boolean hasNext,
       final Integer totalElementsInPage,
       final Long expectedFirstId,
       final Long expectedLastId) {
 
-    Page<JobExecutionEntity> result = testSubject.findByCriteria(jobExecutionCriteriaParams);
+    Slice<JobExecutionView> result = testSubject.findViewsByCriteria(jobExecutionCriteriaParams);
 
-    assertThat(result.getTotalElements()).isEqualTo(totalElements);
-    assertThat(result.getTotalPages()).isEqualTo(totalPages);
+    assertThat(testSubject.countByCriteria(jobExecutionCriteriaParams)).isEqualTo(totalElements);
+    assertThat(result.hasNext()).isEqualTo(hasNext);
     assertThat(result.get()).hasSize(totalElementsInPage);
 
     if (totalElementsInPage > 0) {
-      assertThat(result.toList().getFirst().getId()).isEqualTo(expectedFirstId);
-      assertThat(result.toList().getLast().getId()).isEqualTo(expectedLastId);
+      assertThat(result.toList().getFirst().id()).isEqualTo(expectedFirstId);
+      assertThat(result.toList().getLast().id()).isEqualTo(expectedLastId);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Sort.Direction.class)
+  @Sql("/db/insert_test_job_execution.sql")
+  void findViewsByCriteria_afterCursor_seekNextPage(final Sort.Direction direction) {
+
+    JobExecutionCriteriaParams jobExecutionCriteriaParams =
+        new JobExecutionCriteriaParams()
+            .setAfter(
+                Optional.of(
+                    new JobExecutionCursor(
+                        Instant.parse("2023-01-01T12:01:00.000000Z"), 2L, direction)))
+            .setPageable(PageRequest.of(0, 2, Sort.by(direction, "createdDate", "id")));
+
+    Slice<JobExecutionView> result = testSubject.findViewsByCriteria(jobExecutionCriteriaParams);
+
+    // the total ignores the cursor
+    assertThat(testSubject.countByCriteria(jobExecutionCriteriaParams)).isEqualTo(3L);
+    assertThat(result.hasNext()).isFalse();
+    assertThat(result.get())
+        .singleElement()
+        .extracting(JobExecutionView::id)
+        .isEqualTo(direction.isAscending() ? 3L : 1L);
+  }
+
+  @Test
+  @Sql("/db/insert_test_job_execution.sql")
+  void findViewsByCriteria_severalPages_succeed() {
+
+    JobExecutionCriteriaParams jobExecutionCriteriaParams =
+        new JobExecutionCriteriaParams()
+            .setPageable(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdDate", "id")));
+
+    Slice<JobExecutionView> firstSlice =
+        testSubject.findViewsByCriteria(jobExecutionCriteriaParams);
+
+    assertThat(firstSlice.hasNext()).isTrue();
+    assertThat(firstSlice.getContent())
+        .first()
+        .usingRecursiveComparison()
+        .ignoringFields("createdDate")
+        .isEqualTo(
+            new JobExecutionView(
+                3L,
+                UUID.fromString("800d8f15-3133-44f4-9a63-63af5bc1c96e"),
+                "google fake",
+                "https://www.google.com/fake",
+                JobExecutionStatusEntity.FAILED,
+                "404 not found",
+                89L,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null));
+    assertThat(firstSlice.map(JobExecutionView::id)).containsExactly(3L, 2L);
+
+    Slice<JobExecutionView> lastSlice =
+        testSubject.findViewsByCriteria(
+            jobExecutionCriteriaParams.setPageable(firstSlice.nextPageable()));
+
+    assertThat(lastSlice.hasNext()).isFalse();
+    assertThat(lastSlice.map(JobExecutionView::id)).containsExactly(1L);
+  }
+
+  @Test
+  @Sql("/db/insert_test_job_execution.sql")
+  void forEachViewByCriteria_allRows_streamInSortOrder() {
+
+    List<Long> ids = new ArrayList<>();
+
+    long count =
+        testSubject.forEachViewByCriteria(
+            new JobExecutionCriteriaParams()
+                .setPageable(Pageable.unpaged(Sort.by(Sort.Direction.ASC, "createdDate", "id"))),
+            jobExecutionView -> ids.add(jobExecutionView.id()));
+
+    assertThat(count).isEqualTo(3L);
+    assertThat(ids).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  @Sql("/db/insert_test_job_execution.sql")
+  void findLatestPerJob_limit_latestOfEachJob() {
+
+    assertThat(testSubject.findLatestPerJob(1))
+        .extracting(JobExecutionView::id, JobExecutionView::jobName)
+        .containsExactly(tuple(2L, "google"), tuple(3L, "google fake"));
+    assertThat(testSubject.findLatestPerJob(10))
+        .extracting(JobExecutionView::id)
+        .containsExactly(2L, 1L, 3L);
+  }
+
+  @Test
+  void findLatestPerJob_invalidLimit_throwConstraintViolationException() {
+
+    assertThatThrownBy(() -> testSubject.findLatestPerJob(0))
+        .isInstanceOf(ConstraintViolationException.class)
+        .hasMessageContaining("findLatestPerJob.limit: must be greater than or equal to 1");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  @Sql("/db/insert_test_job_execution.sql")
+  void countByCriteria_exactAndEstimate_succeed(final boolean estimateTotal) {
+
+    JobExecutionCriteriaParams jobExecutionCriteriaParams =
+        new JobExecutionCriteriaParams()
+            .setJobName(Optional.of("google"))
+            .setFrom(Optional.of(Instant.parse("2023-01-01T12:00:00.000000Z")))
+            .setEstimateTotal(estimateTotal);
+
+    long result = testSubject.countByCriteria(jobExecutionCriteriaParams);
+
+    if (estimateTotal) {
+      // the planner never estimates less than one row
+      assertThat(result).isPositive();
+    } else {
+      assertThat(result).isEqualTo(2L);
     }
   }
 
-  private static Stream<Arguments> findByCriteriaInputs() {
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @Sql("/db/insert_test_job_execution.sql")
+  void countByCriteria_withoutTransaction_succeed(final boolean estimateTotal) {
+
+    // as called by the service, outside of any transaction
+    long result =
+        testSubject.countByCriteria(
+            new JobExecutionCriteriaParams().setEstimateTotal(estimateTotal));
 
-    // jobExecutionCriteriaParams, totalElements, totalPages, totalElementsInPage, expectedFirstId,
+    if (estimateTotal) {
+      assertThat(result).isPositive();
+    } else {
+      assertThat(result).isEqualTo(3L);
+    }
+  }
+
+  private static Stream<Arguments> findViewsByCriteriaInputs() {
+
+    // jobExecutionCriteriaParams, totalElements, hasNext, totalElementsInPage, expectedFirstId,
     // expectedLastId
 
     return Stream.of(
         // #1 Filter by JobName only
         Arguments.of(
-            new JobExecutionCriteriaParams().setJobName(Optional.of("google")), 2L, 1, 2, 1L, 2L),
+            new JobExecutionCriteriaParams().setJobName(Optional.of("google")),
+            2L,
+            false,
+            2,
+            1L,
+            2L),
         // #2 Filter by JobName and url
         Arguments.of(
             new JobExecutionCriteriaParams()
                 .setJobName(Optional.of("google"))
                 .setUrl(Optional.of("https://www.google.com")),
             2L,
-            1,
+            false,
             2,
             1L,
             2L),
@@ -141,7 +354,7 @@ class JobExecutionRepositoryTest {
             new JobExecutionCriteriaParams()
                 .setStatus(Optional.of(JobExecutionStatusEntity.FAILED)),
             1L,
-            1,
+            false,
             1,
             3L,
             3L),
@@ -151,7 +364,7 @@ class JobExecutionRepositoryTest {
                 .setJobName(Optional.of("google"))
                 .setUrl(Optional.of("https://www.google2.com")),
             0L,
-            1,
+            false,
             0,
             null,
             null),
@@ -160,7 +373,7 @@ class JobExecutionRepositoryTest {
             new JobExecutionCriteriaParams()
                 .setFrom(Optional.of(Instant.parse("2023-01-01T12:01:00.000000Z"))),
             2L,
-            1,
+            false,
             2,
             2L,
             3L),
@@ -169,7 +382,7 @@ class JobExecutionRepositoryTest {
             new JobExecutionCriteriaParams()
                 .setTo(Optional.of(Instant.parse("2023-01-01T12:01:00.000000Z"))),
             2L,
-            1,
+            false,
             2,
             1L,
             2L),
@@ -179,12 +392,12 @@ class JobExecutionRepositoryTest {
                 .setFrom(Optional.of(Instant.parse("2023-01-01T12:01:00.000000Z")))
                 .setTo(Optional.of(Instant.parse("2023-01-01T12:01:00.000000Z"))),
             1L,
-            1,
+            false,
             1,
             2L,
             2L),
         // #8 No filter
-        Arguments.of(new JobExecutionCriteriaParams(), 3L, 1, 3, 1L, 3L),
+        Arguments.of(new JobExecutionCriteriaParams(), 3L, false, 3, 1L, 3L),
         // #9 Last page sort asc
         Arguments.of(
             new JobExecutionCriteriaParams()
@@ -196,7 +409,7 @@ class JobExecutionRepositoryTest {
                             .by(JobExecutionEntity::getCreatedDate)
                             .ascending())),
             3L,
-            2,
+            false,
             1,
             3L,
             3L),
@@ -211,7 +424,7 @@ class JobExecutionRepositoryTest {
                             .by(JobExecutionEntity::getCreatedDate)
                             .descending())),
             3L,
-            2,
+            false,
             1,
             1L,
             1L));
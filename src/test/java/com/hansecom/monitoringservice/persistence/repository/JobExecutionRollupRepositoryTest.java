@@ -0,0 +1,140 @@
+package com.hansecom.monitoringservice.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionRollup;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.impl.JobExecutionRollupRepositoryImpl;
+import com.hansecom.monitoringservice.persistence.test.util.DatabaseTestSetup;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@DatabaseTestSetup
+@Import(JobExecutionRollupRepositoryImpl.class)
+class JobExecutionRollupRepositoryTest {
+
+  private static final Instant DAY = Instant.parse("2024-09-30T00:00:00Z");
+
+  @Autowired private JobExecutionRollupRepository testSubject;
+
+  @Test
+  void record_severalBatches_mergeIntoBuckets() {
+
+    int updated =
+        testSubject.record(
+            List.of(
+                jobExecution(
+                    "google", "2024-09-30T10:15:10Z", 80L, JobExecutionStatusEntity.SUCCEEDED),
+                jobExecution(
+                    "google", "2024-09-30T10:15:50Z", 120L, JobExecutionStatusEntity.SUCCEEDED),
+                jobExecution(
+                    "bing", "2024-09-30T10:15:20Z", 300L, JobExecutionStatusEntity.SUCCEEDED)));
+    testSubject.record(
+        List.of(
+            jobExecution(
+                "google", "2024-09-30T10:16:05Z", 100L, JobExecutionStatusEntity.SUCCEEDED),
+            jobExecution("google", "2024-09-30T11:00:00Z", null, JobExecutionStatusEntity.FAILED)));
+
+    // 2 jobs with a minute, an hour and a day bucket each
+    assertThat(updated).isEqualTo(6);
+
+    assertThat(
+            testSubject.findRollups(
+                RollupResolutionEntity.MINUTE, Optional.of("google"), DAY, DAY.plusSeconds(86400)))
+        .extracting(
+            JobExecutionRollup::getBucketStart,
+            JobExecutionRollup::getExecutions,
+            JobExecutionRollup::getFailures,
+            JobExecutionRollup::getMinResponseTime,
+            JobExecutionRollup::getMaxResponseTime,
+            JobExecutionRollup::getMeanResponseTime)
+        .containsExactly(
+            tuple(Instant.parse("2024-09-30T10:15:00Z"), 2L, 0L, 80L, 120L, 100.0),
+            tuple(Instant.parse("2024-09-30T10:16:00Z"), 1L, 0L, 100L, 100L, 100.0),
+            tuple(Instant.parse("2024-09-30T11:00:00Z"), 1L, 1L, null, null, null));
+
+    List<JobExecutionRollup> days =
+        testSubject.findRollups(
+            RollupResolutionEntity.DAY, Optional.empty(), DAY, DAY.plusSeconds(86400));
+    assertThat(days)
+        .extracting(
+            JobExecutionRollup::getJobName,
+            JobExecutionRollup::getExecutions,
+            JobExecutionRollup::getFailures,
+            JobExecutionRollup::getSumResponseTime,
+            JobExecutionRollup::getResponseTimeCount)
+        .containsExactly(tuple("bing", 1L, 0L, 300L, 1L), tuple("google", 4L, 1L, 300L, 3L));
+    assertThat(days.get(1).getLatencySketch().getCount()).isEqualTo(3);
+    assertThat(days.get(1).getLatencySketch().quantile(0.5)).hasValueCloseTo(100.0, within(1.0));
+  }
+
+  @Test
+  void findRollups_timeRange_endExclusive() {
+
+    testSubject.record(
+        List.of(
+            jobExecution("google", "2024-09-30T10:00:00Z", 80L, JobExecutionStatusEntity.SUCCEEDED),
+            jobExecution(
+                "google", "2024-09-30T11:00:00Z", 80L, JobExecutionStatusEntity.SUCCEEDED)));
+
+    assertThat(
+            testSubject.findRollups(
+                RollupResolutionEntity.HOUR,
+                Optional.empty(),
+                Instant.parse("2024-09-30T10:00:00Z"),
+                Instant.parse("2024-09-30T11:00:00Z")))
+        .extracting(JobExecutionRollup::getBucketStart)
+        .containsExactly(Instant.parse("2024-09-30T10:00:00Z"));
+  }
+
+  @Test
+  void deleteOlderThan_resolution_deleteOnlyOlderBucketsOfResolution() {
+
+    testSubject.record(
+        List.of(
+            jobExecution("google", "2024-09-29T10:00:00Z", 80L, JobExecutionStatusEntity.SUCCEEDED),
+            jobExecution(
+                "google", "2024-09-30T10:00:00Z", 80L, JobExecutionStatusEntity.SUCCEEDED)));
+
+    int deleted = testSubject.deleteOlderThan(RollupResolutionEntity.MINUTE, DAY);
+
+    assertThat(deleted).isOne();
+    assertThat(
+            testSubject.findRollups(
+                RollupResolutionEntity.MINUTE,
+                Optional.empty(),
+                Instant.EPOCH,
+                DAY.plusSeconds(86400)))
+        .extracting(JobExecutionRollup::getBucketStart)
+        .containsExactly(Instant.parse("2024-09-30T10:00:00Z"));
+    assertThat(
+            testSubject.findRollups(
+                RollupResolutionEntity.DAY,
+                Optional.empty(),
+                Instant.EPOCH,
+                DAY.plusSeconds(86400)))
+        .hasSize(2);
+  }
+
+  private static JobExecutionEntity jobExecution(
+      String jobName, String createdDate, Long responseTime, JobExecutionStatusEntity status) {
+
+    JobExecutionEntity jobExecutionEntity =
+        JobExecutionEntity.builder()
+            .jobName(jobName)
+            .url("https://www.google.com")
+            .status(status)
+            .responseTime(responseTime)
+            .build();
+    jobExecutionEntity.setCreatedDate(Instant.parse(createdDate));
+    return jobExecutionEntity;
+  }
+}
@@ -0,0 +1,93 @@
+package com.hansecom.monitoringservice.persistence.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+class JobExecutionCopyEncoderTest {
+
+  @SneakyThrows
+  @Test
+  void write_jobExecution_encodeBinaryCopyFormat() {
+
+    UUID externalId = UUID.fromString("638115d9-5d3a-476a-9d2e-ab4cf008b189");
+    Instant createdDate = Instant.parse("2000-01-01T00:00:01Z");
+
+    JobExecutionEntity entity =
+        JobExecutionEntity.builder()
+            .externalId(externalId)
+            .jobName("google")
+            .url("https://www.google.com")
+            .status(JobExecutionStatusEntity.SUCCEEDED)
+            .responseTime(80L)
+            .createdDate(createdDate)
+            .lastModifiedDate(createdDate)
+            .createdBy("test-user")
+            .lastModifiedBy("test-user")
+            .traceId("00000000000000000000000000000000")
+            .responseSize(1024L)
+            .totalNanos(80_000_000L)
+            .build();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    JobExecutionCopyEncoder testSubject = new JobExecutionCopyEncoder(bytes);
+    testSubject.writeHeader();
+    testSubject.write(entity);
+    testSubject.writeTrailer();
+
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+    assertThat(in.readNBytes(11))
+        .isEqualTo(new byte[] {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0});
+    assertThat(in.readInt()).isZero();
+    assertThat(in.readInt()).isZero();
+
+    assertThat(in.readShort()).isEqualTo((short) 19);
+    // external_id
+    assertThat(in.readInt()).isEqualTo(16);
+    assertThat(new UUID(in.readLong(), in.readLong())).isEqualTo(externalId);
+    assertThat(readText(in)).isEqualTo("google");
+    assertThat(readText(in)).isEqualTo("https://www.google.com");
+    assertThat(readText(in)).isEqualTo("SUCCEEDED");
+    // response_time
+    assertThat(in.readInt()).isEqualTo(4);
+    assertThat(in.readInt()).isEqualTo(80);
+    // error_message
+    assertThat(in.readInt()).isEqualTo(-1);
+    // created_date and last_modified_date, in microseconds since 2000-01-01
+    assertThat(in.readInt()).isEqualTo(8);
+    assertThat(in.readLong()).isEqualTo(1_000_000L);
+    assertThat(in.readInt()).isEqualTo(8);
+    assertThat(in.readLong()).isEqualTo(1_000_000L);
+    assertThat(readText(in)).isEqualTo("test-user");
+    assertThat(readText(in)).isEqualTo("test-user");
+    assertThat(readText(in)).isEqualTo("00000000000000000000000000000000");
+    // response_size
+    assertThat(in.readInt()).isEqualTo(8);
+    assertThat(in.readLong()).isEqualTo(1024L);
+    // response_hash and the connection phases
+    for (int i = 0; i < 6; i++) {
+      assertThat(in.readInt()).isEqualTo(-1);
+    }
+    // total_nanos
+    assertThat(in.readInt()).isEqualTo(8);
+    assertThat(in.readLong()).isEqualTo(80_000_000L);
+
+    assertThat(in.readShort()).isEqualTo((short) -1);
+    assertThat(in.available()).isZero();
+  }
+
+  @SneakyThrows
+  private static String readText(DataInputStream in) {
+    return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,143 @@
+package com.hansecom.monitoringservice.persistence.rollup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionRollup;
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class JobExecutionRollupCacheTest {
+
+  private static final Instant NOW = Instant.parse("2024-09-30T10:00:30Z");
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final JobExecutionRollupRepository jobExecutionRollupRepositoryMock =
+      mock(JobExecutionRollupRepository.class);
+
+  private final JobExecutionRollupCache testSubject =
+      new JobExecutionRollupCache(
+          jobExecutionRollupRepositoryMock, meterRegistry, 1_000, Duration.ofMinutes(1));
+
+  @Test
+  void findRollups_closedBuckets_cacheHitsOnRepeat() {
+
+    JobExecutionRollup bing = rollup("bing", "2024-09-30T03:00:00Z");
+    JobExecutionRollup googleFirst = rollup("google", "2024-09-30T01:00:00Z");
+    JobExecutionRollup googleSecond = rollup("google", "2024-09-30T03:00:00Z");
+    when(jobExecutionRollupRepositoryMock.findRollups(
+            RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(5)))
+        .thenReturn(List.of(bing, googleFirst, googleSecond));
+
+    List<JobExecutionRollup> first =
+        testSubject.findRollups(
+            RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(5), NOW);
+    List<JobExecutionRollup> second =
+        testSubject.findRollups(
+            RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(5), NOW);
+
+    assertThat(first).containsExactly(bing, googleFirst, googleSecond);
+    assertThat(second).isEqualTo(first);
+    verify(jobExecutionRollupRepositoryMock)
+        .findRollups(RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(5));
+    verifyNoMoreInteractions(jobExecutionRollupRepositoryMock);
+
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(5);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+        .isEqualTo(5);
+  }
+
+  @Test
+  void findRollups_openTail_readLiveEveryTime() {
+
+    // the 09:00 bucket ended 30 seconds ago, within the grace period
+    JobExecutionRollup open = rollup("google", "2024-09-30T09:00:00Z");
+    when(jobExecutionRollupRepositoryMock.findRollups(
+            RollupResolutionEntity.HOUR, Optional.of("google"), hour(8), hour(9)))
+        .thenReturn(List.of());
+    when(jobExecutionRollupRepositoryMock.findRollups(
+            RollupResolutionEntity.HOUR, Optional.of("google"), hour(9), hour(11)))
+        .thenReturn(List.of(open));
+
+    for (int i = 0; i < 2; i++) {
+      assertThat(
+              testSubject.findRollups(
+                  RollupResolutionEntity.HOUR, Optional.of("google"), hour(8), hour(11), NOW))
+          .containsExactly(open);
+    }
+
+    verify(jobExecutionRollupRepositoryMock)
+        .findRollups(RollupResolutionEntity.HOUR, Optional.of("google"), hour(8), hour(9));
+    verify(jobExecutionRollupRepositoryMock, times(2))
+        .findRollups(RollupResolutionEntity.HOUR, Optional.of("google"), hour(9), hour(11));
+    verifyNoMoreInteractions(jobExecutionRollupRepositoryMock);
+  }
+
+  @Test
+  void findRollups_partiallyCached_readOnlyMissingBuckets() {
+
+    JobExecutionRollup cached = rollup("google", "2024-09-30T02:00:00Z");
+    JobExecutionRollup before = rollup("google", "2024-09-30T00:00:00Z");
+    JobExecutionRollup after = rollup("google", "2024-09-30T05:00:00Z");
+    when(jobExecutionRollupRepositoryMock.findRollups(
+            RollupResolutionEntity.HOUR, Optional.of("google"), hour(2), hour(4)))
+        .thenReturn(List.of(cached));
+    when(jobExecutionRollupRepositoryMock.findRollups(
+            RollupResolutionEntity.HOUR, Optional.of("google"), hour(0), hour(2)))
+        .thenReturn(List.of(before));
+    when(jobExecutionRollupRepositoryMock.findRollups(
+            RollupResolutionEntity.HOUR, Optional.of("google"), hour(4), hour(6)))
+        .thenReturn(List.of(after));
+
+    testSubject.findRollups(
+        RollupResolutionEntity.HOUR, Optional.of("google"), hour(2), hour(4), NOW);
+
+    assertThat(
+            testSubject.findRollups(
+                RollupResolutionEntity.HOUR, Optional.of("google"), hour(0), hour(6), NOW))
+        .containsExactly(before, cached, after);
+  }
+
+  @Test
+  void invalidateOlderThan_deletedBuckets_readAgain() {
+
+    when(jobExecutionRollupRepositoryMock.findRollups(
+            RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(5)))
+        .thenReturn(List.of());
+    when(jobExecutionRollupRepositoryMock.findRollups(
+            RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(3)))
+        .thenReturn(List.of());
+    testSubject.findRollups(RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(5), NOW);
+
+    testSubject.invalidateOlderThan(RollupResolutionEntity.MINUTE, hour(5));
+    testSubject.invalidateOlderThan(RollupResolutionEntity.HOUR, hour(3));
+    testSubject.findRollups(RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(5), NOW);
+
+    verify(jobExecutionRollupRepositoryMock)
+        .findRollups(RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(5));
+    verify(jobExecutionRollupRepositoryMock)
+        .findRollups(RollupResolutionEntity.HOUR, Optional.empty(), hour(0), hour(3));
+    verifyNoMoreInteractions(jobExecutionRollupRepositoryMock);
+  }
+
+  private static Instant hour(int hour) {
+    return Instant.parse("2024-09-30T00:00:00Z").plus(Duration.ofHours(hour));
+  }
+
+  private static JobExecutionRollup rollup(String jobName, String bucketStart) {
+    return JobExecutionRollup.empty(
+        RollupResolutionEntity.HOUR, jobName, Instant.parse(bucketStart));
+  }
+}
@@ -0,0 +1,67 @@
+package com.hansecom.monitoringservice.persistence.rollup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRollupRepository;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class JobExecutionRollupRetentionTest {
+
+  @Mock private JobExecutionRollupRepository jobExecutionRollupRepositoryMock;
+
+  @Mock private JobExecutionRollupCache jobExecutionRollupCacheMock;
+
+  @Test
+  void oldestKept_retentionDays_startOfDay() {
+
+    JobExecutionRollupRetention testSubject =
+        new JobExecutionRollupRetention(
+            jobExecutionRollupRepositoryMock, jobExecutionRollupCacheMock, 7, 90, 0);
+    Instant now = Instant.parse("2024-09-30T10:44:10Z");
+
+    assertThat(testSubject.oldestKept(RollupResolutionEntity.MINUTE, now))
+        .isEqualTo(Instant.parse("2024-09-23T00:00:00Z"));
+    assertThat(testSubject.oldestKept(RollupResolutionEntity.HOUR, now))
+        .isEqualTo(Instant.parse("2024-07-02T00:00:00Z"));
+    assertThat(testSubject.oldestKept(RollupResolutionEntity.DAY, now)).isEqualTo(Instant.MIN);
+  }
+
+  @Test
+  void deleteExpired_retentions_deleteOnlyLimitedResolutions() {
+
+    JobExecutionRollupRetention testSubject =
+        new JobExecutionRollupRetention(
+            jobExecutionRollupRepositoryMock, jobExecutionRollupCacheMock, 7, 90, 0);
+    when(jobExecutionRollupRepositoryMock.deleteOlderThan(eq(RollupResolutionEntity.MINUTE), any()))
+        .thenThrow(new QueryTimeoutException("timeout"));
+
+    testSubject.deleteExpired();
+
+    // an error on a resolution does not prevent deleting the others
+    verify(jobExecutionRollupRepositoryMock)
+        .deleteOlderThan(eq(RollupResolutionEntity.MINUTE), any());
+    verify(jobExecutionRollupRepositoryMock)
+        .deleteOlderThan(eq(RollupResolutionEntity.HOUR), any());
+    verify(jobExecutionRollupRepositoryMock, never())
+        .deleteOlderThan(eq(RollupResolutionEntity.DAY), any());
+
+    // the cache keeps what was not deleted
+    verify(jobExecutionRollupCacheMock).invalidateOlderThan(eq(RollupResolutionEntity.HOUR), any());
+    verify(jobExecutionRollupCacheMock, never())
+        .invalidateOlderThan(eq(RollupResolutionEntity.MINUTE), any());
+    verify(jobExecutionRollupCacheMock, never())
+        .invalidateOlderThan(eq(RollupResolutionEntity.DAY), any());
+  }
+}
@@ -0,0 +1,282 @@
+package com.hansecom.monitoringservice.persistence.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class JobExecutionBatchWriterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Mock private JobExecutionRepository jobExecutionRepositoryMock;
+
+  @Mock private JobExecutionRollupRepository jobExecutionRollupRepositoryMock;
+
+  @Mock private PlatformTransactionManager transactionManagerMock;
+
+  @Captor private ArgumentCaptor<List<JobExecutionEntity>> batchCaptor;
+
+  private JobExecutionBatchWriter testSubject;
+
+  @SneakyThrows
+  @AfterEach
+  void tearDown() {
+    testSubject.destroy();
+  }
+
+  @Test
+  void submit_batchFull_flushBySize() {
+
+    testSubject =
+        new JobExecutionBatchWriter(
+            jobExecutionRepositoryMock,
+            jobExecutionRollupRepositoryMock,
+            new TransactionTemplate(transactionManagerMock),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.JPA,
+            3,
+            Duration.ofMinutes(1),
+            10);
+
+    jobExecutions(6).forEach(testSubject::submit);
+
+    verify(jobExecutionRepositoryMock, timeout(5000).times(2)).saveAll(batchCaptor.capture());
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+
+    assertThat(batchCaptor.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSize(3));
+    assertThat(meterRegistry.get("monitoring.job.execution.writer.flush").timer().count())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get("monitoring.job.execution.writer.saved").counter().count())
+        .isEqualTo(6);
+  }
+
+  @Test
+  void submit_batchNotFull_flushByTime() {
+
+    testSubject =
+        new JobExecutionBatchWriter(
+            jobExecutionRepositoryMock,
+            jobExecutionRollupRepositoryMock,
+            new TransactionTemplate(transactionManagerMock),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.JPA,
+            100,
+            Duration.ofMillis(100),
+            10);
+
+    jobExecutions(2).forEach(testSubject::submit);
+
+    verify(jobExecutionRepositoryMock, timeout(5000)).saveAll(batchCaptor.capture());
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+
+    assertThat(batchCaptor.getValue()).hasSize(2);
+  }
+
+  @SneakyThrows
+  @Test
+  void submit_queueFull_dropJobExecution() {
+
+    CountDownLatch saving = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(jobExecutionRepositoryMock.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              saving.countDown();
+              release.await();
+              return invocation.getArgument(0);
+            });
+
+    testSubject =
+        new JobExecutionBatchWriter(
+            jobExecutionRepositoryMock,
+            jobExecutionRollupRepositoryMock,
+            new TransactionTemplate(transactionManagerMock),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.JPA,
+            1,
+            Duration.ofMinutes(1),
+            1);
+
+    List<JobExecutionEntity> jobExecutions = jobExecutions(3);
+
+    // the first one is being saved, the second one fills the queue
+    assertThat(testSubject.submit(jobExecutions.get(0))).isTrue();
+    assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(testSubject.submit(jobExecutions.get(1))).isTrue();
+    assertThat(testSubject.submit(jobExecutions.get(2))).isFalse();
+
+    assertThat(dropped("overflow")).isOne();
+    assertThat(meterRegistry.get("monitoring.job.execution.writer.queue.depth").gauge().value())
+        .isOne();
+
+    release.countDown();
+
+    verify(jobExecutionRepositoryMock, timeout(5000).times(2)).saveAll(anyList());
+  }
+
+  @Test
+  void submit_saveError_countDropped() {
+
+    when(jobExecutionRepositoryMock.saveAll(anyList())).thenThrow(new RuntimeException("down"));
+
+    testSubject =
+        new JobExecutionBatchWriter(
+            jobExecutionRepositoryMock,
+            jobExecutionRollupRepositoryMock,
+            new TransactionTemplate(transactionManagerMock),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.JPA,
+            2,
+            Duration.ofMinutes(1),
+            10);
+
+    jobExecutions(2).forEach(testSubject::submit);
+
+    verify(jobExecutionRepositoryMock, timeout(5000)).saveAll(anyList());
+    verify(jobExecutionRepositoryMock, after(200).times(1)).saveAll(anyList());
+
+    assertThat(dropped("error")).isEqualTo(2);
+    assertThat(meterRegistry.get("monitoring.job.execution.writer.saved").counter().count())
+        .isZero();
+    verify(jobExecutionRollupRepositoryMock, never()).record(anyList());
+    verify(transactionManagerMock).rollback(any());
+  }
+
+  @Test
+  void submit_savedBatch_recordRollupsInSameTransaction() {
+
+    testSubject =
+        new JobExecutionBatchWriter(
+            jobExecutionRepositoryMock,
+            jobExecutionRollupRepositoryMock,
+            new TransactionTemplate(transactionManagerMock),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.JPA,
+            2,
+            Duration.ofMinutes(1),
+            10);
+
+    List<JobExecutionEntity> jobExecutions = jobExecutions(2);
+    jobExecutions.forEach(testSubject::submit);
+
+    verify(transactionManagerMock, timeout(5000)).commit(any());
+
+    InOrder inOrder =
+        inOrder(
+            transactionManagerMock, jobExecutionRepositoryMock, jobExecutionRollupRepositoryMock);
+    inOrder.verify(transactionManagerMock).getTransaction(any());
+    inOrder.verify(jobExecutionRepositoryMock).saveAll(jobExecutions);
+    inOrder.verify(jobExecutionRollupRepositoryMock).record(jobExecutions);
+    inOrder.verify(transactionManagerMock).commit(any());
+  }
+
+  @SneakyThrows
+  @Test
+  void destroy_queuedJobExecutions_flushBeforeStop() {
+
+    testSubject =
+        new JobExecutionBatchWriter(
+            jobExecutionRepositoryMock,
+            jobExecutionRollupRepositoryMock,
+            new TransactionTemplate(transactionManagerMock),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.JPA,
+            100,
+            Duration.ofMillis(200),
+            10);
+
+    jobExecutions(3).forEach(testSubject::submit);
+
+    testSubject.destroy();
+
+    verify(jobExecutionRepositoryMock, times(1)).saveAll(batchCaptor.capture());
+    assertThat(batchCaptor.getValue()).hasSize(3);
+
+    assertThat(testSubject.submit(JobExecutionEntity.builder().jobName("late").build())).isFalse();
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+  }
+
+  @Test
+  void submit_copyIngestion_copyBatch() {
+
+    testSubject =
+        new JobExecutionBatchWriter(
+            jobExecutionRepositoryMock,
+            jobExecutionRollupRepositoryMock,
+            new TransactionTemplate(transactionManagerMock),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.COPY,
+            2,
+            Duration.ofMinutes(1),
+            10);
+
+    jobExecutions(2).forEach(testSubject::submit);
+
+    verify(jobExecutionRepositoryMock, timeout(5000)).copyAll(batchCaptor.capture());
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+
+    assertThat(batchCaptor.getValue()).hasSize(2);
+  }
+
+  @Test
+  void submit_nothing_noSave() {
+
+    testSubject =
+        new JobExecutionBatchWriter(
+            jobExecutionRepositoryMock,
+            jobExecutionRollupRepositoryMock,
+            new TransactionTemplate(transactionManagerMock),
+            meterRegistry,
+            JobExecutionBatchWriter.Ingestion.JPA,
+            100,
+            Duration.ofMillis(10),
+            10);
+
+    verifyNoInteractions(jobExecutionRepositoryMock);
+  }
+
+  private double dropped(String reason) {
+    return meterRegistry
+        .get("monitoring.job.execution.writer.dropped")
+        .tag("reason", reason)
+        .counter()
+        .count();
+  }
+
+  private static List<JobExecutionEntity> jobExecutions(int count) {
+    return IntStream.range(0, count)
+        .<JobExecutionEntity>mapToObj(i -> JobExecutionEntity.builder().jobName("job-" + i).build())
+        .toList();
+  }
+}
@@ -7,23 +7,37 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.hansecom.monitoringservice.configuration.ModelMapperConfiguration;
 import com.hansecom.monitoringservice.exception.StandardException;
+import com.hansecom.monitoringservice.rest.inbound.mapper.JobExecutionMapperImpl;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecutionPercentiles;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecutionPercentilesResponseList;
 import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobExecutionResponseList;
 import com.hansecom.monitoringservice.rest.inbound.openapi.model.ProblemDetail;
+import com.hansecom.monitoringservice.service.JobExecutionExport;
 import com.hansecom.monitoringservice.service.JobExecutionService;
+import com.hansecom.monitoringservice.service.JobExecutionStatisticsService;
+import com.hansecom.monitoringservice.service.dto.ExportFormat;
 import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
 import com.hansecom.monitoringservice.service.dto.JobExecutionDtoList;
 import com.hansecom.monitoringservice.service.dto.JobExecutionFilterDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionPercentilesDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionPercentilesDtoList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupFilterDto;
 import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
 import com.hansecom.monitoringservice.service.dto.PageRequestDto;
+import com.hansecom.monitoringservice.service.dto.TotalMode;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -34,20 +48,31 @@ import org.springframework.boot.autoconfigure.validation.ValidationAutoConfigura
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.ErrorResponseException;
+import reactor.core.publisher.Flux;
 
-@Import({ValidationAutoConfiguration.class, ModelMapperConfiguration.class})
+@Import({ValidationAutoConfiguration.class, JobExecutionMapperImpl.class})
 @WebMvcTest(JobExecutionController.class)
 class JobExecutionControllerTest {
 
   private static final String BASE_PATH = "/jobs-executions";
 
+  private static final String EXPORT_PATH = BASE_PATH + "/export";
+
+  private static final String STREAM_PATH = BASE_PATH + "/stream";
+
+  private static final String PERCENTILES_PATH = BASE_PATH + "/percentiles";
+
   @Autowired private WebTestClient webTestClient;
 
   @MockBean private JobExecutionService jobExecutionServiceMock;
 
+  @MockBean private JobExecutionStatisticsService jobExecutionStatisticsServiceMock;
+
   @ParameterizedTest
   @MethodSource("getJobsExecutionsInvalidParams")
   void getJobsExecutions_wrongQueryParamValue_failWith400(
@@ -105,8 +130,9 @@ class JobExecutionControllerTest {
             Optional.empty(),
             Optional.empty(),
             Optional.of(
-                new PageRequestDto(
-                    0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))));
+                new PageRequestDto(0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))),
+            Optional.empty(),
+            Optional.of(TotalMode.EXACT));
 
     when(jobExecutionServiceMock.getJobsExecutions(jobExecutionFilterDto))
         .thenThrow(constraintViolationExceptionMock);
@@ -160,8 +186,9 @@ class JobExecutionControllerTest {
             Optional.empty(),
             Optional.empty(),
             Optional.of(
-                new PageRequestDto(
-                    0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))));
+                new PageRequestDto(0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))),
+            Optional.empty(),
+            Optional.of(TotalMode.EXACT));
 
     String code = "test_409";
 
@@ -221,8 +248,9 @@ class JobExecutionControllerTest {
             Optional.empty(),
             Optional.empty(),
             Optional.of(
-                new PageRequestDto(
-                    0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))));
+                new PageRequestDto(0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))),
+            Optional.empty(),
+            Optional.of(TotalMode.EXACT));
 
     when(jobExecutionServiceMock.getJobsExecutions(jobExecutionFilterDto))
         .thenThrow(new ErrorResponseException(HttpStatus.BAD_REQUEST));
@@ -273,8 +301,9 @@ class JobExecutionControllerTest {
             Optional.empty(),
             Optional.empty(),
             Optional.of(
-                new PageRequestDto(
-                    0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))));
+                new PageRequestDto(0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))),
+            Optional.empty(),
+            Optional.of(TotalMode.EXACT));
 
     when(jobExecutionServiceMock.getJobsExecutions(jobExecutionFilterDto)).thenThrow(thrownEx);
 
@@ -323,8 +352,9 @@ class JobExecutionControllerTest {
             Optional.empty(),
             Optional.empty(),
             Optional.of(
-                new PageRequestDto(
-                    0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))));
+                new PageRequestDto(0, 10, PageRequestDto.SortDirection.ASC, Set.of("createdDate"))),
+            Optional.of("cursor-value"),
+            Optional.of(TotalMode.ESTIMATE));
 
     JobExecutionDto jobExecutionDto =
         JobExecutionDto.builder()
@@ -340,8 +370,11 @@ class JobExecutionControllerTest {
         .thenReturn(
             JobExecutionDtoList.builder()
                 .jobExecutionList(List.of(jobExecutionDto))
+                .totalMode(TotalMode.ESTIMATE)
                 .totalPages(1)
-                .totalElements(1)
+                .totalElements(1L)
+                .hasNext(true)
+                .nextCursor("next-cursor-value")
                 .build());
 
     webTestClient
@@ -357,6 +390,8 @@ class JobExecutionControllerTest {
                     .queryParam("limit", 10)
                     .queryParam("sort-direction", "asc")
                     .queryParam("sort-properties", "createdDate")
+                    .queryParam("cursor", "cursor-value")
+                    .queryParam("totalMode", "estimate")
                     .build())
         .exchange()
         .expectStatus()
@@ -374,12 +409,288 @@ class JobExecutionControllerTest {
                   .isEqualTo(80);
               assertThat(jobExecutionResponseList.getTotalPages()).isOne();
               assertThat(jobExecutionResponseList.getTotalElements()).isOne();
+              assertThat(jobExecutionResponseList.getTotalMode())
+                  .isEqualTo(JobExecutionResponseList.TotalModeEnum.ESTIMATE);
+              assertThat(jobExecutionResponseList.getHasNext()).isTrue();
+              assertThat(jobExecutionResponseList.getNextCursor()).isEqualTo("next-cursor-value");
             });
 
     verify(jobExecutionServiceMock).getJobsExecutions(jobExecutionFilterDto);
     verifyNoMoreInteractions(jobExecutionServiceMock);
   }
 
+  @Test
+  void exportJobsExecutions_csv_streamExport() {
+
+    JobExecutionFilterDto jobExecutionFilterDto =
+        new JobExecutionFilterDto(
+            Optional.of("google"),
+            Optional.empty(),
+            Optional.of(JobExecutionStatus.FAILED),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty());
+
+    when(jobExecutionServiceMock.exportJobsExecutions(jobExecutionFilterDto, ExportFormat.CSV))
+        .thenReturn(export("externalId,jobName\r\n"));
+
+    webTestClient
+        .get()
+        .uri(
+            uriBuilder ->
+                uriBuilder
+                    .path(EXPORT_PATH)
+                    .queryParam("jobName", "google")
+                    .queryParam("status", "FAILED")
+                    .queryParam("format", "csv")
+                    .build())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentType("text/csv;charset=UTF-8")
+        .expectHeader()
+        .valueEquals(
+            HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jobs-executions.csv\"")
+        .expectHeader()
+        .doesNotExist(HttpHeaders.CONTENT_ENCODING)
+        .expectBody(String.class)
+        .isEqualTo("externalId,jobName\r\n");
+
+    verify(jobExecutionServiceMock).exportJobsExecutions(jobExecutionFilterDto, ExportFormat.CSV);
+    verifyNoMoreInteractions(jobExecutionServiceMock);
+  }
+
+  @Test
+  void exportJobsExecutions_acceptGzip_compressExport() throws IOException {
+
+    when(jobExecutionServiceMock.exportJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty()),
+            ExportFormat.NDJSON))
+        .thenReturn(export("{\"jobName\":\"google\"}\n"));
+
+    byte[] body =
+        webTestClient
+            .get()
+            .uri(EXPORT_PATH)
+            .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentType("application/x-ndjson")
+            .expectHeader()
+            .valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .expectBody()
+            .returnResult()
+            .getResponseBody();
+
+    try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      assertThat(new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8))
+          .isEqualTo("{\"jobName\":\"google\"}\n");
+    }
+  }
+
+  @Test
+  void exportJobsExecutions_invalidFormat_failWith400() {
+
+    webTestClient
+        .get()
+        .uri(uriBuilder -> uriBuilder.path(EXPORT_PATH).queryParam("format", "xml").build())
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectBody(ProblemDetail.class)
+        .value(
+            problemDetail -> {
+              assertErrorResponseDefaults(problemDetail, true, "invalid_request_params");
+              assertThat(problemDetail.getInvalidParams().getFirst().getName()).isEqualTo("format");
+              assertThat(problemDetail.getDetail())
+                  .isEqualTo("Invalid export format value. Please provide one of [NDJSON, CSV]");
+            });
+
+    verifyNoInteractions(jobExecutionServiceMock);
+  }
+
+  @Test
+  void streamJobsExecutions_filters_sendEvents() {
+
+    UUID externalId = UUID.randomUUID();
+
+    when(jobExecutionServiceMock.streamJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.of("google"),
+                Optional.empty(),
+                Optional.of(JobExecutionStatus.FAILED),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty())))
+        .thenReturn(
+            Flux.just(
+                JobExecutionDto.builder()
+                    .externalId(externalId)
+                    .jobName("google")
+                    .status(JobExecutionStatus.FAILED)
+                    .build()));
+
+    webTestClient
+        .get()
+        .uri(
+            uriBuilder ->
+                uriBuilder
+                    .path(STREAM_PATH)
+                    .queryParam("jobName", "google")
+                    .queryParam("status", "FAILED")
+                    .build())
+        .accept(MediaType.TEXT_EVENT_STREAM)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+        .expectBody(String.class)
+        .isEqualTo(
+            "id:"
+                + externalId
+                + "\nevent:job-execution\ndata:{\"externalId\":\""
+                + externalId
+                + "\",\"jobName\":\"google\",\"status\":\"FAILED\"}\n\n");
+  }
+
+  @Test
+  void streamJobsExecutions_invalidStatus_failWith400() {
+
+    webTestClient
+        .get()
+        .uri(uriBuilder -> uriBuilder.path(STREAM_PATH).queryParam("status", "UNKNOWN").build())
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+
+    verifyNoInteractions(jobExecutionServiceMock);
+  }
+
+  @Test
+  void getJobsExecutionsPercentiles_noErrors_succeed() {
+
+    Instant from = Instant.parse("2024-09-01T00:00:00Z");
+    Instant to = Instant.parse("2024-09-30T14:39:25Z");
+    JobExecutionRollupFilterDto jobExecutionRollupFilterDto =
+        new JobExecutionRollupFilterDto(Optional.of("google"), from, to);
+
+    when(jobExecutionStatisticsServiceMock.getJobsExecutionsPercentiles(
+            jobExecutionRollupFilterDto))
+        .thenReturn(
+            JobExecutionPercentilesDtoList.builder()
+                .percentileList(
+                    List.of(
+                        JobExecutionPercentilesDto.builder()
+                            .jobName("google")
+                            .executions(8640)
+                            .failures(12)
+                            .minResponseTime(41L)
+                            .maxResponseTime(2310L)
+                            .meanResponseTime(87.4)
+                            .p50(80.2)
+                            .p90(121.7)
+                            .p99(402.9)
+                            .build()))
+                .build());
+
+    webTestClient
+        .get()
+        .uri(
+            uriBuilder ->
+                uriBuilder
+                    .path(PERCENTILES_PATH)
+                    .queryParam("jobName", "google")
+                    .queryParam("from", from)
+                    .queryParam("to", to)
+                    .build())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(JobExecutionPercentilesResponseList.class)
+        .value(
+            jobExecutionPercentilesResponseList ->
+                assertThat(jobExecutionPercentilesResponseList.getPercentileList())
+                    .containsExactly(
+                        new JobExecutionPercentiles()
+                            .jobName("google")
+                            .executions(8640L)
+                            .failures(12L)
+                            .minResponseTime(41L)
+                            .maxResponseTime(2310L)
+                            .meanResponseTime(87.4)
+                            .p50(80.2)
+                            .p90(121.7)
+                            .p99(402.9)));
+
+    verify(jobExecutionStatisticsServiceMock)
+        .getJobsExecutionsPercentiles(jobExecutionRollupFilterDto);
+    verifyNoMoreInteractions(jobExecutionStatisticsServiceMock);
+    verifyNoInteractions(jobExecutionServiceMock);
+  }
+
+  @Test
+  void getJobsExecutionsPercentiles_missingTimeRange_failWith400() {
+
+    webTestClient
+        .get()
+        .uri(
+            uriBuilder ->
+                uriBuilder
+                    .path(PERCENTILES_PATH)
+                    .queryParam("from", "2024-09-01T00:00:00Z")
+                    .build())
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+
+    verifyNoInteractions(jobExecutionStatisticsServiceMock);
+  }
+
+  @Test
+  void getJobsExecutionsPercentiles_invalidDateRange_failWith400() {
+
+    Instant now = Instant.parse("2024-09-30T14:39:25Z");
+    when(jobExecutionStatisticsServiceMock.getJobsExecutionsPercentiles(
+            new JobExecutionRollupFilterDto(Optional.empty(), now, now)))
+        .thenThrow(StandardException.invalidDateRange());
+
+    webTestClient
+        .get()
+        .uri(
+            uriBuilder ->
+                uriBuilder
+                    .path(PERCENTILES_PATH)
+                    .queryParam("from", now)
+                    .queryParam("to", now)
+                    .build())
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  private static JobExecutionExport export(String content) {
+    return outputStream -> {
+      outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+      return 1;
+    };
+  }
+
   private void assertErrorResponseDefaults(
       final ProblemDetail problemDetail, boolean hasInvalidParams, String code) {
 
@@ -401,7 +712,10 @@ class JobExecutionControllerTest {
             "limit",
             "Failed to convert value of type 'java.lang.String' to required type 'java.lang.Integer'; For input string: \"some-string\""),
         Arguments.of(
-            "sort-direction", "Invalid sort direction value. Please provide one of [ASC, DESC]"));
+            "sort-direction", "Invalid sort direction value. Please provide one of [ASC, DESC]"),
+        Arguments.of(
+            "totalMode",
+            "Invalid total mode value. Please provide one of [EXACT, ESTIMATE, NONE]"));
   }
 
   private static Stream<Arguments> jobExecutionServiceThrownException() {
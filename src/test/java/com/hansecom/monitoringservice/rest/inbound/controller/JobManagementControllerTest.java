@@ -6,14 +6,23 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.hansecom.monitoringservice.configuration.ModelMapperConfiguration;
 import com.hansecom.monitoringservice.exception.StandardException;
+import com.hansecom.monitoringservice.rest.inbound.mapper.JobMapperImpl;
 import com.hansecom.monitoringservice.rest.inbound.openapi.model.Job;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobStatus;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobStatusResponseList;
+import com.hansecom.monitoringservice.rest.inbound.openapi.model.JobStatusResult;
 import com.hansecom.monitoringservice.rest.inbound.openapi.model.ProblemDetail;
 import com.hansecom.monitoringservice.service.JobService;
 import com.hansecom.monitoringservice.service.dto.JobDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import com.hansecom.monitoringservice.service.dto.JobStatusDto;
+import com.hansecom.monitoringservice.service.dto.JobStatusDtoList;
+import com.hansecom.monitoringservice.service.dto.JobStatusResultDto;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import java.time.Instant;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.hibernate.validator.internal.engine.path.PathImpl;
@@ -30,7 +39,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.ErrorResponseException;
 
-@Import({ValidationAutoConfiguration.class, ModelMapperConfiguration.class})
+@Import({ValidationAutoConfiguration.class, JobMapperImpl.class})
 @WebMvcTest(JobManagementController.class)
 class JobManagementControllerTest {
 
@@ -291,6 +300,55 @@ class JobManagementControllerTest {
     verifyNoMoreInteractions(jobServiceMock);
   }
 
+  @Test
+  void getJobsStatus_noErrors_succeed() {
+
+    Instant lastExecutionDate = Instant.parse("2024-09-30T14:39:25Z");
+    when(jobServiceMock.getJobsStatus())
+        .thenReturn(
+            JobStatusDtoList.builder()
+                .statusList(
+                    List.of(
+                        JobStatusDto.builder()
+                            .jobName("google")
+                            .lastStatus(JobExecutionStatus.FAILED)
+                            .lastExecutionDate(lastExecutionDate)
+                            .recentFailures(1)
+                            .recentResults(
+                                List.of(
+                                    JobStatusResultDto.builder()
+                                        .createdDate(lastExecutionDate)
+                                        .status(JobExecutionStatus.FAILED)
+                                        .build()))
+                            .build()))
+                .build());
+
+    webTestClient
+        .get()
+        .uri(BASE_PATH + "/status")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(JobStatusResponseList.class)
+        .value(
+            jobStatusResponseList ->
+                assertThat(jobStatusResponseList.getStatusList())
+                    .containsExactly(
+                        new JobStatus()
+                            .jobName("google")
+                            .lastStatus(JobStatus.LastStatusEnum.FAILED)
+                            .lastExecutionDate(lastExecutionDate)
+                            .recentFailures(1)
+                            .recentResults(
+                                List.of(
+                                    new JobStatusResult()
+                                        .createdDate(lastExecutionDate)
+                                        .status(JobStatusResult.StatusEnum.FAILED)))));
+
+    verify(jobServiceMock).getJobsStatus();
+    verifyNoMoreInteractions(jobServiceMock);
+  }
+
   private void assertErrorResponseDefaults(
       final ProblemDetail problemDetail, boolean hasInvalidParams, String code) {
 
@@ -0,0 +1,48 @@
+package com.hansecom.monitoringservice.rest.inbound.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.pattern.PatternParseException;
+
+class PathPatternRulesTest {
+
+  @Test
+  void match_severalRulesMatching_firstWins() {
+
+    Map<String, Double> rules = new LinkedHashMap<>();
+    rules.put("/jobs-executions/export", 0.0);
+    rules.put("/jobs-executions/**", 0.1);
+    rules.put("/jobs/{jobName}", 0.5);
+    PathPatternRules<Double> testSubject = new PathPatternRules<>(rules, 2);
+
+    assertThat(testSubject.match("/jobs-executions/export")).contains(0.0);
+    assertThat(testSubject.match("/jobs-executions")).contains(0.1);
+    assertThat(testSubject.match("/jobs-executions/stream")).contains(0.1);
+    assertThat(testSubject.match("/jobs/google")).contains(0.5);
+    assertThat(testSubject.match("/jobs")).isEmpty();
+    // decided again once evicted
+    assertThat(testSubject.match("/jobs-executions/export")).contains(0.0);
+    assertThat(testSubject.rules()).containsExactlyEntriesOf(rules);
+  }
+
+  @Test
+  void match_noRules_empty() {
+
+    PathPatternRules<Boolean> testSubject = new PathPatternRules<>(Map.of(), 10);
+
+    assertThat(testSubject.match("/jobs")).isEmpty();
+  }
+
+  @Test
+  void constructor_invalidPattern_throwException() {
+
+    Map<String, Boolean> rules = Map.of("/**/jobs-executions", Boolean.TRUE);
+
+    assertThatThrownBy(() -> new PathPatternRules<>(rules, 10))
+        .isInstanceOf(PatternParseException.class);
+  }
+}
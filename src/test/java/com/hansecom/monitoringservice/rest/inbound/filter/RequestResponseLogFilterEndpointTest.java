@@ -0,0 +1,49 @@
+package com.hansecom.monitoringservice.rest.inbound.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class RequestResponseLogFilterEndpointTest {
+
+  private final RequestResponseLogFilter requestResponseLogFilter =
+      new RequestResponseLogFilter(Set.of("/jobs-executions/export"), 1, List.of(), 10, 64);
+
+  private final MockEnvironment environment =
+      new MockEnvironment()
+          .withProperty(
+              RequestResponseLogFilterEndpoint.EXCLUDE_PROPERTY,
+              "/jobs-executions/export,/jobs-executions/stream");
+
+  private final RequestResponseLogFilterEndpoint testSubject =
+      new RequestResponseLogFilterEndpoint(requestResponseLogFilter, environment);
+
+  @Test
+  void excludePaths_configured_returnPatterns() {
+
+    assertThat(testSubject.excludePaths())
+        .isEqualTo(Map.of("exclude", Set.of("/jobs-executions/export")));
+  }
+
+  @Test
+  void replace_patterns_replaced() {
+
+    Map<String, Set<String>> result = testSubject.replace(List.of("/jobs/**"));
+
+    assertThat(result).isEqualTo(Map.of("exclude", Set.of("/jobs/**")));
+    assertThat(requestResponseLogFilter.getExcludePaths()).containsExactly("/jobs/**");
+  }
+
+  @Test
+  void reload_configured_readFromConfiguration() {
+
+    Map<String, Set<String>> result = testSubject.reload();
+
+    assertThat(result)
+        .isEqualTo(Map.of("exclude", Set.of("/jobs-executions/export", "/jobs-executions/stream")));
+  }
+}
@@ -0,0 +1,216 @@
+package com.hansecom.monitoringservice.rest.inbound.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+class RequestResponseLogFilterTest {
+
+  private final Logger logger = (Logger) LoggerFactory.getLogger(RequestResponseLogFilter.class);
+
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private Level level;
+
+  @BeforeEach
+  void setUp() {
+    level = logger.getLevel();
+    appender.start();
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.detachAppender(appender);
+    logger.setLevel(level);
+  }
+
+  @Test
+  void doFilter_info_logBodiesPassedThrough() throws Exception {
+
+    logger.setLevel(Level.INFO);
+    RequestResponseLogFilter testSubject =
+        new RequestResponseLogFilter(Set.of(), 1, List.of(), 10_000, 64);
+    MockHttpServletRequest request = request("{\"jobName\":\"google\"}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    testSubject.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+
+    assertThat(response.getContentAsString()).isEqualTo("{\"jobName\":\"google\"}");
+    assertThat(appender.list)
+        .extracting(ILoggingEvent::getFormattedMessage)
+        .satisfiesExactly(
+            requestLog ->
+                assertThat(requestLog)
+                    .startsWith("HTTP Request: POST /jobs - ")
+                    .contains("payload={\"jobName\":\"google\"}"),
+            responseLog ->
+                assertThat(responseLog)
+                    .startsWith("HTTP Response: POST /jobs - ")
+                    .contains("status=201", "payload={\"jobName\":\"google\"}"));
+  }
+
+  @Test
+  void doFilter_bodyOverMaxBytes_logTruncated() throws Exception {
+
+    logger.setLevel(Level.INFO);
+    RequestResponseLogFilter testSubject =
+        new RequestResponseLogFilter(Set.of(), 1, List.of(), 10_000, 8);
+    String body = "{\"jobName\":\"google\"}";
+    MockHttpServletRequest request = request(body);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    testSubject.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+
+    // the client still receives the whole body
+    assertThat(response.getContentAsString()).isEqualTo(body);
+    assertThat(appender.list)
+        .extracting(ILoggingEvent::getFormattedMessage)
+        .allSatisfy(
+            log -> assertThat(log).contains("payload={\"jobNam", "payloadSize=" + body.length()));
+  }
+
+  @Test
+  void doFilter_warn_notLogged() throws Exception {
+
+    logger.setLevel(Level.WARN);
+    RequestResponseLogFilter testSubject =
+        new RequestResponseLogFilter(Set.of(), 1, List.of(), 10_000, 64);
+    MockHttpServletRequest request = request("{\"jobName\":\"google\"}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    testSubject.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+
+    assertThat(response.getContentAsString()).isEqualTo("{\"jobName\":\"google\"}");
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void doFilter_chainThrowsException_logged() {
+
+    logger.setLevel(Level.INFO);
+    RequestResponseLogFilter testSubject =
+        new RequestResponseLogFilter(Set.of(), 1, List.of(), 10_000, 64);
+    MockHttpServletRequest request = request("{\"jobName\":\"google\"}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain =
+        new MockFilterChain(
+            new HttpServlet() {
+              @Override
+              protected void service(HttpServletRequest request, HttpServletResponse response)
+                  throws ServletException {
+                throw new ServletException("unit test");
+              }
+            });
+
+    assertThatThrownBy(() -> testSubject.doFilter(request, response, filterChain))
+        .isInstanceOf(ServletException.class)
+        .hasMessage("unit test");
+    assertThat(appender.list)
+        .extracting(ILoggingEvent::getFormattedMessage)
+        .satisfiesExactly(
+            requestLog -> assertThat(requestLog).startsWith("HTTP Request: POST /jobs - "),
+            responseLog -> assertThat(responseLog).startsWith("HTTP Response: POST /jobs - "));
+  }
+
+  @Test
+  void doFilter_pathNotSampled_notLogged() throws Exception {
+
+    logger.setLevel(Level.INFO);
+    RequestResponseLogFilter testSubject =
+        new RequestResponseLogFilter(Set.of(), 1, List.of("/jobs/** = 0", "/** = 1"), 10_000, 64);
+    MockHttpServletRequest request = request("{\"jobName\":\"google\"}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    testSubject.doFilter(request, response, new MockFilterChain(new EchoServlet()));
+
+    assertThat(response.getContentAsString()).isEqualTo("{\"jobName\":\"google\"}");
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void doFilter_excludedPathWithinContextPath_notLogged() throws Exception {
+
+    logger.setLevel(Level.INFO);
+    RequestResponseLogFilter testSubject =
+        new RequestResponseLogFilter(Set.of("/jobs-executions/export"), 1, List.of(), 10_000, 64);
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("GET", "/monitoring-service/jobs-executions/export");
+    request.setContextPath("/monitoring-service");
+
+    testSubject.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void setExcludePaths_replaced_appliedToNextRequests() throws Exception {
+
+    logger.setLevel(Level.INFO);
+    RequestResponseLogFilter testSubject =
+        new RequestResponseLogFilter(Set.of("/jobs/**"), 1, List.of(), 10_000, 64);
+
+    testSubject.doFilter(request("{}"), new MockHttpServletResponse(), new MockFilterChain());
+    testSubject.setExcludePaths(Set.of("/jobs-executions/**", " "));
+    testSubject.doFilter(request("{}"), new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(testSubject.getExcludePaths()).containsExactly("/jobs-executions/**");
+    assertThat(appender.list)
+        .extracting(ILoggingEvent::getFormattedMessage)
+        .satisfiesExactly(
+            requestLog -> assertThat(requestLog).startsWith("HTTP Request: POST /jobs"),
+            responseLog -> assertThat(responseLog).startsWith("HTTP Response: POST /jobs"));
+  }
+
+  @Test
+  void constructor_invalidSampleRate_throwException() {
+
+    List<String> sampleRates = List.of("/jobs/**");
+
+    assertThatThrownBy(() -> new RequestResponseLogFilter(Set.of(), 1, sampleRates, 10_000, 64))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid sample rate, expected pattern=rate: /jobs/**");
+  }
+
+  private static MockHttpServletRequest request(String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/jobs");
+    request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+
+  /** Writes the request body back, through the writer. */
+  private static class EchoServlet extends HttpServlet {
+
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+      String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+      response.setStatus(HttpServletResponse.SC_CREATED);
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+      response.getWriter().write(body);
+    }
+  }
+}
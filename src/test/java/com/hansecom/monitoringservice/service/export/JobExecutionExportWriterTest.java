@@ -0,0 +1,80 @@
+package com.hansecom.monitoringservice.service.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hansecom.monitoringservice.service.dto.ExportFormat;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class JobExecutionExportWriterTest {
+
+  private static final UUID EXTERNAL_ID = UUID.fromString("0b5f6f0e-8d2a-4b8e-9b53-1d3e2f6a7c10");
+
+  @Test
+  void write_ndjson_oneObjectPerLineWithoutNulls() throws IOException {
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    JobExecutionExportWriter testSubject =
+        JobExecutionExportWriter.of(ExportFormat.NDJSON, outputStream);
+
+    testSubject.write(jobExecutionDto("google", null));
+    testSubject.write(jobExecutionDto("bing", "Read timed out"));
+    testSubject.flush();
+
+    assertThat(outputStream.toString(StandardCharsets.UTF_8))
+        .isEqualTo(
+            "{\"externalId\":\"0b5f6f0e-8d2a-4b8e-9b53-1d3e2f6a7c10\",\"jobName\":\"google\","
+                + "\"url\":\"https://www.google.com\",\"status\":\"FAILED\",\"responseTime\":80,"
+                + "\"createdDate\":\"2024-09-07T10:44:10Z\"}\n"
+                + "{\"externalId\":\"0b5f6f0e-8d2a-4b8e-9b53-1d3e2f6a7c10\",\"jobName\":\"bing\","
+                + "\"url\":\"https://www.google.com\",\"status\":\"FAILED\","
+                + "\"errorMessage\":\"Read timed out\",\"responseTime\":80,"
+                + "\"createdDate\":\"2024-09-07T10:44:10Z\"}\n");
+  }
+
+  @Test
+  void write_csv_headerAndQuotedValues() throws IOException {
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    JobExecutionExportWriter testSubject =
+        JobExecutionExportWriter.of(ExportFormat.CSV, outputStream);
+
+    testSubject.write(jobExecutionDto("google", "Status \"503\", retry\nlater"));
+    testSubject.flush();
+
+    assertThat(outputStream.toString(StandardCharsets.UTF_8))
+        .isEqualTo(
+            CsvJobExecutionExportWriter.HEADER
+                + "\r\n0b5f6f0e-8d2a-4b8e-9b53-1d3e2f6a7c10,google,https://www.google.com,FAILED,"
+                + "\"Status \"\"503\"\", retry\nlater\",80,,,,,,,,,2024-09-07T10:44:10Z\r\n");
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      quoteCharacter = '\'',
+      value = {"google|google", "a,b|\"a,b\"", "say \"hi\"|\"say \"\"hi\"\"\""})
+  void quote_csvValue_quoteOnlyWhenNeeded(String value, String expected) {
+    assertThat(CsvJobExecutionExportWriter.quote(value)).isEqualTo(expected);
+  }
+
+  private static JobExecutionDto jobExecutionDto(String jobName, String errorMessage) {
+    return JobExecutionDto.builder()
+        .externalId(EXTERNAL_ID)
+        .jobName(jobName)
+        .url("https://www.google.com")
+        .status(JobExecutionStatus.FAILED)
+        .errorMessage(errorMessage)
+        .responseTime(80L)
+        .createdDate(Instant.parse("2024-09-07T10:44:10Z"))
+        .build();
+  }
+}
@@ -0,0 +1,137 @@
+package com.hansecom.monitoringservice.service.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionDtoMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+class JobExecutionFeedTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final JobExecutionFeed testSubject =
+      new JobExecutionFeed(new JobExecutionDtoMapperImpl(), meterRegistry, 2);
+
+  @AfterEach
+  void tearDown() {
+    testSubject.destroy();
+  }
+
+  @Test
+  void publish_filteredSubscribers_receiveMatchingJobExecutions() {
+
+    List<JobExecutionDto> all = new ArrayList<>();
+    List<JobExecutionDto> googleFailed = new ArrayList<>();
+    Disposable allSubscription =
+        testSubject.subscribe(Optional.empty(), Optional.empty()).subscribe(all::add);
+    Disposable googleFailedSubscription =
+        testSubject
+            .subscribe(Optional.of("google"), Optional.of(JobExecutionStatus.FAILED))
+            .subscribe(googleFailed::add);
+
+    assertThat(gauge()).isEqualTo(2);
+
+    testSubject.publish(jobExecutionEntity("google", JobExecutionStatusEntity.SUCCEEDED));
+    testSubject.publish(jobExecutionEntity("google", JobExecutionStatusEntity.FAILED));
+    testSubject.publish(jobExecutionEntity("bing", JobExecutionStatusEntity.FAILED));
+
+    assertThat(all)
+        .extracting(JobExecutionDto::getJobName, JobExecutionDto::getStatus)
+        .containsExactly(
+            tuple("google", JobExecutionStatus.SUCCEEDED),
+            tuple("google", JobExecutionStatus.FAILED),
+            tuple("bing", JobExecutionStatus.FAILED));
+    assertThat(all)
+        .allSatisfy(jobExecutionDto -> assertThat(jobExecutionDto.getCreatedDate()).isNotNull());
+    assertThat(googleFailed)
+        .singleElement()
+        .satisfies(
+            jobExecutionDto -> {
+              assertThat(jobExecutionDto.getJobName()).isEqualTo("google");
+              assertThat(jobExecutionDto.getStatus()).isEqualTo(JobExecutionStatus.FAILED);
+            });
+
+    allSubscription.dispose();
+    googleFailedSubscription.dispose();
+
+    assertThat(gauge()).isZero();
+  }
+
+  @Test
+  void publish_slowSubscriber_dropOldest() {
+
+    List<JobExecutionDto> received = new ArrayList<>();
+    BaseSubscriber<JobExecutionDto> slowSubscriber =
+        new BaseSubscriber<>() {
+          @Override
+          protected void hookOnSubscribe(Subscription subscription) {
+            // no demand until the test requests
+          }
+
+          @Override
+          protected void hookOnNext(JobExecutionDto value) {
+            received.add(value);
+          }
+        };
+    testSubject.subscribe(Optional.empty(), Optional.empty()).subscribe(slowSubscriber);
+
+    List<String> jobNames = List.of("first", "second", "third", "fourth");
+    jobNames.forEach(
+        jobName ->
+            testSubject.publish(jobExecutionEntity(jobName, JobExecutionStatusEntity.SUCCEEDED)));
+
+    slowSubscriber.request(jobNames.size());
+
+    // the buffer holds 2 job executions
+    assertThat(received).extracting(JobExecutionDto::getJobName).containsExactly("third", "fourth");
+    assertThat(meterRegistry.get("monitoring.job.execution.stream.dropped").counter().count())
+        .isEqualTo(2);
+
+    slowSubscriber.dispose();
+  }
+
+  @Test
+  void destroy_openSubscription_complete() {
+
+    AtomicBoolean completed = new AtomicBoolean();
+    testSubject
+        .subscribe(Optional.empty(), Optional.empty())
+        .subscribe(jobExecutionDto -> {}, throwable -> {}, () -> completed.set(true));
+
+    testSubject.destroy();
+
+    assertThat(completed).isTrue();
+  }
+
+  private double gauge() {
+    return meterRegistry.get("monitoring.job.execution.stream.subscribers").gauge().value();
+  }
+
+  private static JobExecutionEntity jobExecutionEntity(
+      String jobName, JobExecutionStatusEntity status) {
+    return JobExecutionEntity.builder()
+        .externalId(UUID.randomUUID())
+        .jobName(jobName)
+        .url("https://www.google.com")
+        .status(status)
+        .responseTime(80L)
+        .createdDate(Instant.now())
+        .build();
+  }
+}
@@ -2,46 +2,61 @@ package com.hansecom.monitoringservice.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.hansecom.monitoringservice.configuration.ModelMapperConfiguration;
 import com.hansecom.monitoringservice.exception.StandardException;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
-import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCursor;
 import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
 import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.service.JobExecutionExport;
+import com.hansecom.monitoringservice.service.dto.ExportFormat;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
 import com.hansecom.monitoringservice.service.dto.JobExecutionDtoList;
 import com.hansecom.monitoringservice.service.dto.JobExecutionFilterDto;
 import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
 import com.hansecom.monitoringservice.service.dto.PageRequestDto;
+import com.hansecom.monitoringservice.service.dto.TotalMode;
+import com.hansecom.monitoringservice.service.feed.JobExecutionFeed;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionDtoMapperImpl;
 import jakarta.validation.ConstraintViolationException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
 
 @SpringBootTest(
     classes = {
       JobExecutionServiceImpl.class,
       ValidationAutoConfiguration.class,
-      ModelMapperConfiguration.class
+      JobExecutionDtoMapperImpl.class
     })
 class JobExecutionServiceImplTest {
 
@@ -49,6 +64,8 @@ class JobExecutionServiceImplTest {
 
   @MockBean private JobExecutionRepository jobExecutionRepositoryMock;
 
+  @MockBean private JobExecutionFeed jobExecutionFeedMock;
+
   @Test
   void getJobsExecutions_invalidInput_throwConstraintViolationException() {
 
@@ -57,7 +74,7 @@ class JobExecutionServiceImplTest {
         .hasMessage("getJobsExecutions.jobExecutionFilterDto: must not be null");
 
     JobExecutionFilterDto jobExecutionFilterDtoAllNull =
-        new JobExecutionFilterDto(null, null, null, null, null, null);
+        new JobExecutionFilterDto(null, null, null, null, null, null, null, null);
 
     assertThatThrownBy(() -> testSubject.getJobsExecutions(jobExecutionFilterDtoAllNull))
         .isInstanceOf(ConstraintViolationException.class)
@@ -67,7 +84,10 @@ class JobExecutionServiceImplTest {
         .hasMessageContaining("getJobsExecutions.jobExecutionFilterDto.from: must not be null")
         .hasMessageContaining("getJobsExecutions.jobExecutionFilterDto.to: must not be null")
         .hasMessageContaining(
-            "getJobsExecutions.jobExecutionFilterDto.pageRequestDto: must not be null");
+            "getJobsExecutions.jobExecutionFilterDto.pageRequestDto: must not be null")
+        .hasMessageContaining("getJobsExecutions.jobExecutionFilterDto.cursor: must not be null")
+        .hasMessageContaining(
+            "getJobsExecutions.jobExecutionFilterDto.totalMode: must not be null");
 
     Optional<PageRequestDto> pageRequestDto = Optional.of(new PageRequestDto(-1, 0, null, null));
     JobExecutionFilterDto jobExecutionFilterDtoInvalidPage =
@@ -77,7 +97,9 @@ class JobExecutionServiceImplTest {
             Optional.of(JobExecutionStatus.SUCCEEDED),
             Optional.empty(),
             Optional.empty(),
-            pageRequestDto);
+            pageRequestDto,
+            Optional.empty(),
+            Optional.empty());
 
     assertThatThrownBy(() -> testSubject.getJobsExecutions(jobExecutionFilterDtoInvalidPage))
         .isInstanceOf(ConstraintViolationException.class)
@@ -114,6 +136,8 @@ class JobExecutionServiceImplTest {
             Optional.empty(),
             Optional.of(Instant.parse("2024-09-07T11:44:10Z")),
             Optional.of(Instant.parse("2024-09-07T10:44:10Z")),
+            Optional.empty(),
+            Optional.empty(),
             Optional.empty());
 
     String errorMessage = "Invalid date range. From must be before to and to must be after from";
@@ -140,47 +164,407 @@ class JobExecutionServiceImplTest {
   void getJobsExecutions_oneFound_succeed(
       final JobExecutionFilterDto jobExecutionFilterDto, final PageRequest pageRequest) {
 
-    JobExecutionEntity jobExecutionEntity =
-        JobExecutionEntity.builder()
-            .jobName("google")
-            .url("https://www.google.com")
-            .errorMessage("404 not found")
-            .status(JobExecutionStatusEntity.FAILED)
-            .responseTime(80L)
-            .id(1L)
-            .externalId(UUID.randomUUID())
-            .createdBy("test-user")
-            .createdDate(Instant.now())
-            .lastModifiedBy("test-user")
-            .lastModifiedDate(Instant.now())
-            .traceId("123456789")
-            .build();
-
-    when(jobExecutionRepositoryMock.findByCriteria(
+    JobExecutionView jobExecutionView =
+        new JobExecutionView(
+            1L,
+            UUID.randomUUID(),
+            "google",
+            "https://www.google.com",
+            JobExecutionStatusEntity.FAILED,
+            "404 not found",
+            80L,
+            1024L,
+            "hash",
+            1L,
+            2L,
+            3L,
+            4L,
+            5L,
+            15L,
+            Instant.now());
+
+    when(jobExecutionRepositoryMock.findViewsByCriteria(
             new JobExecutionCriteriaParams().setPageable(pageRequest)))
-        .thenReturn(new PageImpl<>(List.of(jobExecutionEntity), pageRequest, 1));
+        .thenReturn(new SliceImpl<>(List.of(jobExecutionView), pageRequest, false));
 
     JobExecutionDtoList result = testSubject.getJobsExecutions(jobExecutionFilterDto);
 
+    // total known from the last page, no count
+    assertThat(result.getTotalMode()).isEqualTo(TotalMode.EXACT);
     assertThat(result.getTotalPages()).isOne();
     assertThat(result.getTotalElements()).isEqualTo(1L);
+    assertThat(result.isHasNext()).isFalse();
+    assertThat(result.getNextCursor()).isNull();
     assertThat(result.getJobExecutionList()).hasSize(1);
 
     assertThat(result.getJobExecutionList().getFirst())
         .usingRecursiveComparison()
         .ignoringExpectedNullFields()
         .ignoringFields("externalId")
-        .isEqualTo(jobExecutionEntity);
+        .isEqualTo(jobExecutionView);
+
+    verify(jobExecutionRepositoryMock)
+        .findViewsByCriteria(new JobExecutionCriteriaParams().setPageable(pageRequest));
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+  }
+
+  @Test
+  void getJobsExecutions_hasNext_returnNextCursorAndCount() {
+
+    JobExecutionView jobExecutionView =
+        jobExecutionView(7L, Instant.parse("2024-09-07T10:44:10.123456Z"));
+
+    PageRequest pageRequest =
+        PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdDate", "id"));
+
+    JobExecutionCriteriaParams expectedParams =
+        new JobExecutionCriteriaParams().setPageable(pageRequest);
+
+    when(jobExecutionRepositoryMock.findViewsByCriteria(expectedParams))
+        .thenReturn(new SliceImpl<>(List.of(jobExecutionView), pageRequest, true));
+    when(jobExecutionRepositoryMock.countByCriteria(expectedParams)).thenReturn(3L);
+
+    JobExecutionDtoList result =
+        testSubject.getJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(new PageRequestDto(0, 1, null, null)),
+                Optional.empty(),
+                Optional.empty()));
+
+    assertThat(result.getJobExecutionList()).hasSize(1);
+    assertThat(result.getTotalPages()).isEqualTo(3);
+    assertThat(result.getTotalElements()).isEqualTo(3L);
+    assertThat(result.isHasNext()).isTrue();
+    assertThat(result.getNextCursor())
+        .isEqualTo(
+            new JobExecutionCursor(
+                    Instant.parse("2024-09-07T10:44:10.123456Z"), 7L, Sort.Direction.DESC)
+                .encode());
+
+    verify(jobExecutionRepositoryMock).findViewsByCriteria(expectedParams);
+    verify(jobExecutionRepositoryMock).countByCriteria(expectedParams);
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+  }
+
+  @Test
+  void getJobsExecutions_sortNotByCreatedDate_noNextCursor() {
+
+    PageRequest pageRequest = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "jobName"));
+
+    when(jobExecutionRepositoryMock.findViewsByCriteria(
+            new JobExecutionCriteriaParams().setPageable(pageRequest)))
+        .thenReturn(
+            new SliceImpl<>(List.of(jobExecutionView(1L, Instant.now())), pageRequest, true));
+    when(jobExecutionRepositoryMock.countByCriteria(
+            new JobExecutionCriteriaParams().setPageable(pageRequest)))
+        .thenReturn(3L);
+
+    JobExecutionDtoList result =
+        testSubject.getJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(
+                    new PageRequestDto(0, 1, PageRequestDto.SortDirection.ASC, Set.of("jobName"))),
+                Optional.empty(),
+                Optional.empty()));
+
+    assertThat(result.getJobExecutionList()).hasSize(1);
+    assertThat(result.isHasNext()).isTrue();
+    assertThat(result.getNextCursor()).isNull();
+  }
+
+  @Test
+  void getJobsExecutions_withCursor_seekAfterCursor() {
+
+    JobExecutionCursor cursor =
+        new JobExecutionCursor(Instant.parse("2024-09-07T10:44:10Z"), 7L, Sort.Direction.ASC);
+
+    // page number and sort are ignored with a cursor
+    JobExecutionCriteriaParams expectedParams =
+        new JobExecutionCriteriaParams()
+            .setJobName(Optional.of("google"))
+            .setAfter(Optional.of(cursor))
+            .setPageable(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdDate", "id")));
+
+    when(jobExecutionRepositoryMock.findViewsByCriteria(expectedParams))
+        .thenReturn(new SliceImpl<>(List.of(), expectedParams.getPageable(), false));
+
+    JobExecutionDtoList result =
+        testSubject.getJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.of("google"),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(
+                    new PageRequestDto(5, 10, PageRequestDto.SortDirection.DESC, Set.of("url"))),
+                Optional.of(cursor.encode()),
+                Optional.of(TotalMode.EXACT)));
+
+    // the exact total would count all the rows on every page
+    assertThat(result.getJobExecutionList()).isEmpty();
+    assertThat(result.getTotalMode()).isEqualTo(TotalMode.NONE);
+    assertThat(result.getTotalElements()).isNull();
+    assertThat(result.isHasNext()).isFalse();
+    assertThat(result.getNextCursor()).isNull();
+
+    verify(jobExecutionRepositoryMock).findViewsByCriteria(expectedParams);
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+  }
+
+  @Test
+  void getJobsExecutions_withCursorTotalModeEstimate_estimateTotal() {
+
+    JobExecutionCursor cursor =
+        new JobExecutionCursor(Instant.parse("2024-09-07T10:44:10Z"), 7L, Sort.Direction.ASC);
+
+    JobExecutionCriteriaParams expectedParams =
+        new JobExecutionCriteriaParams()
+            .setJobName(Optional.of("google"))
+            .setAfter(Optional.of(cursor))
+            .setEstimateTotal(true)
+            .setPageable(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdDate", "id")));
+
+    when(jobExecutionRepositoryMock.findViewsByCriteria(expectedParams))
+        .thenReturn(new SliceImpl<>(List.of(), expectedParams.getPageable(), false));
+    when(jobExecutionRepositoryMock.countByCriteria(expectedParams)).thenReturn(3L);
+
+    JobExecutionDtoList result =
+        testSubject.getJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.of("google"),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(
+                    new PageRequestDto(5, 10, PageRequestDto.SortDirection.DESC, Set.of("url"))),
+                Optional.of(cursor.encode()),
+                Optional.of(TotalMode.ESTIMATE)));
+
+    // the total ignores the cursor
+    assertThat(result.getTotalMode()).isEqualTo(TotalMode.ESTIMATE);
+    assertThat(result.getTotalElements()).isEqualTo(3L);
+
+    verify(jobExecutionRepositoryMock).findViewsByCriteria(expectedParams);
+    verify(jobExecutionRepositoryMock).countByCriteria(expectedParams);
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+  }
+
+  @Test
+  void getJobsExecutions_totalModeEstimate_estimateTotal() {
+
+    PageRequest pageRequest =
+        PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "createdDate", "id"));
+
+    JobExecutionCriteriaParams expectedParams =
+        new JobExecutionCriteriaParams().setPageable(pageRequest).setEstimateTotal(true);
+
+    when(jobExecutionRepositoryMock.findViewsByCriteria(expectedParams))
+        .thenReturn(new SliceImpl<>(List.of(), pageRequest, false));
+    when(jobExecutionRepositoryMock.countByCriteria(expectedParams)).thenReturn(1000L);
+
+    JobExecutionDtoList result =
+        testSubject.getJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(new PageRequestDto(1, 1, null, null)),
+                Optional.empty(),
+                Optional.of(TotalMode.ESTIMATE)));
+
+    assertThat(result.getTotalMode()).isEqualTo(TotalMode.ESTIMATE);
+    assertThat(result.getTotalElements()).isEqualTo(1000L);
+    assertThat(result.getTotalPages()).isEqualTo(1000);
+    assertThat(result.isHasNext()).isFalse();
+
+    verify(jobExecutionRepositoryMock).findViewsByCriteria(expectedParams);
+    verify(jobExecutionRepositoryMock).countByCriteria(expectedParams);
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+  }
+
+  @Test
+  void getJobsExecutions_totalModeNone_noCount() {
+
+    PageRequest pageRequest =
+        PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdDate", "id"));
+
+    when(jobExecutionRepositoryMock.findViewsByCriteria(
+            new JobExecutionCriteriaParams().setPageable(pageRequest)))
+        .thenReturn(
+            new SliceImpl<>(List.of(jobExecutionView(1L, Instant.now())), pageRequest, true));
+
+    JobExecutionDtoList result =
+        testSubject.getJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(new PageRequestDto(0, 1, null, null)),
+                Optional.empty(),
+                Optional.of(TotalMode.NONE)));
+
+    assertThat(result.getTotalMode()).isEqualTo(TotalMode.NONE);
+    assertThat(result.getTotalElements()).isNull();
+    assertThat(result.getTotalPages()).isNull();
+    assertThat(result.isHasNext()).isTrue();
+    assertThat(result.getNextCursor()).isNotNull();
 
     verify(jobExecutionRepositoryMock)
-        .findByCriteria(new JobExecutionCriteriaParams().setPageable(pageRequest));
+        .findViewsByCriteria(new JobExecutionCriteriaParams().setPageable(pageRequest));
+    verifyNoMoreInteractions(jobExecutionRepositoryMock);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not-a-cursor", "MjAyNC0wOS0wN1QxMDo0NDoxMFp8N3xVUA"})
+  void getJobsExecutions_invalidCursor_throwSEInvalidRequestParams(final String cursor) {
+
+    JobExecutionFilterDto jobExecutionFilterDto =
+        new JobExecutionFilterDto(
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.of(cursor),
+            Optional.empty());
+
+    assertThatThrownBy(() -> testSubject.getJobsExecutions(jobExecutionFilterDto))
+        .isInstanceOfSatisfying(
+            StandardException.class,
+            e -> {
+              assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+              assertThat(e.getProblemDetail().getCode()).isEqualTo("invalid_request_params");
+              assertThat(e.getProblemDetail().getInvalidParams()).hasSize(1);
+              assertThat(e.getProblemDetail().getInvalidParams().getFirst().getName())
+                  .isEqualTo("cursor");
+            });
+
+    verifyNoInteractions(jobExecutionRepositoryMock);
+  }
+
+  @Test
+  void exportJobsExecutions_csv_streamOldestFirst() throws IOException {
+
+    JobExecutionCriteriaParams expectedParams =
+        new JobExecutionCriteriaParams()
+            .setJobName(Optional.of("google"))
+            .setPageable(Pageable.unpaged(Sort.by(Sort.Direction.ASC, "createdDate", "id")));
+
+    JobExecutionView first = jobExecutionView(1L, Instant.parse("2024-09-07T10:44:10Z"));
+    JobExecutionView second = jobExecutionView(2L, Instant.parse("2024-09-07T10:45:10Z"));
+
+    when(jobExecutionRepositoryMock.forEachViewByCriteria(eq(expectedParams), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<JobExecutionView> consumer = invocation.getArgument(1);
+              consumer.accept(first);
+              consumer.accept(second);
+              return 2L;
+            });
+
+    JobExecutionExport export =
+        testSubject.exportJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.of("google"),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty()),
+            ExportFormat.CSV);
+
+    // nothing is read until the export is written
+    verifyNoInteractions(jobExecutionRepositoryMock);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    assertThat(export.writeTo(outputStream)).isEqualTo(2L);
+
+    assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\r\n"))
+        .hasSize(3)
+        .startsWith(
+            "externalId,jobName,url,status,errorMessage,responseTime,responseSize,responseHash,"
+                + "dnsNanos,connectNanos,tlsNanos,ttfbNanos,downloadNanos,totalNanos,createdDate")
+        .endsWith(
+            second.externalId()
+                + ",google,https://www.google.com,SUCCEEDED,,80,,,,,,,,,2024-09-07T10:45:10Z");
+
+    verify(jobExecutionRepositoryMock).forEachViewByCriteria(eq(expectedParams), any());
     verifyNoMoreInteractions(jobExecutionRepositoryMock);
   }
 
+  @Test
+  void exportJobsExecutions_invalidDateRange_throwSEInvalidDateRange() {
+
+    JobExecutionFilterDto jobExecutionFilterDto =
+        new JobExecutionFilterDto(
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.of(Instant.parse("2024-09-07T11:44:10Z")),
+            Optional.of(Instant.parse("2024-09-07T10:44:10Z")),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty());
+
+    assertThatThrownBy(
+            () -> testSubject.exportJobsExecutions(jobExecutionFilterDto, ExportFormat.NDJSON))
+        .isInstanceOfSatisfying(
+            StandardException.class,
+            e -> assertThat(e.getProblemDetail().getCode()).isEqualTo("invalid_date_range"));
+
+    verifyNoInteractions(jobExecutionRepositoryMock);
+  }
+
+  @Test
+  void streamJobsExecutions_filters_subscribeToFeed() {
+
+    Flux<JobExecutionDto> feed = Flux.empty();
+    when(jobExecutionFeedMock.subscribe(
+            Optional.of("google"), Optional.of(JobExecutionStatus.FAILED)))
+        .thenReturn(feed);
+
+    Flux<JobExecutionDto> result =
+        testSubject.streamJobsExecutions(
+            new JobExecutionFilterDto(
+                Optional.of("google"),
+                Optional.empty(),
+                Optional.of(JobExecutionStatus.FAILED),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty()));
+
+    assertThat(result).isSameAs(feed);
+
+    verify(jobExecutionFeedMock)
+        .subscribe(Optional.of("google"), Optional.of(JobExecutionStatus.FAILED));
+    verifyNoMoreInteractions(jobExecutionFeedMock);
+    verifyNoInteractions(jobExecutionRepositoryMock);
+  }
+
   private static Stream<Arguments> getJobsExecutionsInput() {
 
-    Sort defaultSort =
-        Sort.sort(JobExecutionEntity.class).by(JobExecutionEntity::getCreatedDate).descending();
+    Sort defaultSort = Sort.by(Sort.Direction.DESC, "createdDate", "id");
 
     return Stream.of(
         // all fields null in pagination (apply default pagination)
@@ -191,7 +575,9 @@ class JobExecutionServiceImplTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
-                Optional.of(new PageRequestDto(null, null, null, null))),
+                Optional.of(new PageRequestDto(null, null, null, null)),
+                Optional.empty(),
+                Optional.empty()),
             PageRequest.of(0, 100, defaultSort)),
         // only sort direction null (apply default sort)
         Arguments.of(
@@ -201,7 +587,9 @@ class JobExecutionServiceImplTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
-                Optional.of(new PageRequestDto(0, 10, null, Set.of("createdDate")))),
+                Optional.of(new PageRequestDto(0, 10, null, Set.of("createdDate"))),
+                Optional.empty(),
+                Optional.empty()),
             PageRequest.of(0, 10, defaultSort)),
         // apply sort direction and sort property
         Arguments.of(
@@ -213,7 +601,9 @@ class JobExecutionServiceImplTest {
                 Optional.empty(),
                 Optional.of(
                     new PageRequestDto(
-                        0, 10, PageRequestDto.SortDirection.DESC, Set.of("createdDate")))),
+                        0, 10, PageRequestDto.SortDirection.DESC, Set.of("createdDate"))),
+                Optional.empty(),
+                Optional.empty()),
             PageRequest.of(0, 10, defaultSort)),
         // only sort properties null (apply default sort)
         Arguments.of(
@@ -223,7 +613,9 @@ class JobExecutionServiceImplTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
-                Optional.of(new PageRequestDto(0, 10, PageRequestDto.SortDirection.ASC, null))),
+                Optional.of(new PageRequestDto(0, 10, PageRequestDto.SortDirection.ASC, null)),
+                Optional.empty(),
+                Optional.empty()),
             PageRequest.of(0, 10, defaultSort)),
         // no page (apply default sort)
         Arguments.of(
@@ -233,7 +625,29 @@ class JobExecutionServiceImplTest {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
                 Optional.empty()),
             PageRequest.of(0, 100, defaultSort)));
   }
+
+  private static JobExecutionView jobExecutionView(Long id, Instant createdDate) {
+    return new JobExecutionView(
+        id,
+        UUID.randomUUID(),
+        "google",
+        "https://www.google.com",
+        JobExecutionStatusEntity.SUCCEEDED,
+        null,
+        80L,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        createdDate);
+  }
 }
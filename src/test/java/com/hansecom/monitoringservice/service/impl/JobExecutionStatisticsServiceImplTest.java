@@ -0,0 +1,322 @@
+package com.hansecom.monitoringservice.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hansecom.monitoringservice.exception.StandardException;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionRollup;
+import com.hansecom.monitoringservice.persistence.model.LatencySketch;
+import com.hansecom.monitoringservice.persistence.model.RollupResolutionEntity;
+import com.hansecom.monitoringservice.persistence.rollup.JobExecutionRollupCache;
+import com.hansecom.monitoringservice.persistence.rollup.JobExecutionRollupRetention;
+import com.hansecom.monitoringservice.service.dto.JobExecutionPercentilesDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionPercentilesDtoList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupDtoList;
+import com.hansecom.monitoringservice.service.dto.JobExecutionRollupFilterDto;
+import com.hansecom.monitoringservice.service.dto.RollupResolution;
+import com.hansecom.monitoringservice.service.impl.JobExecutionStatisticsServiceImpl.RollupSegment;
+import com.hansecom.monitoringservice.service.mapper.JobExecutionRollupDtoMapperImpl;
+import jakarta.validation.ConstraintViolationException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+
+@SpringBootTest(
+    classes = {
+      JobExecutionStatisticsServiceImpl.class,
+      ValidationAutoConfiguration.class,
+      JobExecutionRollupDtoMapperImpl.class
+    })
+class JobExecutionStatisticsServiceImplTest {
+
+  private static final Instant NOW = Instant.parse("2024-09-30T10:44:10Z");
+
+  @Autowired private JobExecutionStatisticsServiceImpl testSubject;
+
+  @MockBean private JobExecutionRollupCache jobExecutionRollupCacheMock;
+
+  @MockBean private JobExecutionRollupRetention jobExecutionRollupRetentionMock;
+
+  @Test
+  void getJobsExecutionsRollups_invalidInput_throwConstraintViolationException() {
+
+    assertThatThrownBy(
+            () -> testSubject.getJobsExecutionsRollups(new JobExecutionRollupFilterDto()))
+        .isInstanceOf(ConstraintViolationException.class)
+        .hasMessageContaining("jobExecutionRollupFilterDto.jobName: must not be null")
+        .hasMessageContaining("jobExecutionRollupFilterDto.from: must not be null")
+        .hasMessageContaining("jobExecutionRollupFilterDto.to: must not be null");
+  }
+
+  @Test
+  void getJobsExecutionsRollups_invalidDateRange_throwSEInvalidDateRange() {
+
+    JobExecutionRollupFilterDto filter =
+        new JobExecutionRollupFilterDto(Optional.empty(), NOW, NOW);
+
+    assertThatThrownBy(() -> testSubject.getJobsExecutionsRollups(filter))
+        .isInstanceOf(StandardException.class)
+        .extracting("httpStatus")
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+    verifyNoInteractions(jobExecutionRollupCacheMock);
+  }
+
+  @Test
+  void getJobsExecutionsRollups_dayAlignedRange_readDayRollups() {
+
+    Instant from = Instant.parse("2024-09-01T00:00:00Z");
+    Instant to = Instant.parse("2024-09-30T00:00:00Z");
+    when(jobExecutionRollupRetentionMock.oldestKept(any(), any())).thenReturn(Instant.MIN);
+
+    JobExecutionRollup rollup =
+        JobExecutionRollup.empty(RollupResolutionEntity.DAY, "google", from);
+    rollup.merge(
+        new JobExecutionRollup(
+            RollupResolutionEntity.DAY,
+            "google",
+            from,
+            4,
+            1,
+            80L,
+            120L,
+            300,
+            3,
+            new LatencySketch()));
+    when(jobExecutionRollupCacheMock.findRollups(
+            RollupResolutionEntity.DAY, Optional.of("google"), from, to))
+        .thenReturn(List.of(rollup));
+
+    JobExecutionRollupDtoList result =
+        testSubject.getJobsExecutionsRollups(
+            new JobExecutionRollupFilterDto(Optional.of("google"), from, to));
+
+    assertThat(result.getResolution()).isEqualTo(RollupResolution.DAY);
+    assertThat(result.getRollupList())
+        .containsExactly(
+            JobExecutionRollupDto.builder()
+                .jobName("google")
+                .bucketStart(from)
+                .executions(4)
+                .failures(1)
+                .minResponseTime(80L)
+                .maxResponseTime(120L)
+                .meanResponseTime(100.0)
+                .build());
+  }
+
+  @Test
+  void getJobsExecutionsRollups_unalignedRange_roundFromToFinestBucket() {
+
+    Instant from = Instant.parse("2024-09-30T09:30:45Z");
+    when(jobExecutionRollupRetentionMock.oldestKept(any(), any())).thenReturn(Instant.MIN);
+    when(jobExecutionRollupCacheMock.findRollups(
+            eq(RollupResolutionEntity.MINUTE),
+            eq(Optional.empty()),
+            eq(Instant.parse("2024-09-30T09:30:00Z")),
+            any()))
+        .thenReturn(List.of());
+
+    JobExecutionRollupDtoList result =
+        testSubject.getJobsExecutionsRollups(
+            new JobExecutionRollupFilterDto(Optional.empty(), from, Instant.now()));
+
+    assertThat(result.getResolution()).isEqualTo(RollupResolution.MINUTE);
+    assertThat(result.getRollupList()).isEmpty();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "2024-09-01T00:00:00Z, 2024-09-30T00:00:00Z, DAY",
+    "2024-09-29T08:00:00Z, 2024-09-30T00:00:00Z, HOUR",
+    "2024-09-29T00:00:00Z, 2024-09-30T10:00:00Z, HOUR",
+    "2024-09-30T09:15:00Z, 2024-09-30T10:00:00Z, MINUTE",
+    "2024-09-30T09:15:30Z, 2024-09-30T10:00:00Z, MINUTE",
+    // minute rollups expired
+    "2024-09-01T09:15:00Z, 2024-09-30T10:00:00Z, HOUR",
+    // hour rollups expired
+    "2024-05-01T09:15:00Z, 2024-09-30T10:00:00Z, DAY"
+  })
+  void resolution_timeRange_coarsestAbleToAnswer(
+      Instant from, Instant to, RollupResolutionEntity expected) {
+
+    when(jobExecutionRollupRetentionMock.oldestKept(RollupResolutionEntity.MINUTE, NOW))
+        .thenReturn(Instant.parse("2024-09-23T00:00:00Z"));
+    when(jobExecutionRollupRetentionMock.oldestKept(RollupResolutionEntity.HOUR, NOW))
+        .thenReturn(Instant.parse("2024-07-02T00:00:00Z"));
+    when(jobExecutionRollupRetentionMock.oldestKept(RollupResolutionEntity.DAY, NOW))
+        .thenReturn(Instant.MIN);
+
+    assertThat(testSubject.resolution(from, to, NOW)).isEqualTo(expected);
+  }
+
+  @Test
+  void getJobsExecutionsPercentiles_invalidDateRange_throwSEInvalidDateRange() {
+
+    JobExecutionRollupFilterDto filter =
+        new JobExecutionRollupFilterDto(Optional.empty(), NOW, NOW.minusSeconds(1));
+
+    assertThatThrownBy(() -> testSubject.getJobsExecutionsPercentiles(filter))
+        .isInstanceOf(StandardException.class)
+        .extracting("httpStatus")
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+    verifyNoInteractions(jobExecutionRollupCacheMock);
+  }
+
+  @Test
+  void getJobsExecutionsPercentiles_rollups_mergedPerJob() {
+
+    Instant from = Instant.parse("2024-09-01T00:00:00Z");
+    Instant to = Instant.parse("2024-09-30T00:00:00Z");
+    when(jobExecutionRollupRetentionMock.oldestKept(any(), any())).thenReturn(Instant.MIN);
+
+    JobExecutionRollup bing = rollup("bing", from, LongStream.rangeClosed(1, 100));
+    JobExecutionRollup google = rollup("google", from, LongStream.rangeClosed(1, 50));
+    JobExecutionRollup googleNextDay =
+        rollup("google", from.plusSeconds(86_400), LongStream.rangeClosed(51, 100));
+    JobExecutionRollup yahoo = JobExecutionRollup.empty(RollupResolutionEntity.DAY, "yahoo", from);
+    yahoo.merge(
+        new JobExecutionRollup(
+            RollupResolutionEntity.DAY,
+            "yahoo",
+            from,
+            2,
+            2,
+            null,
+            null,
+            0,
+            0,
+            new LatencySketch()));
+    when(jobExecutionRollupCacheMock.findRollups(
+            RollupResolutionEntity.DAY, Optional.empty(), from, to))
+        .thenReturn(List.of(bing, google, googleNextDay, yahoo));
+
+    JobExecutionPercentilesDtoList result =
+        testSubject.getJobsExecutionsPercentiles(
+            new JobExecutionRollupFilterDto(Optional.empty(), from, to));
+
+    assertThat(result.getPercentileList())
+        .extracting(JobExecutionPercentilesDto::getJobName)
+        .containsExactly("bing", "google", "yahoo");
+
+    JobExecutionPercentilesDto googlePercentiles = result.getPercentileList().get(1);
+    assertThat(googlePercentiles.getExecutions()).isEqualTo(100);
+    assertThat(googlePercentiles.getMinResponseTime()).isEqualTo(1);
+    assertThat(googlePercentiles.getMaxResponseTime()).isEqualTo(100);
+    assertThat(googlePercentiles.getMeanResponseTime()).isEqualTo(50.5);
+    assertThat(googlePercentiles.getP50()).isCloseTo(50.0, within(1.0));
+    assertThat(googlePercentiles.getP90()).isCloseTo(90.0, within(1.0));
+    assertThat(googlePercentiles.getP99()).isCloseTo(99.0, within(1.0));
+    assertThat(result.getPercentileList().get(0))
+        .usingRecursiveComparison()
+        .isEqualTo(googlePercentiles.toBuilder().jobName("bing").build());
+
+    assertThat(result.getPercentileList().get(2))
+        .isEqualTo(
+            JobExecutionPercentilesDto.builder()
+                .jobName("yahoo")
+                .executions(2)
+                .failures(2)
+                .build());
+  }
+
+  @Test
+  void segments_unalignedRange_dayBucketsInTheMiddle() {
+
+    mockRetention();
+
+    assertThat(
+            testSubject.segments(
+                Instant.parse("2024-09-28T09:15:30Z"), Instant.parse("2024-09-30T10:44:10Z"), NOW))
+        .containsExactly(
+            segment(RollupResolutionEntity.MINUTE, "2024-09-28T09:15:00Z", "2024-09-28T10:00:00Z"),
+            segment(RollupResolutionEntity.HOUR, "2024-09-28T10:00:00Z", "2024-09-29T00:00:00Z"),
+            segment(RollupResolutionEntity.DAY, "2024-09-29T00:00:00Z", "2024-09-30T00:00:00Z"),
+            segment(RollupResolutionEntity.HOUR, "2024-09-30T00:00:00Z", "2024-09-30T10:00:00Z"),
+            segment(RollupResolutionEntity.MINUTE, "2024-09-30T10:00:00Z", "2024-09-30T10:44:10Z"));
+  }
+
+  @Test
+  void segments_withinOneHour_minuteBuckets() {
+
+    mockRetention();
+
+    assertThat(
+            testSubject.segments(
+                Instant.parse("2024-09-30T09:15:00Z"), Instant.parse("2024-09-30T09:45:00Z"), NOW))
+        .containsExactly(
+            segment(RollupResolutionEntity.MINUTE, "2024-09-30T09:15:00Z", "2024-09-30T09:45:00Z"));
+  }
+
+  @Test
+  void segments_minuteRollupsExpired_roundToHour() {
+
+    mockRetention();
+
+    assertThat(
+            testSubject.segments(
+                Instant.parse("2024-09-01T09:15:30Z"), Instant.parse("2024-09-03T00:00:00Z"), NOW))
+        .containsExactly(
+            segment(RollupResolutionEntity.HOUR, "2024-09-01T09:00:00Z", "2024-09-01T10:00:00Z"),
+            segment(RollupResolutionEntity.HOUR, "2024-09-01T10:00:00Z", "2024-09-02T00:00:00Z"),
+            segment(RollupResolutionEntity.DAY, "2024-09-02T00:00:00Z", "2024-09-03T00:00:00Z"));
+  }
+
+  @Test
+  void segments_hourRollupsExpired_roundToDay() {
+
+    mockRetention();
+
+    assertThat(
+            testSubject.segments(
+                Instant.parse("2024-05-01T09:15:30Z"), Instant.parse("2024-05-01T20:00:00Z"), NOW))
+        .containsExactly(
+            segment(RollupResolutionEntity.DAY, "2024-05-01T00:00:00Z", "2024-05-01T20:00:00Z"));
+  }
+
+  private void mockRetention() {
+    when(jobExecutionRollupRetentionMock.oldestKept(RollupResolutionEntity.MINUTE, NOW))
+        .thenReturn(Instant.parse("2024-09-23T00:00:00Z"));
+    when(jobExecutionRollupRetentionMock.oldestKept(RollupResolutionEntity.HOUR, NOW))
+        .thenReturn(Instant.parse("2024-07-02T00:00:00Z"));
+    when(jobExecutionRollupRetentionMock.oldestKept(RollupResolutionEntity.DAY, NOW))
+        .thenReturn(Instant.MIN);
+  }
+
+  private static RollupSegment segment(RollupResolutionEntity resolution, String from, String to) {
+    return new RollupSegment(resolution, Instant.parse(from), Instant.parse(to));
+  }
+
+  private static JobExecutionRollup rollup(
+      String jobName, Instant bucketStart, LongStream responseTimes) {
+
+    LatencySketch latencySketch = new LatencySketch();
+    long[] values = responseTimes.toArray();
+    LongStream.of(values).forEach(latencySketch::add);
+    return new JobExecutionRollup(
+        RollupResolutionEntity.DAY,
+        jobName,
+        bucketStart,
+        values.length,
+        0,
+        LongStream.of(values).min().orElseThrow(),
+        LongStream.of(values).max().orElseThrow(),
+        LongStream.of(values).sum(),
+        values.length,
+        latencySketch);
+  }
+}
@@ -8,11 +8,13 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.hansecom.monitoringservice.configuration.ModelMapperConfiguration;
 import com.hansecom.monitoringservice.exception.StandardException;
 import com.hansecom.monitoringservice.job.UrlMonitorJob;
 import com.hansecom.monitoringservice.service.dto.JobDto;
+import com.hansecom.monitoringservice.service.dto.JobStatusDto;
+import com.hansecom.monitoringservice.service.status.JobStatusRegistry;
 import jakarta.validation.ConstraintViolationException;
+import java.util.List;
 import java.util.Set;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
@@ -25,18 +27,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 
-@SpringBootTest(
-    classes = {
-      JobServiceImpl.class,
-      ValidationAutoConfiguration.class,
-      ModelMapperConfiguration.class
-    })
+@SpringBootTest(classes = {JobServiceImpl.class, ValidationAutoConfiguration.class})
 class JobServiceImplTest {
 
   @Autowired private JobServiceImpl testSubject;
 
   @MockBean private Scheduler schedulerMock;
 
+  @MockBean private JobStatusRegistry jobStatusRegistryMock;
+
   @Test
   void createJob_invalidInput_throwConstraintViolationException() {
 
@@ -188,4 +187,15 @@ class JobServiceImplTest {
 
     verifyNoMoreInteractions(schedulerMock);
   }
+
+  @Test
+  void getJobsStatus_registrySnapshot_succeed() {
+
+    JobStatusDto jobStatusDto = JobStatusDto.builder().jobName("google").build();
+    when(jobStatusRegistryMock.snapshot()).thenReturn(List.of(jobStatusDto));
+
+    assertThat(testSubject.getJobsStatus().getStatusList()).containsExactly(jobStatusDto);
+
+    verifyNoInteractions(schedulerMock);
+  }
 }
@@ -0,0 +1,125 @@
+package com.hansecom.monitoringservice.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionCriteriaParams;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
+import com.hansecom.monitoringservice.service.dto.JobExecutionDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionFilterDto;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import com.hansecom.monitoringservice.service.dto.PageRequestDto;
+import com.hansecom.monitoringservice.service.dto.TotalMode;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = JobExecutionDtoMapperImpl.class)
+class JobExecutionDtoMapperTest {
+
+  @Autowired private JobExecutionDtoMapper testSubject;
+
+  @Test
+  void toJobExecutionCriteriaParams_allFilters_succeed() {
+
+    JobExecutionFilterDto jobExecutionFilterDto =
+        new JobExecutionFilterDto(
+            Optional.of("google"),
+            Optional.of("https://www.google.com"),
+            Optional.of(JobExecutionStatus.FAILED),
+            Optional.of(Instant.parse("2023-01-01T12:00:00Z")),
+            Optional.of(Instant.parse("2023-01-02T12:00:00Z")),
+            Optional.of(new PageRequestDto(1, 10, PageRequestDto.SortDirection.ASC, null)),
+            Optional.of("cursor"),
+            Optional.of(TotalMode.NONE));
+
+    JobExecutionCriteriaParams result =
+        testSubject.toJobExecutionCriteriaParams(jobExecutionFilterDto);
+
+    // pagination is left to the service
+    assertThat(result)
+        .isEqualTo(
+            new JobExecutionCriteriaParams()
+                .setJobName(Optional.of("google"))
+                .setUrl(Optional.of("https://www.google.com"))
+                .setStatus(Optional.of(JobExecutionStatusEntity.FAILED))
+                .setFrom(Optional.of(Instant.parse("2023-01-01T12:00:00Z")))
+                .setTo(Optional.of(Instant.parse("2023-01-02T12:00:00Z"))));
+  }
+
+  @Test
+  void toJobExecutionCriteriaParams_noFilters_succeed() {
+
+    JobExecutionFilterDto jobExecutionFilterDto =
+        new JobExecutionFilterDto(
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty());
+
+    assertThat(testSubject.toJobExecutionCriteriaParams(jobExecutionFilterDto))
+        .isEqualTo(new JobExecutionCriteriaParams());
+  }
+
+  @Test
+  void toJobExecutionDto_view_succeed() {
+
+    JobExecutionView jobExecutionView =
+        new JobExecutionView(
+            1L,
+            UUID.randomUUID(),
+            "google",
+            "https://www.google.com",
+            JobExecutionStatusEntity.SUCCEEDED,
+            null,
+            80L,
+            1024L,
+            "hash",
+            1L,
+            2L,
+            3L,
+            4L,
+            5L,
+            15L,
+            Instant.now());
+
+    JobExecutionDto result = testSubject.toJobExecutionDto(jobExecutionView);
+
+    assertThat(result.getStatus()).isEqualTo(JobExecutionStatus.SUCCEEDED);
+    assertThat(result)
+        .usingRecursiveComparison()
+        .ignoringFields("status")
+        .isEqualTo(jobExecutionView);
+  }
+
+  @Test
+  void toJobExecutionDto_entity_succeed() {
+
+    JobExecutionEntity jobExecutionEntity =
+        JobExecutionEntity.builder()
+            .externalId(UUID.randomUUID())
+            .jobName("google")
+            .url("https://www.google.com")
+            .status(JobExecutionStatusEntity.FAILED)
+            .errorMessage("404 not found")
+            .responseTime(80L)
+            .totalNanos(80_000_000L)
+            .build();
+
+    JobExecutionDto result = testSubject.toJobExecutionDto(jobExecutionEntity);
+
+    assertThat(result.getStatus()).isEqualTo(JobExecutionStatus.FAILED);
+    assertThat(result)
+        .usingRecursiveComparison()
+        .ignoringFields("status")
+        .isEqualTo(jobExecutionEntity);
+  }
+}
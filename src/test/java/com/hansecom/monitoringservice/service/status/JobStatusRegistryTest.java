@@ -0,0 +1,220 @@
+package com.hansecom.monitoringservice.service.status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hansecom.monitoringservice.persistence.model.JobExecutionEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionStatusEntity;
+import com.hansecom.monitoringservice.persistence.model.JobExecutionView;
+import com.hansecom.monitoringservice.persistence.repository.JobExecutionRepository;
+import com.hansecom.monitoringservice.service.dto.JobExecutionStatus;
+import com.hansecom.monitoringservice.service.dto.JobStatusDto;
+import com.hansecom.monitoringservice.service.dto.JobStatusResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.quartz.JobKey;
+import org.quartz.ListenerManager;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SchedulerListener;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.dao.QueryTimeoutException;
+
+class JobStatusRegistryTest {
+
+  private static final Instant NOW = Instant.parse("2024-09-30T10:00:00Z");
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final JobExecutionRepository jobExecutionRepositoryMock =
+      mock(JobExecutionRepository.class);
+
+  private final Scheduler schedulerMock = mock(Scheduler.class);
+
+  private final ListenerManager listenerManagerMock = mock(ListenerManager.class);
+
+  private final JobStatusRegistry testSubject =
+      new JobStatusRegistry(jobExecutionRepositoryMock, schedulerMock, meterRegistry, 3, 2);
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    when(schedulerMock.getListenerManager()).thenReturn(listenerManagerMock);
+    when(schedulerMock.getJobKeys(GroupMatcher.anyJobGroup()))
+        .thenReturn(Set.of(JobKey.jobKey("google"), JobKey.jobKey("bing")));
+  }
+
+  @Test
+  void record_moreThanCapacity_keepLatestNewestFirst() {
+
+    testSubject.record(jobExecution("google", 0, JobExecutionStatusEntity.SUCCEEDED, 80L));
+    testSubject.record(jobExecution("google", 10, JobExecutionStatusEntity.FAILED, null));
+    testSubject.record(jobExecution("google", 20, JobExecutionStatusEntity.SUCCEEDED, 82L));
+    testSubject.record(jobExecution("google", 30, JobExecutionStatusEntity.FAILED, 30_000L));
+    testSubject.record(jobExecution("bing", 40, JobExecutionStatusEntity.SUCCEEDED, 90L));
+
+    List<JobStatusDto> result = testSubject.snapshot();
+
+    assertThat(result).extracting(JobStatusDto::getJobName).containsExactly("bing", "google");
+    assertThat(result.get(1))
+        .isEqualTo(
+            JobStatusDto.builder()
+                .jobName("google")
+                .lastStatus(JobExecutionStatus.FAILED)
+                .lastExecutionDate(NOW.plusSeconds(30))
+                .recentFailures(2)
+                .recentResults(
+                    List.of(
+                        result(30, JobExecutionStatus.FAILED, 30_000L),
+                        result(20, JobExecutionStatus.SUCCEEDED, 82L),
+                        result(10, JobExecutionStatus.FAILED, null)))
+                .build());
+  }
+
+  @Test
+  void record_maxJobsReached_notTracked() {
+
+    testSubject.record(jobExecution("google", 0, JobExecutionStatusEntity.SUCCEEDED, 80L));
+    testSubject.record(jobExecution("bing", 0, JobExecutionStatusEntity.SUCCEEDED, 80L));
+    testSubject.record(jobExecution("yahoo", 0, JobExecutionStatusEntity.SUCCEEDED, 80L));
+    testSubject.record(jobExecution("google", 10, JobExecutionStatusEntity.SUCCEEDED, 80L));
+
+    assertThat(testSubject.snapshot())
+        .extracting(JobStatusDto::getJobName, status -> status.getRecentResults().size())
+        .containsExactly(tuple("bing", 1), tuple("google", 2));
+    assertThat(meterRegistry.get("monitoring.job.status.untracked").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("monitoring.job.status.jobs").gauge().value()).isEqualTo(2);
+    assertThat(meterRegistry.get("monitoring.job.status.memory").gauge().value())
+        .isEqualTo(2.0 * JobStatusRing.memoryBytes(3));
+  }
+
+  @Test
+  void rebuild_latestFromDatabase_restoredBehindRecorded() {
+
+    testSubject.record(jobExecution("google", 30, JobExecutionStatusEntity.SUCCEEDED, 82L));
+    when(jobExecutionRepositoryMock.findLatestPerJob(3))
+        .thenReturn(
+            List.of(
+                view("bing", 5, JobExecutionStatusEntity.FAILED, null),
+                // already recorded, saved after it was recorded
+                view("google", 31, JobExecutionStatusEntity.SUCCEEDED, 82L),
+                view("google", 20, JobExecutionStatusEntity.FAILED, 30_000L),
+                view("google", 10, JobExecutionStatusEntity.SUCCEEDED, 80L),
+                // no longer in the scheduler
+                view("yahoo", 15, JobExecutionStatusEntity.SUCCEEDED, 80L)));
+
+    testSubject.rebuild();
+
+    List<JobStatusDto> result = testSubject.snapshot();
+
+    assertThat(result).extracting(JobStatusDto::getJobName).containsExactly("bing", "google");
+    assertThat(result.get(0).getRecentResults())
+        .containsExactly(result(5, JobExecutionStatus.FAILED, null));
+    assertThat(result.get(1).getRecentResults())
+        .containsExactly(
+            result(30, JobExecutionStatus.SUCCEEDED, 82L),
+            result(20, JobExecutionStatus.FAILED, 30_000L),
+            result(10, JobExecutionStatus.SUCCEEDED, 80L));
+    assertThat(result.get(1).getRecentFailures()).isOne();
+  }
+
+  @Test
+  void rebuild_databaseError_keepRecorded() {
+
+    testSubject.record(jobExecution("google", 30, JobExecutionStatusEntity.SUCCEEDED, 82L));
+    when(jobExecutionRepositoryMock.findLatestPerJob(3))
+        .thenThrow(new QueryTimeoutException("unit test"));
+
+    testSubject.rebuild();
+
+    assertThat(testSubject.snapshot())
+        .singleElement()
+        .extracting(JobStatusDto::getRecentResults)
+        .isEqualTo(List.of(result(30, JobExecutionStatus.SUCCEEDED, 82L)));
+  }
+
+  @Test
+  @SneakyThrows
+  void rebuild_schedulerError_keepRecorded() {
+
+    testSubject.record(jobExecution("google", 30, JobExecutionStatusEntity.SUCCEEDED, 82L));
+    when(schedulerMock.getJobKeys(GroupMatcher.anyJobGroup()))
+        .thenThrow(new SchedulerException("unit test"));
+
+    testSubject.rebuild();
+
+    assertThat(testSubject.snapshot())
+        .singleElement()
+        .extracting(JobStatusDto::getJobName)
+        .isEqualTo("google");
+  }
+
+  @Test
+  @SneakyThrows
+  void rebuild_jobDeleted_removeStatus() {
+
+    when(jobExecutionRepositoryMock.findLatestPerJob(3)).thenReturn(List.of());
+    testSubject.rebuild();
+    testSubject.record(jobExecution("google", 0, JobExecutionStatusEntity.SUCCEEDED, 80L));
+    testSubject.record(jobExecution("bing", 0, JobExecutionStatusEntity.SUCCEEDED, 80L));
+
+    ArgumentCaptor<SchedulerListener> listener = ArgumentCaptor.forClass(SchedulerListener.class);
+    verify(listenerManagerMock).addSchedulerListener(listener.capture());
+    listener.getValue().jobDeleted(JobKey.jobKey("google"));
+
+    assertThat(testSubject.snapshot()).extracting(JobStatusDto::getJobName).containsExactly("bing");
+    assertThat(meterRegistry.get("monitoring.job.status.jobs").gauge().value()).isOne();
+  }
+
+  @Test
+  void snapshot_noJobs_empty() {
+
+    assertThat(testSubject.snapshot()).isEmpty();
+    assertThat(meterRegistry.get("monitoring.job.status.memory").gauge().value()).isZero();
+  }
+
+  private static JobExecutionEntity jobExecution(
+      String jobName, int seconds, JobExecutionStatusEntity status, Long responseTime) {
+    return JobExecutionEntity.builder()
+        .jobName(jobName)
+        .status(status)
+        .responseTime(responseTime)
+        .createdDate(NOW.plusSeconds(seconds))
+        .build();
+  }
+
+  private static JobExecutionView view(
+      String jobName, int seconds, JobExecutionStatusEntity status, Long responseTime) {
+    return new JobExecutionView(
+        null,
+        null,
+        jobName,
+        null,
+        status,
+        null,
+        responseTime,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        NOW.plusSeconds(seconds));
+  }
+
+  private static JobStatusResultDto result(
+      int seconds, JobExecutionStatus status, Long responseTime) {
+    return new JobStatusResultDto(NOW.plusSeconds(seconds), status, responseTime);
+  }
+}
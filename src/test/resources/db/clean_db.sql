@@ -1,2 +1,4 @@
 delete
-from job_execution;
\ No newline at end of file
+from job_execution;
+delete
+from job_execution_rollup;